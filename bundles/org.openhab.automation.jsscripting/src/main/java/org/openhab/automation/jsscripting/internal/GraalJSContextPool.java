@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.automation.jsscripting.internal.threading.MonitoredLock;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
+
+/**
+ * Keeps a configurable number of pre-created GraalJS contexts, so that new {@link OpenhabGraalJSScriptEngine}s don't
+ * have to wait for the context to be created, the JavaScript language to be initialized and the global script to be
+ * evaluated. The pool is refilled on a background thread.
+ *
+ * The global script only depends on the {@link JSRuntimeFeatures}, which only depend on the engine's lock, so the
+ * pool creates both with the context. The openhab-js injection depends on the script extensions and the engine
+ * identifier, which are only known on first use of the engine, so it is still evaluated then.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSContextPool implements AutoCloseable {
+
+    /**
+     * A context of the pool
+     *
+     * @param delegate the GraalJS script engine owning the context
+     * @param scriptDependencyListener holds the listener for script dependencies of the context's file system
+     * @param lock the lock of the engine
+     * @param jsRuntimeFeatures the features injected into the context
+     * @param pooled whether the context was pre-created, i.e. the runtime features are injected and the global script
+     *            is evaluated
+     */
+    public record PooledContext(GraalJSScriptEngine delegate,
+            AtomicReference<@Nullable Consumer<String>> scriptDependencyListener, MonitoredLock lock,
+            JSRuntimeFeatures jsRuntimeFeatures, boolean pooled) {
+
+        void close() {
+            jsRuntimeFeatures.close();
+            delegate.close();
+        }
+    }
+
+    /**
+     * Creates the contexts of the pool
+     */
+    @FunctionalInterface
+    interface ContextFactory {
+        /**
+         * @param pooled whether the context is pre-created for the pool
+         * @return the context
+         */
+        PooledContext create(boolean pooled);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(GraalJSContextPool.class);
+
+    private final GraalJSScriptEngineConfiguration configuration;
+    private final ContextFactory contextFactory;
+    private final Queue<PooledContext> contexts = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor = Executors
+            .newSingleThreadExecutor(new NamedThreadFactory("jsscripting-context-pool"));
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private volatile boolean closed = false;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong preCreated = new AtomicLong();
+    private final AtomicLong preCreationNanos = new AtomicLong();
+    private final AtomicLong pooledInitializations = new AtomicLong();
+    private final AtomicLong pooledInitializationNanos = new AtomicLong();
+    private final AtomicLong newInitializations = new AtomicLong();
+    private final AtomicLong newInitializationNanos = new AtomicLong();
+
+    /**
+     * @param configuration the add-on configuration, providing the pool size
+     * @param libraryPath the path to look for CommonJS modules
+     * @param jsScriptServiceUtil provides the services used by the runtime features
+     */
+    public GraalJSContextPool(GraalJSScriptEngineConfiguration configuration, Path libraryPath,
+            JSScriptServiceUtil jsScriptServiceUtil) {
+        this(configuration, pooled -> createContext(configuration, libraryPath, jsScriptServiceUtil, pooled));
+    }
+
+    GraalJSContextPool(GraalJSScriptEngineConfiguration configuration, ContextFactory contextFactory) {
+        this.configuration = configuration;
+        this.contextFactory = contextFactory;
+    }
+
+    /**
+     * Takes a pre-created context from the pool or creates a new one, if the pool is empty.
+     *
+     * @return the context
+     */
+    public PooledContext take() {
+        PooledContext context = contexts.poll();
+        if (context != null) {
+            hits.incrementAndGet();
+        } else {
+            if (configuration.getContextPoolSize() > 0) {
+                misses.incrementAndGet();
+            }
+            context = contextFactory.create(false);
+        }
+        refill();
+        logger.debug("Took {} GraalJS context, {} contexts of the pool used, {} created on demand",
+                context.pooled() ? "pre-created" : "new", hits.get(), misses.get());
+        return context;
+    }
+
+    /**
+     * Fills the pool up to the configured size in the background, or shrinks it if the size was reduced.
+     */
+    public void refill() {
+        while (contexts.size() > configuration.getContextPoolSize()) {
+            PooledContext context = contexts.poll();
+            if (context != null) {
+                context.close();
+            }
+        }
+        if (closed || contexts.size() >= configuration.getContextPoolSize() || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    while (!closed && contexts.size() < configuration.getContextPoolSize()) {
+                        long start = System.nanoTime();
+                        contexts.add(contextFactory.create(true));
+                        long nanos = System.nanoTime() - start;
+                        preCreated.incrementAndGet();
+                        preCreationNanos.addAndGet(nanos);
+                        logger.debug("Pre-created GraalJS context in {} ms", TimeUnit.NANOSECONDS.toMillis(nanos));
+                    }
+                    if (closed) {
+                        closeContexts();
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to pre-create GraalJS context: {}", e.getMessage());
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+        }
+    }
+
+    /**
+     * Records the time an engine needed to take its context and to initialize on first use.
+     *
+     * @param pooled whether the engine got a pre-created context
+     * @param nanos the time taken
+     */
+    public void recordInitialization(boolean pooled, long nanos) {
+        if (pooled) {
+            pooledInitializations.incrementAndGet();
+            pooledInitializationNanos.addAndGet(nanos);
+        } else {
+            newInitializations.incrementAndGet();
+            newInitializationNanos.addAndGet(nanos);
+        }
+    }
+
+    static PooledContext createContext(GraalJSScriptEngineConfiguration configuration, Path libraryPath,
+            JSScriptServiceUtil jsScriptServiceUtil, boolean pooled) {
+        AtomicReference<@Nullable Consumer<String>> scriptDependencyListener = new AtomicReference<>();
+        GraalJSScriptEngine delegate = OpenhabGraalJSScriptEngine.createDelegate(configuration, libraryPath,
+                scriptDependencyListener);
+        MonitoredLock lock = new MonitoredLock(configuration);
+        JSRuntimeFeatures jsRuntimeFeatures = jsScriptServiceUtil.getJSRuntimeFeatures(lock);
+        if (pooled) {
+            // create the context, initialize the language and evaluate the global script now instead of on first use
+            OpenhabGraalJSScriptEngine.initializeGlobals(delegate, jsRuntimeFeatures);
+        }
+        return new PooledContext(delegate, scriptDependencyListener, lock, jsRuntimeFeatures, pooled);
+    }
+
+    /**
+     * Returns the number of contexts currently available in the pool
+     */
+    public int getAvailable() {
+        return contexts.size();
+    }
+
+    /**
+     * Returns the number of engines which got a pre-created context
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of engines which had to create their context, because the pool was empty
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the average time to pre-create a context in the background, in nanoseconds
+     */
+    public long getAveragePreCreationNanos() {
+        long count = preCreated.get();
+        return count > 0 ? preCreationNanos.get() / count : 0;
+    }
+
+    /**
+     * Returns the average time engines with a pre-created context needed to take it and to initialize, in nanoseconds
+     */
+    public long getAveragePooledInitializationNanos() {
+        long count = pooledInitializations.get();
+        return count > 0 ? pooledInitializationNanos.get() / count : 0;
+    }
+
+    /**
+     * Returns the average time engines without a pre-created context needed to create it and to initialize, in
+     * nanoseconds
+     */
+    public long getAverageNewInitializationNanos() {
+        long count = newInitializations.get();
+        return count > 0 ? newInitializationNanos.get() / count : 0;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+        closeContexts();
+    }
+
+    private void closeContexts() {
+        PooledContext context;
+        while ((context = contexts.poll()) != null) {
+            context.close();
+        }
+    }
+}
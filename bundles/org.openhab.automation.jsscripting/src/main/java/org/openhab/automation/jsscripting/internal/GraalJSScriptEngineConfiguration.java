@@ -33,6 +33,8 @@ public class GraalJSScriptEngineConfiguration {
     private static final String CFG_SCRIPT_CONDITION_WRAPPER_ENABLED = "scriptConditionWrapperEnabled";
     private static final String CFG_EVENT_CONVERSION_ENABLED = "eventConversionEnabled";
     private static final String CFG_DEPENDENCY_TRACKING_ENABLED = "dependencyTrackingEnabled";
+    private static final String CFG_CONTEXT_POOL_SIZE = "contextPoolSize";
+    private static final String CFG_LOCK_WAIT_WARNING_THRESHOLD = "lockWaitWarningThreshold";
 
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_ONLY = 1;
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_AND_TRANSFORMATIONS = 2;
@@ -43,6 +45,8 @@ public class GraalJSScriptEngineConfiguration {
     private boolean scriptConditionWrapperEnabled = false;
     private boolean eventConversionEnabled = true;
     private boolean dependencyTrackingEnabled = true;
+    private int contextPoolSize = 0;
+    private long lockWaitWarningThreshold = 0;
 
     /**
      * Create a new configuration instance from the given parameters.
@@ -111,6 +115,10 @@ public class GraalJSScriptEngineConfiguration {
                 true);
         dependencyTrackingEnabled = ConfigParser.valueAsOrElse(config.get(CFG_DEPENDENCY_TRACKING_ENABLED),
                 Boolean.class, true);
+        contextPoolSize = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(CFG_CONTEXT_POOL_SIZE), Integer.class, 0));
+        lockWaitWarningThreshold = ConfigParser.valueAsOrElse(config.get(CFG_LOCK_WAIT_WARNING_THRESHOLD), Long.class,
+                0L);
     }
 
     /**
@@ -163,4 +171,22 @@ public class GraalJSScriptEngineConfiguration {
     public boolean isDependencyTrackingEnabled() {
         return dependencyTrackingEnabled;
     }
+
+    /**
+     * The number of pre-created GraalJS contexts to keep for new script engines, see {@link GraalJSContextPool}.
+     *
+     * @return the size of the context pool, zero if disabled
+     */
+    public int getContextPoolSize() {
+        return contextPoolSize;
+    }
+
+    /**
+     * The time a thread may wait for the lock of an engine before a warning is logged.
+     *
+     * @return the threshold in milliseconds, zero or negative if disabled
+     */
+    public long getLockWaitWarningThreshold() {
+        return lockWaitWarningThreshold;
+    }
 }
@@ -29,6 +29,7 @@ import org.openhab.core.config.core.ConfigurableService;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
@@ -61,26 +62,42 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
     private final Logger logger = LoggerFactory.getLogger(GraalJSScriptEngineFactory.class);
     private final GraalJSScriptEngineConfiguration configuration;
 
-    private final JSScriptServiceUtil jsScriptServiceUtil;
     private final JSDependencyTracker jsDependencyTracker;
+    private final GraalJSContextPool contextPool;
+    private final JSScriptEngineMetricsRegistry metricsRegistry;
 
     @Activate
     public GraalJSScriptEngineFactory(final @Reference JSScriptServiceUtil jsScriptServiceUtil,
-            final @Reference JSDependencyTracker jsDependencyTracker, Map<String, Object> config) {
+            final @Reference JSDependencyTracker jsDependencyTracker,
+            final @Reference JSScriptEngineMetricsRegistry metricsRegistry, Map<String, Object> config) {
         logger.debug("Loading GraalJSScriptEngineFactory");
 
         this.jsDependencyTracker = jsDependencyTracker;
-        this.jsScriptServiceUtil = jsScriptServiceUtil;
+        this.metricsRegistry = metricsRegistry;
         this.configuration = new GraalJSScriptEngineConfiguration(config);
+        this.contextPool = new GraalJSContextPool(configuration, jsDependencyTracker.getLibraryPath(),
+                jsScriptServiceUtil);
+        metricsRegistry.setContextPool(contextPool);
 
         if (OpenhabGraalJSScriptEngine.getLanguage() == null) {
             logger.error(LANG_NOT_INITIALIZED_MSG);
+        } else {
+            contextPool.refill();
         }
     }
 
     @Modified
     protected void modified(Map<String, ?> config) {
         configuration.modified(config);
+        if (OpenhabGraalJSScriptEngine.getLanguage() != null) {
+            contextPool.refill();
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        metricsRegistry.setContextPool(null);
+        contextPool.close();
     }
 
     @Override
@@ -103,7 +120,7 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
             return null;
         }
         return new DebuggingGraalScriptEngine<>(
-                new OpenhabGraalJSScriptEngine(configuration, jsScriptServiceUtil, jsDependencyTracker));
+                new OpenhabGraalJSScriptEngine(configuration, contextPool, metricsRegistry));
     }
 
     @Override
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Lock contention and invocation latency of one {@link OpenhabGraalJSScriptEngine}.
+ *
+ * All work on an engine, including timers and rule callbacks, serializes on the engine's lock, so these values show
+ * which scripts block others.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JSScriptEngineMetrics {
+
+    private final IntSupplier queueLength;
+    private volatile String identifier = "<uninitialized>";
+
+    private final AtomicLong lockAcquisitions = new AtomicLong();
+    private final AtomicLong lockWaitNanos = new AtomicLong();
+    private final AtomicLong maxLockWaitNanos = new AtomicLong();
+    private final AtomicLong lockHoldNanos = new AtomicLong();
+    private final AtomicLong maxLockHoldNanos = new AtomicLong();
+    private final AtomicInteger maxQueueLength = new AtomicInteger();
+
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong invocationNanos = new AtomicLong();
+    private final AtomicLong maxInvocationNanos = new AtomicLong();
+
+    /**
+     * @param queueLength supplies the number of threads currently waiting for the engine's lock
+     */
+    public JSScriptEngineMetrics(IntSupplier queueLength) {
+        this.queueLength = queueLength;
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public void setIdentifier(String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * Records an acquisition of the lock.
+     *
+     * @param waitNanos the time the thread waited for the lock
+     * @param queueLength the number of threads still waiting for the lock
+     */
+    public void recordLockWait(long waitNanos, int queueLength) {
+        lockAcquisitions.incrementAndGet();
+        lockWaitNanos.addAndGet(waitNanos);
+        maxLockWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        maxQueueLength.accumulateAndGet(queueLength, Math::max);
+    }
+
+    /**
+     * Records a release of the lock.
+     *
+     * @param holdNanos the time the lock was held
+     */
+    public void recordLockHold(long holdNanos) {
+        lockHoldNanos.addAndGet(holdNanos);
+        maxLockHoldNanos.accumulateAndGet(holdNanos, Math::max);
+    }
+
+    /**
+     * Records an invocation of the engine, i.e. an evaluation of the script or a call of one of its functions.
+     *
+     * @param executionNanos the execution time, not including the time waited for the lock
+     */
+    public void recordInvocation(long executionNanos) {
+        invocations.incrementAndGet();
+        invocationNanos.addAndGet(executionNanos);
+        maxInvocationNanos.accumulateAndGet(executionNanos, Math::max);
+    }
+
+    public long getLockAcquisitions() {
+        return lockAcquisitions.get();
+    }
+
+    public long getLockWaitNanos() {
+        return lockWaitNanos.get();
+    }
+
+    public long getMaxLockWaitNanos() {
+        return maxLockWaitNanos.get();
+    }
+
+    public long getLockHoldNanos() {
+        return lockHoldNanos.get();
+    }
+
+    public long getMaxLockHoldNanos() {
+        return maxLockHoldNanos.get();
+    }
+
+    /**
+     * Returns the number of threads currently waiting for the engine's lock
+     */
+    public int getQueueLength() {
+        return queueLength.getAsInt();
+    }
+
+    public int getMaxQueueLength() {
+        return maxQueueLength.get();
+    }
+
+    public long getInvocations() {
+        return invocations.get();
+    }
+
+    public long getInvocationNanos() {
+        return invocationNanos.get();
+    }
+
+    public long getMaxInvocationNanos() {
+        return maxInvocationNanos.get();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * OSGi service keeping the {@link JSScriptEngineMetrics} of the open JavaScript engines and the
+ * {@link GraalJSContextPool} of the script engine factory.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(service = JSScriptEngineMetricsRegistry.class)
+@NonNullByDefault
+public class JSScriptEngineMetricsRegistry {
+    private final Set<JSScriptEngineMetrics> engineMetrics = ConcurrentHashMap.newKeySet();
+    private volatile @Nullable GraalJSContextPool contextPool;
+
+    public void add(JSScriptEngineMetrics metrics) {
+        engineMetrics.add(metrics);
+    }
+
+    public void remove(JSScriptEngineMetrics metrics) {
+        engineMetrics.remove(metrics);
+    }
+
+    /**
+     * Returns the metrics of the open engines, the engine with the slowest invocation first.
+     *
+     * @return the metrics of the open engines
+     */
+    public List<JSScriptEngineMetrics> getSlowest() {
+        return engineMetrics.stream()
+                .sorted(Comparator.comparingLong(JSScriptEngineMetrics::getMaxInvocationNanos).reversed()).toList();
+    }
+
+    public void setContextPool(@Nullable GraalJSContextPool contextPool) {
+        this.contextPool = contextPool;
+    }
+
+    public @Nullable GraalJSContextPool getContextPool() {
+        return contextPool;
+    }
+}
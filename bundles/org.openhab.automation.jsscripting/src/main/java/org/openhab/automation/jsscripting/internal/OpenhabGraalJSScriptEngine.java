@@ -35,9 +35,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -53,12 +53,13 @@ import org.graalvm.polyglot.Language;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.io.IOAccess;
+import org.openhab.automation.jsscripting.internal.GraalJSContextPool.PooledContext;
 import org.openhab.automation.jsscripting.internal.fs.DelegatingFileSystem;
 import org.openhab.automation.jsscripting.internal.fs.PrefixedSeekableByteChannel;
 import org.openhab.automation.jsscripting.internal.fs.ReadOnlySeekableByteArrayChannel;
-import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
 import org.openhab.automation.jsscripting.internal.scriptengine.InvocationInterceptingScriptEngineWithInvocableAndCompilableAndAutoCloseable;
 import org.openhab.automation.jsscripting.internal.scriptengine.helper.LifecycleTracker;
+import org.openhab.automation.jsscripting.internal.threading.MonitoredLock;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.ScriptExtensionAccessor;
 import org.openhab.core.automation.module.script.internal.handler.AbstractScriptModuleHandler;
@@ -85,7 +86,7 @@ public class OpenhabGraalJSScriptEngine
         implements Lock {
 
     // see private constant GraalJSScriptEngine.ID
-    private static final String LANGUAGE_ID = "js";
+    static final String LANGUAGE_ID = "js";
 
     private static final Source GLOBAL_SOURCE;
     static {
@@ -159,14 +160,21 @@ public class OpenhabGraalJSScriptEngine
     private final Logger logger = LoggerFactory.getLogger(OpenhabGraalJSScriptEngine.class);
 
     /** {@link Lock} synchronization of multi-thread access */
-    private final Lock lock = new ReentrantLock();
+    private final MonitoredLock lock;
+    private final JSScriptEngineMetrics metrics;
+    private final JSScriptEngineMetricsRegistry metricsRegistry;
     private final JSRuntimeFeatures jsRuntimeFeatures;
     private final LifecycleTracker lifecycleTracker = new LifecycleTracker();
     private final GraalJSScriptEngineConfiguration configuration;
+    private final GraalJSContextPool contextPool;
 
-    // these fields start as null because they are populated on first use
-    private @Nullable Consumer<String> scriptDependencyListener;
+    // the listener starts as null because it is populated on first use
+    private final AtomicReference<@Nullable Consumer<String>> scriptDependencyListener;
     private String engineIdentifier = "<uninitialized>";
+    private final boolean pooled;
+    private final long takeContextNanos;
+    private long firstInvocationStart = 0;
+    private long invocationStart = 0;
 
     private boolean initialized = false;
     private boolean closed = false;
@@ -176,12 +184,34 @@ public class OpenhabGraalJSScriptEngine
      * that tracks the script lifecycle and provides hooks for scripts to do so too.
      */
     public OpenhabGraalJSScriptEngine(GraalJSScriptEngineConfiguration configuration,
-            JSScriptServiceUtil jsScriptServiceUtil, JSDependencyTracker jsDependencyTracker) {
+            GraalJSContextPool contextPool, JSScriptEngineMetricsRegistry metricsRegistry) {
         super(null); // delegate depends on fields not yet initialized, so we cannot set it immediately
         this.configuration = configuration;
-        this.jsRuntimeFeatures = jsScriptServiceUtil.getJSRuntimeFeatures(lock);
+        this.contextPool = contextPool;
+        this.metricsRegistry = metricsRegistry;
+
+        long start = System.nanoTime();
+        PooledContext context = contextPool.take();
+        this.takeContextNanos = System.nanoTime() - start;
+        this.delegate = context.delegate();
+        this.scriptDependencyListener = context.scriptDependencyListener();
+        this.lock = context.lock();
+        this.metrics = lock.getMetrics();
+        this.jsRuntimeFeatures = context.jsRuntimeFeatures();
+        this.pooled = context.pooled();
+    }
 
-        delegate = GraalJSScriptEngine.create(ENGINE, Context.newBuilder(LANGUAGE_ID) //
+    /**
+     * Creates the GraalJS script engine wrapped by an {@link OpenhabGraalJSScriptEngine}.
+     *
+     * @param configuration the add-on configuration
+     * @param libraryPath the path to look for CommonJS modules
+     * @param scriptDependencyListener holds the listener for script dependencies, set on first use of the engine
+     * @return the GraalJS script engine
+     */
+    static GraalJSScriptEngine createDelegate(GraalJSScriptEngineConfiguration configuration, Path libraryPath,
+            AtomicReference<@Nullable Consumer<String>> scriptDependencyListener) {
+        return GraalJSScriptEngine.create(ENGINE, Context.newBuilder(LANGUAGE_ID) //
                 .allowIO(IOAccess.newBuilder() //
                         .fileSystem(new DelegatingFileSystem(FileSystems.getDefault().provider()) {
                             @Override
@@ -189,7 +219,7 @@ public class OpenhabGraalJSScriptEngine
                                     FileAttribute<?>... attrs) throws IOException {
                                 if (configuration.isDependencyTrackingEnabled()
                                         && path.startsWith(GraalJSScriptEngineFactory.JS_LIB_PATH)) {
-                                    Consumer<String> localScriptDependencyListener = scriptDependencyListener;
+                                    Consumer<String> localScriptDependencyListener = scriptDependencyListener.get();
                                     if (localScriptDependencyListener != null) {
                                         localScriptDependencyListener.accept(path.toString());
                                     }
@@ -253,11 +283,11 @@ public class OpenhabGraalJSScriptEngine
                 // - allowEnvironmentAccess(EnvironmentAccess.INHERIT)
                 .allowAllAccess(true) //
                 // allow class lookup from scripts
-                .hostClassLoader(getClass().getClassLoader()) //
+                .hostClassLoader(OpenhabGraalJSScriptEngine.class.getClassLoader()) //
                 // allow experimental options
                 .allowExperimentalOptions(true) //
                 // choose the path to look for CommonJS module (i.e. node_modules)
-                .option("js.commonjs-require-cwd", jsDependencyTracker.getLibraryPath().toString()) //
+                .option("js.commonjs-require-cwd", libraryPath.toString()) //
                 // enable Nashorn compat mode as openhab-js relies on accessors, see
                 // https://github.com/oracle/graaljs/blob/master/docs/user/NashornMigrationGuide.md#accessors
                 .option("js.nashorn-compat", "true") //
@@ -267,6 +297,17 @@ public class OpenhabGraalJSScriptEngine
                 .option("js.commonjs-require", "true"));
     }
 
+    /**
+     * Injects the runtime features into the context of a GraalJS script engine and evaluates the global script.
+     *
+     * @param delegate the GraalJS script engine
+     * @param jsRuntimeFeatures the features to inject
+     */
+    static void initializeGlobals(GraalJSScriptEngine delegate, JSRuntimeFeatures jsRuntimeFeatures) {
+        jsRuntimeFeatures.getFeatures().forEach(delegate::put);
+        delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+    }
+
     @Override
     protected void beforeInvocation() {
         super.beforeInvocation();
@@ -275,10 +316,14 @@ public class OpenhabGraalJSScriptEngine
 
         lock.lock();
         logger.debug("Lock acquired before invocation for engine '{}'.", engineIdentifier);
+        if (lock.getHoldCount() == 1) {
+            invocationStart = System.nanoTime();
+        }
 
         if (initialized) {
             return;
         }
+        firstInvocationStart = System.nanoTime();
 
         ScriptContext ctx = delegate.getContext();
         if (ctx == null) {
@@ -291,6 +336,8 @@ public class OpenhabGraalJSScriptEngine
             throw new IllegalStateException("Failed to retrieve engine identifier from engine bindings");
         }
         this.engineIdentifier = localEngineIdentifier;
+        metrics.setIdentifier(localEngineIdentifier);
+        metricsRegistry.add(metrics);
 
         ScriptExtensionAccessor scriptExtensionAccessor = (ScriptExtensionAccessor) ctx
                 .getAttribute(CONTEXT_KEY_EXTENSION_ACCESSOR);
@@ -305,7 +352,7 @@ public class OpenhabGraalJSScriptEngine
                     "Failed to retrieve script dependency listener from engine bindings. Script dependency tracking will be disabled for engine '{}'.",
                     engineIdentifier);
         }
-        scriptDependencyListener = localScriptDependencyListener;
+        scriptDependencyListener.set(localScriptDependencyListener);
 
         ScriptExtensionModuleProvider scriptExtensionModuleProvider = new ScriptExtensionModuleProvider(
                 scriptExtensionAccessor, lock, lifecycleTracker);
@@ -317,12 +364,6 @@ public class OpenhabGraalJSScriptEngine
         delegate.getBindings(ScriptContext.ENGINE_SCOPE).put(REQUIRE_WRAPPER_NAME, wrapRequireFn);
         delegate.put("require", wrapRequireFn.apply((Function<Object[], Object>) delegate.get("require")));
 
-        // Injections into the JS runtime
-        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
-            logger.debug("Injecting {} into the context of engine '{}' ...", key, engineIdentifier);
-            delegate.put(key, obj);
-        });
-
         initialized = true;
 
         if (logger.isDebugEnabled()) {
@@ -339,8 +380,14 @@ public class OpenhabGraalJSScriptEngine
         }
 
         try {
-            logger.debug("Evaluating cached global script for engine '{}' ...", engineIdentifier);
-            delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+            if (pooled) {
+                logger.debug("Global script of engine '{}' was evaluated with the pre-created context.",
+                        engineIdentifier);
+            } else {
+                logger.debug("Injecting {} and evaluating cached global script for engine '{}' ...",
+                        jsRuntimeFeatures.getFeatures().keySet(), engineIdentifier);
+                initializeGlobals(delegate, jsRuntimeFeatures);
+            }
 
             if (configuration.isInjectionEnabledForAllScripts()
                     || (isScriptModule() && configuration.isInjectionEnabledForScriptModules())
@@ -355,7 +402,10 @@ public class OpenhabGraalJSScriptEngine
                     delegate.eval(OPENHAB_JS_INJECTION_CODE);
                 }
             }
-            logger.debug("Successfully initialized GraalJS script engine '{}'.", engineIdentifier);
+            long initializationNanos = System.nanoTime() - firstInvocationStart;
+            contextPool.recordInitialization(pooled, takeContextNanos + initializationNanos);
+            logger.debug("Successfully initialized GraalJS script engine '{}' in {} ms (pre-created context: {}).",
+                    engineIdentifier, TimeUnit.NANOSECONDS.toMillis(initializationNanos), pooled);
         } catch (ScriptException e) {
             logger.error("Could not inject global script", e);
         }
@@ -426,6 +476,12 @@ public class OpenhabGraalJSScriptEngine
 
     @Override
     protected Object afterInvocation(Object obj) {
+        if (firstInvocationStart != 0) {
+            logger.debug("First invocation of engine '{}' took {} ms, including initialization.", engineIdentifier,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - firstInvocationStart));
+            firstInvocationStart = 0;
+        }
+        recordInvocation();
         lock.unlock();
         logger.debug("Lock released after invocation for engine '{}'.", engineIdentifier);
         return super.afterInvocation(obj);
@@ -433,6 +489,7 @@ public class OpenhabGraalJSScriptEngine
 
     @Override
     protected Exception afterThrowsInvocation(Exception e) {
+        recordInvocation();
         lock.unlock();
         return super.afterThrowsInvocation(e);
     }
@@ -456,10 +513,17 @@ public class OpenhabGraalJSScriptEngine
             }
         } finally {
             closed = true;
+            metricsRegistry.remove(metrics);
             lock.unlock();
         }
     }
 
+    private void recordInvocation() {
+        if (lock.getHoldCount() == 1) {
+            metrics.recordInvocation(System.nanoTime() - invocationStart);
+        }
+    }
+
     /**
      * Tests if the script is a script file, i.e. it is loaded from a JavaScript file.
      * 
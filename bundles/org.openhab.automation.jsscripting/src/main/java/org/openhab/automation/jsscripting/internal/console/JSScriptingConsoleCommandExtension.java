@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.console;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.automation.jsscripting.internal.GraalJSContextPool;
+import org.openhab.automation.jsscripting.internal.JSScriptEngineMetrics;
+import org.openhab.automation.jsscripting.internal.JSScriptEngineMetricsRegistry;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link JSScriptingConsoleCommandExtension} lists the lock contention and invocation latency of the JavaScript
+ * engines and the statistics of the context pool.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class JSScriptingConsoleCommandExtension extends AbstractConsoleCommandExtension
+        implements ConsoleCommandCompleter {
+    private static final String SLOWEST = "slowest";
+    private static final String POOL = "pool";
+    private static final int DEFAULT_COUNT = 10;
+    private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(List.of(SLOWEST, POOL), false);
+
+    private final JSScriptEngineMetricsRegistry metricsRegistry;
+
+    @Activate
+    public JSScriptingConsoleCommandExtension(final @Reference JSScriptEngineMetricsRegistry metricsRegistry) {
+        super("jsscripting", "JavaScript Scripting console utilities.");
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length >= 1 && SLOWEST.equals(args[0])) {
+            int count = DEFAULT_COUNT;
+            if (args.length >= 2) {
+                try {
+                    count = Integer.parseInt(args[1]);
+                } catch (NumberFormatException e) {
+                    count = 0;
+                }
+                if (count < 1) {
+                    console.println("Invalid count '" + args[1] + "', the count must be a positive number");
+                    printUsage(console);
+                    return;
+                }
+            }
+            printSlowest(console, count);
+        } else if (args.length >= 1 && POOL.equals(args[0])) {
+            printPool(console);
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void printSlowest(Console console, int count) {
+        List<JSScriptEngineMetrics> engines = metricsRegistry.getSlowest();
+        if (engines.isEmpty()) {
+            console.println("No JavaScript engines have been invoked.");
+            return;
+        }
+        console.println(String.format(Locale.ROOT, "%-50s %8s %10s %10s %10s %10s %10s %7s", "Engine", "Calls",
+                "Avg exec", "Max exec", "Avg wait", "Max wait", "Max hold", "Queue"));
+        engines.stream().limit(count).forEach(metrics -> {
+            long invocations = metrics.getInvocations();
+            long acquisitions = metrics.getLockAcquisitions();
+            console.println(String.format(Locale.ROOT, "%-50s %8d %10s %10s %10s %10s %10s %3d/%3d",
+                    metrics.getIdentifier(), invocations,
+                    millis(invocations > 0 ? metrics.getInvocationNanos() / invocations : 0),
+                    millis(metrics.getMaxInvocationNanos()),
+                    millis(acquisitions > 0 ? metrics.getLockWaitNanos() / acquisitions : 0),
+                    millis(metrics.getMaxLockWaitNanos()), millis(metrics.getMaxLockHoldNanos()),
+                    metrics.getQueueLength(), metrics.getMaxQueueLength()));
+        });
+        console.println("Times in milliseconds. Queue: threads currently waiting for the engine's lock / maximum.");
+    }
+
+    private void printPool(Console console) {
+        GraalJSContextPool contextPool = metricsRegistry.getContextPool();
+        if (contextPool == null) {
+            console.println("The JavaScript script engine factory is not active.");
+            return;
+        }
+        console.println("Available pre-created contexts: " + contextPool.getAvailable());
+        console.println("Engines with pre-created context: " + contextPool.getHits() + ", with new context: "
+                + contextPool.getMisses());
+        console.println("Average time to pre-create a context: "
+                + millis(contextPool.getAveragePreCreationNanos()) + " ms");
+        console.println("Average engine initialization with pre-created context: "
+                + millis(contextPool.getAveragePooledInitializationNanos()) + " ms, with new context: "
+                + millis(contextPool.getAverageNewInitializationNanos()) + " ms");
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(SLOWEST + " [<count>]",
+                "lists the engines with the slowest invocations, including the time waited for and holding the lock"),
+                buildCommandUsage(POOL, "shows the use of pre-created contexts and the initialization times"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return SUBCMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
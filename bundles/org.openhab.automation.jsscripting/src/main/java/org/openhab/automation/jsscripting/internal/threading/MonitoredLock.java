@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.automation.jsscripting.internal.GraalJSScriptEngineConfiguration;
+import org.openhab.automation.jsscripting.internal.JSScriptEngineMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A reentrant {@link Lock} for multi-thread synchronization of a GraalJS context, which records how long threads wait
+ * for and hold the lock. A warning is logged if a thread waits longer than the configured threshold.
+ *
+ * Only the outermost acquisition of a thread is recorded.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MonitoredLock implements Lock {
+    private final Logger logger = LoggerFactory.getLogger(MonitoredLock.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final JSScriptEngineMetrics metrics = new JSScriptEngineMetrics(lock::getQueueLength);
+    private final GraalJSScriptEngineConfiguration configuration;
+
+    // only accessed by the thread holding the lock
+    private long acquiredAt;
+
+    public MonitoredLock(GraalJSScriptEngineConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public JSScriptEngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Queries the number of holds on this lock by the current thread.
+     *
+     * @return the number of holds on this lock by the current thread, or zero if this lock is not held by the current
+     *         thread
+     */
+    public int getHoldCount() {
+        return lock.getHoldCount();
+    }
+
+    @Override
+    public void lock() {
+        long start = System.nanoTime();
+        lock.lock();
+        acquired(start);
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        long start = System.nanoTime();
+        lock.lockInterruptibly();
+        acquired(start);
+    }
+
+    @Override
+    public boolean tryLock() {
+        long start = System.nanoTime();
+        if (lock.tryLock()) {
+            acquired(start);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryLock(long l, TimeUnit timeUnit) throws InterruptedException {
+        long start = System.nanoTime();
+        if (lock.tryLock(l, timeUnit)) {
+            acquired(start);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void unlock() {
+        if (lock.getHoldCount() == 1) {
+            metrics.recordLockHold(System.nanoTime() - acquiredAt);
+        }
+        lock.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+        return lock.newCondition();
+    }
+
+    private void acquired(long start) {
+        if (lock.getHoldCount() > 1) {
+            return;
+        }
+        acquiredAt = System.nanoTime();
+        long waitNanos = acquiredAt - start;
+        int queueLength = lock.getQueueLength();
+        metrics.recordLockWait(waitNanos, queueLength);
+
+        long threshold = configuration.getLockWaitWarningThreshold();
+        if (threshold > 0 && waitNanos >= TimeUnit.MILLISECONDS.toNanos(threshold)) {
+            logger.warn("Thread '{}' waited {} ms for the lock of engine '{}', {} more threads are waiting. "
+                    + "A script of this engine might block others.", Thread.currentThread().getName(),
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos), metrics.getIdentifier(), queueLength);
+        }
+    }
+}
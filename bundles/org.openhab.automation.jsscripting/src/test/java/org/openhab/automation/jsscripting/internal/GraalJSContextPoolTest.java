@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.automation.jsscripting.internal.GraalJSContextPool.PooledContext;
+import org.openhab.automation.jsscripting.internal.threading.MonitoredLock;
+import org.openhab.core.test.java.JavaTest;
+
+import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
+
+/**
+ * Tests for {@link GraalJSContextPool}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSContextPoolTest extends JavaTest {
+
+    private final List<PooledContext> created = new CopyOnWriteArrayList<>();
+    private final CountDownLatch allowPreCreation = new CountDownLatch(1);
+    private @NonNullByDefault({}) GraalJSScriptEngineConfiguration configuration;
+    private @NonNullByDefault({}) GraalJSContextPool pool;
+
+    private void createPool(int size, boolean blockPreCreation) {
+        configuration = new GraalJSScriptEngineConfiguration(Map.of("contextPoolSize", size));
+        if (!blockPreCreation) {
+            allowPreCreation.countDown();
+        }
+        pool = new GraalJSContextPool(configuration, pooled -> {
+            if (pooled) {
+                try {
+                    allowPreCreation.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            PooledContext context = new PooledContext(mock(GraalJSScriptEngine.class), new AtomicReference<>(),
+                    new MonitoredLock(configuration), mock(JSRuntimeFeatures.class), pooled);
+            created.add(context);
+            return context;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        allowPreCreation.countDown();
+        pool.close();
+    }
+
+    private static void assertClosed(PooledContext context) {
+        verify(context.jsRuntimeFeatures()).close();
+        verify(context.delegate()).close();
+    }
+
+    @Test
+    public void testTakeWithoutPoolCreatesContext() {
+        createPool(0, false);
+
+        PooledContext context = pool.take();
+
+        assertThat(context.pooled(), is(false));
+        assertThat(created, is(List.of(context)));
+        assertThat(pool.getAvailable(), is(0));
+        assertThat(pool.getHits(), is(0L));
+        // without a pool, a new context is not a miss
+        assertThat(pool.getMisses(), is(0L));
+    }
+
+    @Test
+    public void testTakeUsesPreCreatedContextAndRefills() {
+        createPool(2, false);
+
+        pool.refill();
+        waitForAssert(() -> assertThat(pool.getAvailable(), is(2)));
+        PooledContext context = pool.take();
+
+        assertThat(context.pooled(), is(true));
+        assertThat(created.indexOf(context), is(0));
+        assertThat(pool.getHits(), is(1L));
+        assertThat(pool.getMisses(), is(0L));
+        waitForAssert(() -> assertThat(pool.getAvailable(), is(2)));
+        assertThat(created.size(), is(3));
+        assertThat(created.stream().allMatch(PooledContext::pooled), is(true));
+    }
+
+    @Test
+    public void testTakeFromEmptyPoolCreatesContext() {
+        createPool(1, true);
+
+        pool.refill();
+        PooledContext context = pool.take();
+
+        assertThat(context.pooled(), is(false));
+        assertThat(pool.getHits(), is(0L));
+        assertThat(pool.getMisses(), is(1L));
+
+        allowPreCreation.countDown();
+        waitForAssert(() -> assertThat(pool.getAvailable(), is(1)));
+    }
+
+    @Test
+    public void testRefillClosesContextsWhenThePoolShrinks() {
+        createPool(2, false);
+        pool.refill();
+        waitForAssert(() -> assertThat(pool.getAvailable(), is(2)));
+
+        configuration.modified(Map.of("contextPoolSize", 0));
+        pool.refill();
+
+        assertThat(pool.getAvailable(), is(0));
+        created.forEach(GraalJSContextPoolTest::assertClosed);
+    }
+
+    @Test
+    public void testCloseClosesAvailableContexts() {
+        createPool(2, false);
+        pool.refill();
+        waitForAssert(() -> assertThat(pool.getAvailable(), is(2)));
+        PooledContext taken = pool.take();
+        waitForAssert(() -> assertThat(pool.getAvailable(), is(2)));
+
+        pool.close();
+
+        assertThat(pool.getAvailable(), is(0));
+        created.stream().filter(context -> context != taken).forEach(GraalJSContextPoolTest::assertClosed);
+        // the taken context belongs to its engine
+        verify(taken.delegate(), never()).close();
+
+        // a closed pool is not filled again
+        pool.refill();
+        assertThat(pool.getAvailable(), is(0));
+        assertThat(created.size(), is(3));
+    }
+
+    @Test
+    public void testInitializationTimes() {
+        createPool(0, false);
+
+        pool.recordInitialization(true, 10);
+        pool.recordInitialization(true, 20);
+        pool.recordInitialization(false, 100);
+
+        assertThat(pool.getAveragePooledInitializationNanos(), is(15L));
+        assertThat(pool.getAverageNewInitializationNanos(), is(100L));
+    }
+}
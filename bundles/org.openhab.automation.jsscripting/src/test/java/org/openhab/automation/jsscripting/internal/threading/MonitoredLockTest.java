@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.automation.jsscripting.internal.GraalJSScriptEngineConfiguration;
+import org.openhab.automation.jsscripting.internal.JSScriptEngineMetrics;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests for {@link MonitoredLock}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MonitoredLockTest extends JavaTest {
+
+    private static final long MIN_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final MonitoredLock lock = new MonitoredLock(new GraalJSScriptEngineConfiguration(Map.of()));
+    private final JSScriptEngineMetrics metrics = lock.getMetrics();
+
+    @Test
+    public void testHoldTimeIsRecordedOnRelease() throws InterruptedException {
+        lock.lock();
+        Thread.sleep(60);
+        assertThat(metrics.getLockHoldNanos(), is(0L));
+        lock.unlock();
+
+        assertThat(metrics.getLockAcquisitions(), is(1L));
+        assertThat(metrics.getLockHoldNanos(), is(greaterThanOrEqualTo(MIN_NANOS)));
+        assertThat(metrics.getMaxLockHoldNanos(), is(metrics.getLockHoldNanos()));
+        assertThat(lock.getHoldCount(), is(0));
+    }
+
+    @Test
+    public void testNestedAcquisitionsAreRecordedOnce() throws InterruptedException {
+        lock.lock();
+        assertThat(lock.tryLock(), is(true));
+        lock.lockInterruptibly();
+        assertThat(lock.getHoldCount(), is(3));
+        Thread.sleep(30);
+        lock.unlock();
+        lock.unlock();
+        // the inner releases don't end the hold
+        assertThat(metrics.getLockHoldNanos(), is(0L));
+        Thread.sleep(30);
+        lock.unlock();
+
+        assertThat(metrics.getLockAcquisitions(), is(1L));
+        assertThat(metrics.getLockHoldNanos(), is(greaterThanOrEqualTo(MIN_NANOS)));
+        assertThat(metrics.getMaxLockHoldNanos(), is(metrics.getLockHoldNanos()));
+    }
+
+    @Test
+    public void testWaitTimeIsRecorded() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        assertThat(locked.await(10, TimeUnit.SECONDS), is(true));
+
+        // a failed attempt is not an acquisition
+        assertThat(lock.tryLock(), is(false));
+        assertThat(metrics.getLockAcquisitions(), is(1L));
+
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+            lock.lock();
+            lock.unlock();
+        });
+        waitForAssert(() -> assertThat(metrics.getQueueLength(), is(1)));
+        Thread.sleep(60);
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        waiter.get(10, TimeUnit.SECONDS);
+
+        assertThat(metrics.getLockAcquisitions(), is(2L));
+        assertThat(metrics.getQueueLength(), is(0));
+        assertThat(metrics.getMaxLockWaitNanos(), is(greaterThanOrEqualTo(MIN_NANOS)));
+        assertThat(metrics.getLockWaitNanos(), is(greaterThanOrEqualTo(metrics.getMaxLockWaitNanos())));
+        // the holder kept the lock while the waiter waited
+        assertThat(metrics.getMaxLockHoldNanos(), is(greaterThanOrEqualTo(MIN_NANOS)));
+    }
+}
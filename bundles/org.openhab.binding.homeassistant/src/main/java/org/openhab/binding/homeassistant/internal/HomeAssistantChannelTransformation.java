@@ -28,6 +28,8 @@ import org.slf4j.LoggerFactory;
  * Provides a channel transformation for a Home Assistant channel with a
  * Jinja2 template, providing the additional context and extensions required by Home Assistant
  *
+ * Trivial value templates are rendered in Java by a {@link NativeValueTemplate}, everything else in Python.
+ *
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
@@ -46,6 +48,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
+    private final String templateSource;
+    private final @Nullable NativeValueTemplate nativeTemplate;
 
     public HomeAssistantChannelTransformation(HomeAssistantPythonBridge python, AbstractComponent<?> component,
             Value template, boolean command) {
@@ -71,6 +75,9 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
+        String source = python.getTemplateSource(template);
+        this.templateSource = source != null ? source : template.toString();
+        this.nativeTemplate = command ? null : NativeValueTemplate.parse(source);
     }
 
     @Override
@@ -97,9 +104,17 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        long start = System.nanoTime();
+        String result = renderNative(value);
+        if (result != null) {
+            python.recordRender(templateSource, System.nanoTime() - start, true);
+            return result;
+        }
         try {
-            return command ? python.renderCommandTemplate(template, value)
+            result = command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
+            python.recordRender(templateSource, System.nanoTime() - start, false);
+            return result;
         } catch (PolyglotException e) {
             logger.warn("Applying template for component {} failed: {}", component.getHaID().toShortTopic(),
                     e.getMessage(), e);
@@ -108,13 +123,30 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value, Map<String, @Nullable Object> variables) {
+        long start = System.nanoTime();
+        // variables cannot replace value or value_json, so they don't matter for native templates
+        String result = renderNative(value);
+        if (result != null) {
+            python.recordRender(templateSource, System.nanoTime() - start, true);
+            return result;
+        }
         try {
-            return command ? python.renderCommandTemplate(template, value, variables)
+            result = command ? python.renderCommandTemplate(template, value, variables)
                     : python.renderValueTemplate(template, value, defaultValue, variables);
+            python.recordRender(templateSource, System.nanoTime() - start, false);
+            return result;
         } catch (PolyglotException e) {
             logger.warn("Applying template for component {} failed: {}", component.getHaID().toShortTopic(),
                     e.getMessage(), e);
             return null;
         }
     }
+
+    private @Nullable String renderNative(Object value) {
+        NativeValueTemplate localNativeTemplate = nativeTemplate;
+        if (localNativeTemplate != null && value instanceof String payload) {
+            return localNativeTemplate.render(payload);
+        }
+        return null;
+    }
 }
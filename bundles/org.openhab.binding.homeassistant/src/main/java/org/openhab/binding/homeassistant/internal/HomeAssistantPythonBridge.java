@@ -21,6 +21,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -31,119 +38,288 @@ import org.graalvm.python.embedding.GraalPyResources;
 import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.config.core.ConfigParser;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Centralizes all calls into python to ensure thread safety and a single cached context
+ * Centralizes all calls into python to ensure thread safety and a bounded pool of cached contexts
+ *
+ * Python objects, like the templates of a component configuration, belong to the context that created them, so every
+ * call involving such an object is made in its context. Discovery configs are processed in the contexts of the pool
+ * in turn, so the templates of different components can be rendered in parallel.
  *
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
-@Component(service = HomeAssistantPythonBridge.class)
+@Component(service = HomeAssistantPythonBridge.class, configurationPid = "binding.homeassistant")
 public class HomeAssistantPythonBridge {
+    static final String CFG_PYTHON_CONTEXTS = "pythonContexts";
+
     private static final String PYTHON = "python";
+    private static final String INIT_SCRIPT = """
+            # we need to set up the path just like it would have been set up on Linux, even if we're
+            # on Windows
+            import os
+            import sys
+
+            if os.sep != '/':
+                sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+
+            from homeassistant.helpers.template import Template
+            from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+            from homeassistant.components.mqtt.discovery import process_discovery_config
+
+            def new_raw_template(template):
+                return Template(template)
+
+            def new_command_template(template):
+                return MqttCommandTemplate(template)
+
+            def render_command_template(template, value):
+                return template.render(value=value)
+
+            def render_command_template_with_variables(template, value, variables):
+                return template.render(value=value, variables=variables)
+
+            def new_value_template(template):
+                return MqttValueTemplate(template)
+
+            def render_value_template(template, payload, default):
+                return template.render_with_possible_json_value(payload=payload, default=default)
+
+            def render_value_template_with_variables(template, payload, default, variables):
+                return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+            """;
+
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private final VirtualFileSystem vfs;
+    private final List<PythonContext> contexts = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextContext = new AtomicInteger();
+    private final ExecutorService executor = Executors
+            .newSingleThreadExecutor(new NamedThreadFactory("homeassistant-python"));
+    private final Map<String, TemplateStatistics> templateStatistics = new ConcurrentHashMap<>();
+    private boolean closed = false; // guarded by contexts
 
-    @Activate
-    public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
+    /**
+     * A python context with the functions called by the bridge
+     */
+    private class PythonContext {
+        private final Context context;
+        // the context as returned by Value.getContext(), to find the context of a value
+        private final Context valueContext;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth,
+                renderCommandTemplateMeth, renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth,
+                renderValueTemplateWithVariablesMeth, processDiscoveryConfigMeth, listMeth;
 
-        File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
-        System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
+        PythonContext() {
+            context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
+                    .option("engine.WarnInterpreterOnly", "false").build();
 
-        Value bindings = context.getBindings(PYTHON);
+            Value bindings = context.getBindings(PYTHON);
+            valueContext = bindings.getContext();
 
-        context.eval(PYTHON,
-                """
-                        # we need to set up the path just like it would have been set up on Linux, even if we're
-                        # on Windows
-                        import os
-                        import sys
+            context.eval(PYTHON, INIT_SCRIPT);
 
-                        if os.sep != '/':
-                            sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            listMeth = bindings.getMember("list");
+        }
 
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
+        void close() {
+            // cancel a call still running, the bridge is gone
+            context.close(true);
+        }
+    }
 
-                        def new_raw_template(template):
-                            return Template(template)
+    /**
+     * Render statistics of a template
+     */
+    public static class TemplateStatistics {
+        private final AtomicLong renders = new AtomicLong();
+        private final AtomicLong nativeRenders = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
 
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
+        void record(long nanos, boolean nativeRender) {
+            renders.incrementAndGet();
+            if (nativeRender) {
+                nativeRenders.incrementAndGet();
+            }
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
 
-                        def render_command_template(template, value):
-                            return template.render(value=value)
+        public long getRenders() {
+            return renders.get();
+        }
 
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
+        /**
+         * Returns the number of renders done in Java, without entering Python
+         */
+        public long getNativeRenders() {
+            return nativeRenders.get();
+        }
 
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
 
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
+        /**
+         * Returns the average render time, or 0 if the template was not rendered yet
+         */
+        public long getAverageNanos() {
+            long count = renders.get();
+            return count > 0 ? totalNanos.get() / count : 0;
+        }
 
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    public HomeAssistantPythonBridge() {
+        this(Map.of());
+    }
+
+    @Activate
+    public HomeAssistantPythonBridge(Map<String, Object> config) {
+        vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class).build();
+
+        File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
+        System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
+
+        int poolSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(CFG_PYTHON_CONTEXTS), Integer.class, 1));
+        contexts.add(new PythonContext());
+        // create further contexts in the background, they are used as soon as they are ready
+        for (int i = 1; i < poolSize; i++) {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    PythonContext pythonContext = new PythonContext();
+                    synchronized (contexts) {
+                        if (closed) {
+                            pythonContext.close();
+                            return;
+                        }
+                        contexts.add(pythonContext);
+                    }
+                    logger.debug("Created python context {} in {} ms", contexts.size(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to create python context: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    @Deactivate
+    public void deactivate() {
+        executor.shutdownNow();
+        synchronized (contexts) {
+            closed = true;
+            contexts.forEach(PythonContext::close);
+        }
+        if (logger.isDebugEnabled()) {
+            getSlowestTemplates(10)
+                    .forEach(e -> logger.debug("Template '{}': {} renders ({} native), avg {} us, max {} us",
+                            e.getKey(), e.getValue().getRenders(), e.getValue().getNativeRenders(),
+                            TimeUnit.NANOSECONDS.toMicros(e.getValue().getAverageNanos()),
+                            TimeUnit.NANOSECONDS.toMicros(e.getValue().getMaxNanos())));
+        }
     }
 
     public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+        return nextContext().newRawTemplateMeth.execute(template);
     }
 
     public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+        return contextOf(template).newCommandTemplateMeth.execute(template);
     }
 
     public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+        return contextOf(template).renderCommandTemplateMeth.execute(template, value).asString();
     }
 
     public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+        return contextOf(template).renderCommandTemplateWithVariablesMeth.execute(template, value, variables)
+                .asString();
     }
 
     public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+        return contextOf(template).newValueTemplateMeth.execute(template);
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+        return contextOf(template).renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue,
             Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+        return contextOf(template).renderValueTemplateWithVariablesMeth
+                .execute(template, payload, defaultValue, variables).asString();
+    }
+
+    /**
+     * Returns the Jinja source of a template
+     *
+     * @param template a template created by {@link #newRawTemplate(String)} or from a discovery config
+     * @return the source or <code>null</code> if not available
+     */
+    public @Nullable String getTemplateSource(Value template) {
+        try {
+            Value source = template.getMember("template");
+            return source != null && source.isString() ? source.asString() : null;
+        } catch (PolyglotException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Records the time it took to render a template
+     *
+     * @param source the Jinja source of the template
+     * @param nanos the render time
+     * @param nativeRender whether the template was rendered in Java, see {@link NativeValueTemplate}
+     */
+    public void recordRender(String source, long nanos, boolean nativeRender) {
+        templateStatistics.computeIfAbsent(source, s -> new TemplateStatistics()).record(nanos, nativeRender);
+    }
+
+    /**
+     * Returns the render statistics by template source
+     */
+    public Map<String, TemplateStatistics> getTemplateStatistics() {
+        return Map.copyOf(templateStatistics);
+    }
+
+    /**
+     * Returns the render statistics of the templates with the slowest renders, the slowest first
+     *
+     * @param count the maximum number of templates
+     */
+    public List<Map.Entry<String, TemplateStatistics>> getSlowestTemplates(int count) {
+        return templateStatistics.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().getMaxNanos(), a.getValue().getMaxNanos())).limit(count)
+                .toList();
     }
 
     public Map<String, @Nullable Object> processDiscoveryConfig(String component, String payload) {
+        PythonContext pythonContext = nextContext();
         try {
             @SuppressWarnings("unchecked")
-            Map<String, @Nullable Object> config = (Map<String, @Nullable Object>) toJava(
-                    processDiscoveryConfigMeth.execute(component, payload));
+            Map<String, @Nullable Object> config = (Map<String, @Nullable Object>) toJava(pythonContext,
+                    pythonContext.processDiscoveryConfigMeth.execute(component, payload));
             if (config == null) {
                 throw new ConfigurationException("Invalid configuration");
             }
@@ -155,7 +331,35 @@ public class HomeAssistantPythonBridge {
         }
     }
 
-    private @Nullable Object toJava(Value value) {
+    private PythonContext nextContext() {
+        int size = contexts.size();
+        return contexts.get(size == 1 ? 0 : Math.floorMod(nextContext.getAndIncrement(), size));
+    }
+
+    /**
+     * Returns the context that created a python object
+     *
+     * @throws IllegalStateException if the object was not created by a context of this bridge, e.g. because the
+     *             bridge was deactivated
+     */
+    private PythonContext contextOf(Value value) {
+        Context context = value.getContext();
+        for (PythonContext pythonContext : contexts) {
+            if (pythonContext.valueContext.equals(context)) {
+                return pythonContext;
+            }
+        }
+        throw new IllegalStateException("The python object does not belong to a context of the bridge");
+    }
+
+    /**
+     * Returns the number of python contexts created so far
+     */
+    int getContextCount() {
+        return contexts.size();
+    }
+
+    private @Nullable Object toJava(PythonContext pythonContext, Value value) {
         if (value.isNull()) {
             return null;
         }
@@ -168,7 +372,7 @@ public class HomeAssistantPythonBridge {
         if (value.hasArrayElements()) {
             List<@Nullable Object> list = new ArrayList<>();
             for (long i = 0; i < value.getArraySize(); i++) {
-                list.add(toJava(value.getArrayElement(i)));
+                list.add(toJava(pythonContext, value.getArrayElement(i)));
             }
             return list;
         }
@@ -177,16 +381,17 @@ public class HomeAssistantPythonBridge {
             Value iterator = value.getHashKeysIterator();
             while (iterator.hasIteratorNextElement()) {
                 Value key = iterator.getIteratorNextElement();
-                map.put(key.asString(), toJava(Objects.requireNonNull(value.getHashValue(key))));
+                map.put(key.asString(), toJava(pythonContext, Objects.requireNonNull(value.getHashValue(key))));
             }
             return map;
         }
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            Value pyList = pythonContext.listMeth.execute(value);
             @SuppressWarnings("unchecked")
-            List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
+            List<@Nullable Object> list = (List<@Nullable Object>) Objects
+                    .requireNonNull(toJava(pythonContext, pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
             return set;
         }
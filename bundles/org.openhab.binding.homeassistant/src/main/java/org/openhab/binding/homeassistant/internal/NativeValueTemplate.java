@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Renders trivial value templates, such as <code>{{ value_json.temperature }}</code> or
+ * <code>{{ value | float }}</code>, in Java instead of Python.
+ *
+ * Only templates returning the payload or a value of the JSON payload, optionally converted by the <code>float</code>
+ * filter, are supported. Whenever Home Assistant might render a different result, e.g. for missing keys, invalid JSON
+ * or numbers Python formats in scientific notation, {@link #render(String)} returns <code>null</code> and the template
+ * has to be rendered by Python.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class NativeValueTemplate {
+    // an attribute (.key) or item (['key']) lookup
+    private static final String SEGMENT = "\\s*(?:\\.\\s*([A-Za-z_][A-Za-z0-9_]*)"
+            + "|\\[\\s*(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\")\\s*\\])";
+    private static final Pattern TEMPLATE_PATTERN = Pattern
+            .compile("\\s*\\{\\{\\s*value(_json((?:" + SEGMENT + ")*))?\\s*(\\|\\s*float\\s*)?}}\\s*");
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile(SEGMENT);
+    private static final Pattern FLOAT_PATTERN = Pattern
+            .compile("[ \\t\\n\\x0B\\f\\r]*[+-]?(?:\\d+\\.?\\d*|\\.\\d+)(?:[eE][+-]?\\d+)?[ \\t\\n\\x0B\\f\\r]*");
+    // attributes of Python dicts, which Jinja prefers over keys of the same name
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+    private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    private record Segment(String key, boolean attribute) {
+    }
+
+    private final boolean json;
+    private final List<Segment> path;
+    private final boolean floatFilter;
+
+    private NativeValueTemplate(boolean json, List<Segment> path, boolean floatFilter) {
+        this.json = json;
+        this.path = path;
+        this.floatFilter = floatFilter;
+    }
+
+    /**
+     * Creates a native template, if the template is supported.
+     *
+     * @param template the Jinja template
+     * @return the native template or <code>null</code> if the template is not supported
+     */
+    public static @Nullable NativeValueTemplate parse(@Nullable String template) {
+        if (template == null) {
+            return null;
+        }
+        Matcher matcher = TEMPLATE_PATTERN.matcher(template);
+        if (!matcher.matches()) {
+            return null;
+        }
+        List<Segment> path = new ArrayList<>();
+        String segments = matcher.group(2);
+        if (segments != null) {
+            Matcher segmentMatcher = SEGMENT_PATTERN.matcher(segments);
+            while (segmentMatcher.find()) {
+                String attribute = segmentMatcher.group(1);
+                if (attribute != null) {
+                    if (attribute.startsWith("_") || DICT_ATTRIBUTES.contains(attribute)) {
+                        return null;
+                    }
+                    path.add(new Segment(attribute, true));
+                } else {
+                    String key = segmentMatcher.group(2);
+                    path.add(new Segment(key != null ? key : segmentMatcher.group(3), false));
+                }
+            }
+        }
+        return new NativeValueTemplate(matcher.group(1) != null, List.copyOf(path), matcher.group(6) != null);
+    }
+
+    /**
+     * Renders the template like Home Assistant's <code>render_with_possible_json_value</code>.
+     *
+     * @param payload the received payload
+     * @return the rendered value or <code>null</code> if the template has to be rendered by Python
+     */
+    public @Nullable String render(String payload) {
+        if (!json) {
+            return floatFilter ? toFloat(payload) : strip(payload);
+        }
+        JsonElement element = parseJson(payload);
+        for (Segment segment : path) {
+            if (element == null || !element.isJsonObject()) {
+                return null;
+            }
+            element = element.getAsJsonObject().get(segment.key());
+        }
+        if (element == null) {
+            return null;
+        }
+        if (floatFilter) {
+            if (!element.isJsonPrimitive()) {
+                return null;
+            }
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isNumber()) {
+                return formatFloat(Double.parseDouble(primitive.getAsString()));
+            }
+            return primitive.isString() ? toFloat(primitive.getAsString()) : null;
+        }
+        if (element.isJsonNull()) {
+            return "None";
+        }
+        if (!element.isJsonPrimitive()) {
+            return null;
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean() ? "True" : "False";
+        }
+        if (primitive.isNumber()) {
+            String literal = primitive.getAsString();
+            if (literal.indexOf('.') >= 0 || literal.indexOf('e') >= 0 || literal.indexOf('E') >= 0) {
+                return formatFloat(Double.parseDouble(literal));
+            }
+            return new BigInteger(literal).toString();
+        }
+        return strip(primitive.getAsString());
+    }
+
+    /**
+     * Parses JSON as strictly as Python's <code>json.loads</code>.
+     */
+    private static @Nullable JsonElement parseJson(String payload) {
+        // reject what Gson accepts, but Python does not: control characters and unknown escapes in strings
+        boolean inString = false;
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (inString) {
+                if (c < 0x20) {
+                    return null;
+                } else if (c == '\\') {
+                    i++;
+                    if (i >= payload.length() || "\"\\/bfnrtu".indexOf(payload.charAt(i)) < 0) {
+                        return null;
+                    }
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            }
+        }
+        try {
+            JsonReader reader = new JsonReader(new StringReader(payload));
+            JsonElement element = JSON_ELEMENT_ADAPTER.read(reader);
+            return reader.peek() == JsonToken.END_DOCUMENT ? element : null;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts a string like Python's <code>float()</code>.
+     */
+    private static @Nullable String toFloat(String value) {
+        if (!FLOAT_PATTERN.matcher(value).matches()) {
+            return null;
+        }
+        return formatFloat(Double.parseDouble(value.trim()));
+    }
+
+    /**
+     * Formats a float like Python's <code>str()</code>, if it is not formatted in scientific notation.
+     */
+    private static @Nullable String formatFloat(double value) {
+        if (value == 0) {
+            return 1 / value < 0 ? "-0.0" : "0.0";
+        }
+        double abs = Math.abs(value);
+        if (Double.isNaN(value) || abs < 1e-4 || abs >= 1e16) {
+            return null;
+        }
+        String formatted = new BigDecimal(Double.toString(value)).toPlainString();
+        return formatted.indexOf('.') >= 0 ? formatted : formatted + ".0";
+    }
+
+    /**
+     * Strips whitespace like Python's <code>str.strip()</code>.
+     */
+    private static String strip(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isPythonWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isPythonWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.substring(start, end);
+    }
+
+    private static boolean isPythonWhitespace(char c) {
+        return (c >= 0x09 && c <= 0x0D) || (c >= 0x1C && c <= 0x20) || c == 0x85 || c == 0xA0 || c == 0x1680
+                || (c >= 0x2000 && c <= 0x200A) || c == 0x2028 || c == 0x2029 || c == 0x202F || c == 0x205F
+                || c == 0x3000;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal.console;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.homeassistant.internal.HomeAssistantBindingConstants;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge;
+import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge.TemplateStatistics;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link HomeAssistantCommandExtension} lists the render statistics of the Home Assistant templates.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class HomeAssistantCommandExtension extends AbstractConsoleCommandExtension
+        implements ConsoleCommandCompleter {
+    private static final String TEMPLATES = "templates";
+    private static final int DEFAULT_COUNT = 10;
+    private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(List.of(TEMPLATES), false);
+
+    private final HomeAssistantPythonBridge python;
+
+    @Activate
+    public HomeAssistantCommandExtension(final @Reference HomeAssistantPythonBridge python) {
+        super(HomeAssistantBindingConstants.BINDING_ID, "Home Assistant binding utilities.");
+        this.python = python;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length >= 1 && TEMPLATES.equals(args[0])) {
+            int count = DEFAULT_COUNT;
+            if (args.length >= 2) {
+                try {
+                    count = Integer.parseInt(args[1]);
+                } catch (NumberFormatException e) {
+                    count = 0;
+                }
+                if (count < 1) {
+                    console.println("Invalid count '" + args[1] + "', the count must be a positive number");
+                    printUsage(console);
+                    return;
+                }
+            }
+            printTemplates(console, count);
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void printTemplates(Console console, int count) {
+        List<Map.Entry<String, TemplateStatistics>> templates = python.getSlowestTemplates(count);
+        if (templates.isEmpty()) {
+            console.println("No templates have been rendered.");
+            return;
+        }
+        console.println(String.format(Locale.ROOT, "%8s %8s %10s %10s  %s", "Renders", "Native", "Avg", "Max",
+                "Template"));
+        templates.forEach(entry -> {
+            TemplateStatistics statistics = entry.getValue();
+            console.println(String.format(Locale.ROOT, "%8d %8d %10d %10d  %s", statistics.getRenders(),
+                    statistics.getNativeRenders(), TimeUnit.NANOSECONDS.toMicros(statistics.getAverageNanos()),
+                    TimeUnit.NANOSECONDS.toMicros(statistics.getMaxNanos()), entry.getKey().replace('\n', ' ')));
+        });
+        console.println("Times in microseconds. Native: renders done in Java without entering Python.");
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(TEMPLATES + " [<count>]", "lists the templates with the slowest renders"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return SUBCMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
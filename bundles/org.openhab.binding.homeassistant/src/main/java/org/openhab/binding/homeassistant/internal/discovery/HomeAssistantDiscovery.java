@@ -13,10 +13,14 @@
 package org.openhab.binding.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,10 +47,14 @@ import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
 import org.openhab.core.config.discovery.DiscoveryService;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.storage.StorageService;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.type.ThingType;
+import org.osgi.framework.Bundle;
 import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
@@ -72,6 +80,8 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, DiscoveryResult> allResults = new HashMap<>();
     private Set<ThingUID> dirtyResults = new HashSet<>();
     private final Object discoveryStateLock = new Object();
+    // batches of configs are processed one after the other, so a newer config of a topic is never overwritten
+    private final Object processingLock = new Object();
 
     private @Nullable ScheduledFuture<?> future;
     private final HomeAssistantPythonBridge python;
@@ -81,6 +91,31 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     static final String ONLINE_STATUS = "online";
     private volatile long lastEventTime = 0;
     private final static long DISCOVERY_TIMEOUT_MS = 2000;
+    // process the received configs before the burst of retained messages ends, if this many are pending
+    private final static int MAX_PENDING_CONFIGS = 100;
+    // the processed configs depend on the validation of the binding, so they are only reused by the same version
+    private final static String PROCESSED_CONFIG_VERSION = "1/" + bindingVersion();
+
+    /**
+     * A received config waiting to be processed
+     */
+    private record PendingConfig(ThingUID bridgeUID, byte[] payload) {
+    }
+
+    /**
+     * The discovery relevant part of a processed config, cached to skip the validation of unchanged configs
+     */
+    static class ProcessedConfig {
+        String digest = "";
+        String thingId = "";
+        String thingName = "";
+        Map<String, String> properties = Map.of();
+    }
+
+    private Map<String, PendingConfig> pendingConfigs = new LinkedHashMap<>();
+    private final Storage<ProcessedConfig> processedConfigs;
+    // the config topics received since the subscription, null when the retained configs have been received
+    private @Nullable Set<String> sessionTopics;
 
     @NonNullByDefault({})
     protected MqttChannelTypeProvider typeProvider;
@@ -90,10 +125,12 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
     @Activate
     public HomeAssistantDiscovery(@Nullable Map<String, Object> properties,
-            @Reference HomeAssistantPythonBridge python) {
+            @Reference HomeAssistantPythonBridge python, @Reference StorageService storageService) {
         super(null, 3, true, BASE_TOPIC + "/#");
         configuration = (new Configuration(properties)).as(HomeAssistantConfiguration.class);
         this.python = python;
+        this.processedConfigs = storageService.getStorage(HomeAssistantBindingConstants.BINDING_ID + ".discovery",
+                ProcessedConfig.class.getClassLoader());
     }
 
     @Reference
@@ -141,27 +178,102 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
 
+        // Configs are processed in batches, when the burst of retained config messages has been received
+        boolean batchComplete;
+        synchronized (discoveryStateLock) {
+            pendingConfigs.put(topic, new PendingConfig(bridgeUID, payload));
+            Set<String> topics = sessionTopics;
+            if (topics != null) {
+                topics.add(topic);
+            }
+            batchComplete = pendingConfigs.size() >= MAX_PENDING_CONFIGS;
+        }
+        if (batchComplete) {
+            scheduler.execute(this::processBatch);
+        }
+
         resetPublishTimer();
+    }
+
+    /**
+     * Processes a batch of configs received during a burst of retained messages, and makes sure its results are
+     * published even if the publish timer has already run.
+     */
+    private void processBatch() {
+        processPendingConfigs();
+        boolean unpublished;
+        synchronized (discoveryStateLock) {
+            unpublished = !dirtyResults.isEmpty();
+        }
+        if (unpublished) {
+            schedulePublish();
+        }
+    }
+
+    /**
+     * Processes the received configs, skipping the validation of configs that are unchanged since they were processed
+     * the last time. Concurrent calls are processed one after the other, in the order the configs were received.
+     */
+    protected void processPendingConfigs() {
+        synchronized (processingLock) {
+            Map<String, PendingConfig> configs;
+            synchronized (discoveryStateLock) {
+                if (pendingConfigs.isEmpty()) {
+                    return;
+                }
+                configs = pendingConfigs;
+                pendingConfigs = new LinkedHashMap<>();
+            }
+            long start = System.nanoTime();
+            int cached = 0;
+            for (Map.Entry<String, PendingConfig> entry : configs.entrySet()) {
+                if (processConfig(entry.getKey(), entry.getValue().bridgeUID(), entry.getValue().payload())) {
+                    cached++;
+                }
+            }
+            logger.debug("Processed {} discovery configs ({} unchanged) in {} ms", configs.size(), cached,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
 
+    /**
+     * @return whether the config was unchanged and taken from the cache
+     */
+    private boolean processConfig(String topic, ThingUID bridgeUID, byte[] payload) {
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
         HaID haID = new HaID(topic);
+        boolean unchanged = false;
 
         try {
-            AbstractComponentConfiguration config = AbstractComponentConfiguration.create(python, haID.component,
-                    new String(payload, StandardCharsets.UTF_8));
+            String digest = digest(payload);
+            ProcessedConfig processed = processedConfigs.get(topic);
+            if (processed != null && processed.digest.equals(digest)) {
+                unchanged = true;
+            } else {
+                AbstractComponentConfiguration config = AbstractComponentConfiguration.create(python, haID.component,
+                        new String(payload, StandardCharsets.UTF_8));
+                processed = new ProcessedConfig();
+                processed.digest = digest;
+                processed.thingId = config.getThingId(haID.objectID);
+                processed.thingName = config.getThingName();
+                Map<String, String> configProperties = new HashMap<>();
+                config.appendToProperties(new HashMap<>())
+                        .forEach((key, value) -> configProperties.put(key, value.toString()));
+                processed.properties = configProperties;
+                processedConfigs.put(topic, processed);
+            }
 
-            final String thingID = config.getThingId(haID.objectID);
+            final String thingID = processed.thingId;
             final ThingUID thingUID = new ThingUID(HomeAssistantBindingConstants.HOMEASSISTANT_DEVICE_THING, bridgeUID,
                     thingID);
 
             // Build properties and DiscoveryResult outside the lock
-            Map<String, Object> properties = new HashMap<>();
-            properties = config.appendToProperties(properties);
+            Map<String, Object> properties = new HashMap<>(processed.properties);
             properties.put("deviceId", thingID);
 
-            DiscoveryResult result = buildResult(thingID, thingUID, config.getThingName(), haID, properties, bridgeUID);
+            DiscoveryResult result = buildResult(thingID, thingUID, processed.thingName, haID, properties, bridgeUID);
 
             // Now only mutate shared state under the lock
             synchronized (discoveryStateLock) {
@@ -174,20 +286,70 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         } catch (Exception e) {
             logger.warn("HomeAssistant discover error: {}", e.getMessage());
         }
+        return unchanged;
+    }
+
+    /**
+     * @return the digest of a config, which changes with the payload and the version of the binding
+     */
+    static String digest(byte[] payload) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update(PROCESSED_CONFIG_VERSION.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+        return HexFormat.of().formatHex(messageDigest.digest(payload));
+    }
+
+    private static String bindingVersion() {
+        Bundle bundle = FrameworkUtil.getBundle(HomeAssistantDiscovery.class);
+        return bundle == null ? "" : bundle.getVersion().toString();
     }
 
     @Override
     protected void startScan() {
+        // the scan only subscribes and receives the retained configs again without background discovery
+        if (!isBackgroundDiscoveryEnabled()) {
+            startSession();
+        }
         super.startScan();
         triggerDeviceDiscovery();
     }
 
     @Override
     protected void startBackgroundDiscovery() {
+        startSession();
         super.startBackgroundDiscovery();
         triggerDeviceDiscovery();
     }
 
+    private void startSession() {
+        synchronized (discoveryStateLock) {
+            sessionTopics = new HashSet<>();
+        }
+    }
+
+    /**
+     * Removes the processed configs of topics which have not been received since the subscription. They have been
+     * removed while the discovery was not running, so {@link #topicVanished} has not been called for them.
+     */
+    protected void pruneProcessedConfigs() {
+        Set<String> topics;
+        synchronized (discoveryStateLock) {
+            topics = sessionTopics;
+            sessionTopics = null;
+        }
+        if (topics == null) {
+            return;
+        }
+        int pruned = 0;
+        for (String topic : List.copyOf(processedConfigs.getKeys())) {
+            if (!topics.contains(topic)) {
+                processedConfigs.remove(topic);
+                pruned++;
+            }
+        }
+        logger.debug("Removed {} processed discovery configs of topics not received anymore", pruned);
+    }
+
     private void triggerDeviceDiscovery() {
         if (!configuration.status) {
             return;
@@ -198,6 +360,10 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
     private void resetPublishTimer() {
         lastEventTime = System.currentTimeMillis();
+        schedulePublish();
+    }
+
+    private void schedulePublish() {
         if (future == null || future.isDone()) {
             future = scheduler.schedule(this::checkAndPublish, DISCOVERY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
         }
@@ -208,8 +374,11 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         long elapsed = now - lastEventTime;
 
         if (elapsed >= DISCOVERY_TIMEOUT_MS) {
+            // allow new scheduling before publishing, so results of a batch finishing meanwhile are published as well
+            future = null;
+            processPendingConfigs();
+            pruneProcessedConfigs();
             publishResults(); // process the accumulated results
-            future = null; // allow new scheduling
         } else {
             // reschedule only for the remaining time
             future = scheduler.schedule(this::checkAndPublish, DISCOVERY_TIMEOUT_MS - elapsed, TimeUnit.MILLISECONDS);
@@ -290,8 +459,10 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
         // Step 1: remove the topic mapping (under lock)
         synchronized (discoveryStateLock) {
+            pendingConfigs.remove(topic);
             thingUID = thingIDPerTopic.remove(topic);
         }
+        processedConfigs.remove(topic);
         if (thingUID == null) {
             return;
         }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HomeAssistantPythonBridgeTests extends JavaTest {
+
+    @Test
+    public void testTemplatesAreRenderedInTheContextOfTheirDiscoveryConfig() {
+        HomeAssistantPythonBridge python = new HomeAssistantPythonBridge(
+                Map.of(HomeAssistantPythonBridge.CFG_PYTHON_CONTEXTS, 2));
+        try {
+            waitForAssert(() -> assertThat(python.getContextCount(), is(2)), 60000, 100);
+
+            List<Value> templates = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Map<String, ?> config = python.processDiscoveryConfig("sensor", """
+                        {"name": "sensor %d", "state_topic": "state/%d", "value_template": "{{ value_json.v%d }}"}
+                        """.formatted(i, i, i));
+                templates.add((Value) Objects.requireNonNull(config.get("value_template")));
+            }
+
+            // the discovery configs are processed in the contexts in turn
+            assertThat(templates.get(0).getContext(), is(not(templates.get(1).getContext())));
+            assertThat(templates.get(0).getContext(), is(templates.get(2).getContext()));
+            assertThat(templates.get(1).getContext(), is(templates.get(3).getContext()));
+
+            for (int i = 0; i < templates.size(); i++) {
+                Value valueTemplate = python.newValueTemplate(templates.get(i));
+                assertThat(valueTemplate.getContext(), is(templates.get(i).getContext()));
+                assertThat(python.renderValueTemplate(valueTemplate, "{\"v%d\": \"value %d\"}".formatted(i, i), ""),
+                        is("value " + i));
+            }
+        } finally {
+            python.deactivate();
+        }
+    }
+}
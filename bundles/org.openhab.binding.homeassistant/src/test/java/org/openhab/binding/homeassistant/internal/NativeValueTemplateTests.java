@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class NativeValueTemplateTests {
+
+    @Test
+    public void testUnsupportedTemplates() {
+        assertThat(NativeValueTemplate.parse("{{ value_json.x | int }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.parse("{{ value_json.x }} {{ value }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.parse("{{- value_json.x -}}"), is(nullValue()));
+        assertThat(NativeValueTemplate.parse("{{ value_json[0] }}"), is(nullValue()));
+        // Jinja would return the dict method
+        assertThat(NativeValueTemplate.parse("{{ value_json.update.state }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.parse("{{ value_json['update'].state }}"), is(notNullValue()));
+    }
+
+    @Test
+    public void testValue() {
+        assertThat(render("{{ value }}", "  ON \n"), is("ON"));
+        assertThat(render("{{ value | float }}", " 21.50 "), is("21.5"));
+        assertThat(render("{{ value | float }}", "7"), is("7.0"));
+        assertThat(render("{{ value | float }}", "abc"), is(nullValue()));
+        assertThat(render("{{ value | float }}", "1e20"), is(nullValue()));
+    }
+
+    @Test
+    public void testValueJson() {
+        assertThat(render("{{ value_json.temperature }}", "{\"temperature\": 21.50}"), is("21.5"));
+        assertThat(render("{{value_json.temperature}}", "{\"temperature\": 21}"), is("21"));
+        assertThat(render("{{ value_json.x }}", "{\"x\": 1e3}"), is("1000.0"));
+        assertThat(render("{{ value_json.x }}", "{\"x\": true}"), is("True"));
+        assertThat(render("{{ value_json.x }}", "{\"x\": null}"), is("None"));
+        assertThat(render("{{ value_json['update'][\"state\"] }}", "{\"update\": {\"state\": \" idle \"}}"),
+                is("idle"));
+        assertThat(render("{{ value_json.x | float }}", "{\"x\": \"12\"}"), is("12.0"));
+        assertThat(render("{{ value_json }}", "42"), is("42"));
+    }
+
+    @Test
+    public void testFallbackToPython() {
+        // missing key
+        assertThat(render("{{ value_json.x }}", "{}"), is(nullValue()));
+        // Python formats lists and large numbers differently
+        assertThat(render("{{ value_json.x }}", "{\"x\": [1]}"), is(nullValue()));
+        assertThat(render("{{ value_json.x }}", "{\"x\": 1e20}"), is(nullValue()));
+        // invalid JSON for Python
+        assertThat(render("{{ value_json.x }}", "{'x': 1}"), is(nullValue()));
+        assertThat(render("{{ value_json.x }}", "{\"x\": 1} {}"), is(nullValue()));
+        assertThat(render("{{ value_json.x }}", "{\"x\": \"a\\'b\"}"), is(nullValue()));
+    }
+
+    private @Nullable String render(String template, String payload) {
+        return Objects.requireNonNull(NativeValueTemplate.parse(template)).render(payload);
+    }
+}
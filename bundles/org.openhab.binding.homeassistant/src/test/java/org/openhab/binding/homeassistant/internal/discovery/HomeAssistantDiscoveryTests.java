@@ -14,13 +14,16 @@ package org.openhab.binding.homeassistant.internal.discovery;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -33,11 +36,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.binding.homeassistant.internal.AbstractHomeAssistantTests;
 import org.openhab.binding.homeassistant.internal.HandlerConfiguration;
+import org.openhab.binding.homeassistant.internal.HomeAssistantBindingConstants;
 import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge;
+import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryService;
 import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
 import org.openhab.core.config.discovery.DiscoveryListener;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryService;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.test.storage.VolatileStorageService;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
@@ -52,10 +59,12 @@ import org.openhab.core.thing.ThingUID;
 @NonNullByDefault
 public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
     private @NonNullByDefault({}) HomeAssistantDiscovery discovery;
+    private @NonNullByDefault({}) VolatileStorageService storageService;
 
     @BeforeEach
     public void beforeEach() {
-        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, PYTHON);
+        storageService = new VolatileStorageService();
+        discovery = new TestHomeAssistantDiscovery(channelTypeProvider, PYTHON, storageService);
     }
 
     @Test
@@ -184,9 +193,58 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 hasItems("climate/0x847127fffe11dd6a_climate_zigbee2mqtt"));
     }
 
+    @Test
+    public void testUnchangedConfigTakenFromCache() throws Exception {
+        String topic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+        byte[] payload = getResourceAsByteArray("component/configTS0601ClimateThermostat.json");
+        HomeAssistantDiscovery.ProcessedConfig cached = new HomeAssistantDiscovery.ProcessedConfig();
+        cached.digest = HomeAssistantDiscovery.digest(payload);
+        cached.thingId = "cachedId";
+        cached.thingName = "cached";
+        cached.properties = Map.of(Thing.PROPERTY_VENDOR, "Cached");
+        storageService.<HomeAssistantDiscovery.ProcessedConfig> getStorage(
+                HomeAssistantBindingConstants.BINDING_ID + ".discovery").put(topic, cached);
+
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic, payload);
+
+        // Then the thing is discovered from the cached config
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+        var result = discoveryResults.get(0);
+        assertThat(result.getThingUID().getId(), is("cachedId"));
+        assertThat(result.getLabel(), is("cached"));
+        assertThat(result.getProperties().get(Thing.PROPERTY_VENDOR), is("Cached"));
+    }
+
+    @Test
+    public void testConfigsNotReceivedAnymoreArePruned() throws Exception {
+        String topic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+        String removedTopic = "homeassistant/switch/0x847127fffe11dd6a_removed_zigbee2mqtt/config";
+        Storage<HomeAssistantDiscovery.ProcessedConfig> storage = storageService
+                .getStorage(HomeAssistantBindingConstants.BINDING_ID + ".discovery");
+        storage.put(removedTopic, new HomeAssistantDiscovery.ProcessedConfig());
+        discovery.setMQTTTopicDiscoveryService(mock(MQTTTopicDiscoveryService.class));
+
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.startBackgroundDiscovery();
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+
+        // Then the config of the topic which has not been received again is removed after the retained configs
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertThat(storage.getKeys(), contains(topic));
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
-        public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider, HomeAssistantPythonBridge python) {
-            super(null, python);
+        public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider, HomeAssistantPythonBridge python,
+                VolatileStorageService storageService) {
+            super(null, python, storageService);
             this.typeProvider = typeProvider;
         }
     }
@@ -20,6 +20,7 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -29,6 +30,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -44,6 +46,7 @@ import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
@@ -85,25 +88,35 @@ import org.slf4j.LoggerFactory;
 public class HttpThingHandler extends BaseThingHandler implements HttpStatusListener {
     private static final Set<Character> URL_PART_DELIMITER = Set.of('/', '?', '&');
 
+    /**
+     * The state request of one or more channels
+     */
+    private record StateRequest(String url, String content, boolean refreshAfterCommand,
+            List<Consumer<@Nullable ChannelHandlerContent>> consumers) {
+    }
+
     private final Logger logger = LoggerFactory.getLogger(HttpThingHandler.class);
     private final HttpClientProvider httpClientProvider;
     private final RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final RefreshingUrlCacheRegistry urlCacheRegistry;
 
     private HttpThingConfig config = new HttpThingConfig();
+    private final Map<String, StateRequest> stateRequests = new HashMap<>();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ChannelHandler> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            TimeZoneProvider timeZoneProvider) {
+            TimeZoneProvider timeZoneProvider, RefreshingUrlCacheRegistry urlCacheRegistry) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
+        this.urlCacheRegistry = urlCacheRegistry;
     }
 
     @Override
@@ -138,8 +151,9 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
                 logger.debug("Writing to read-only channel {} not permitted", channelUID);
             }
 
-            if (refreshingUrlCache != null) {
-                refreshingUrlCache.refreshAfterCommand(scheduler);
+            StateRequest stateRequest = (key != null) ? stateRequests.get(key) : null;
+            if (refreshingUrlCache != null && stateRequest != null && stateRequest.refreshAfterCommand()) {
+                refreshingUrlCache.scheduleRefresh(scheduler);
             }
         }
     }
@@ -230,7 +244,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         // create channels
         thing.getChannels().forEach(this::createChannel);
 
-        int urlHandlerCount = urlHandlers.size();
+        int urlHandlerCount = stateRequests.size();
         if (urlHandlerCount * config.delay > config.refresh * 1000) {
             // this should prevent the rate limit queue from filling up
             config.refresh = (urlHandlerCount * config.delay) / 1000 + 1;
@@ -239,7 +253,10 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
                     urlHandlerCount, thing.getUID(), config.delay, config.refresh);
         }
 
-        urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        // requests of other things with the same settings are shared
+        stateRequests.forEach((key, stateRequest) -> urlHandlers.put(key,
+                urlCacheRegistry.subscribe(this, stateRequest.url(), stateRequest.content(), config.contentType,
+                        config, rateLimitedHttpClient, this, stateRequest.consumers())));
 
         updateStatus(ThingStatus.UNKNOWN);
     }
@@ -247,10 +264,11 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     @Override
     public void dispose() {
         // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        urlCacheRegistry.unsubscribe(this);
         rateLimitedHttpClient.shutdown();
 
         // clear lists
+        stateRequests.clear();
         urlHandlers.clear();
         channels.clear();
         channelUrls.clear();
@@ -335,10 +353,8 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             // we need a key consisting of stateContent and URL, only if both are equal, we can use the same cache
             String key = channelConfig.stateContent + "$" + stateUrl;
             channelUrls.put(channelUID, key);
-            Objects.requireNonNull(urlHandlers.computeIfAbsent(key,
-                    k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config, channelConfig.stateContent,
-                            config.contentType, this, channelConfig.refreshAfterCommand)))
-                    .addConsumer(itemValueConverter::process);
+            stateRequests.computeIfAbsent(key, k -> new StateRequest(stateUrl, channelConfig.stateContent,
+                    channelConfig.refreshAfterCommand, new ArrayList<>())).consumers().add(itemValueConverter::process);
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
@@ -15,6 +15,7 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
@@ -22,14 +23,21 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
@@ -47,7 +55,7 @@ public class RefreshingUrlCache {
     private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCache.class);
 
     private final String url;
-    private final RateLimitedHttpClient httpClient;
+    private volatile RateLimitedHttpClient httpClient;
     private final boolean strictErrorHandling;
     private final int timeout;
     private final int bufferSize;
@@ -57,20 +65,41 @@ public class RefreshingUrlCache {
     private final HttpMethod httpMethod;
     private final String httpContent;
     private final @Nullable String httpContentType;
-    private final HttpStatusListener httpStatusListener;
-    private final boolean refreshAfterCommand;
+    private final Set<HttpStatusListener> httpStatusListeners = new CopyOnWriteArraySet<>();
+    private final HttpStatusListener httpStatusListener = new HttpStatusListener() {
+        @Override
+        public void onHttpError(@Nullable String message) {
+            httpStatusListeners.forEach(listener -> listener.onHttpError(message));
+        }
+
+        @Override
+        public void onHttpSuccess() {
+            httpStatusListeners.forEach(HttpStatusListener::onHttpSuccess);
+        }
+    };
+    private final boolean skipUnchanged;
+    private final long forcedRefreshNanos;
 
     private @Nullable ScheduledFuture<?> future;
-    private @Nullable ChannelHandlerContent lastContent;
+    private int refreshTime;
+    private volatile @Nullable ChannelHandlerContent lastContent;
 
-    public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
-            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
-        this(httpClient, url, thingConfig, httpContent, httpContentType, httpStatusListener, false);
+    // validators of the last content, only sent again when requesting the same URI
+    private volatile @Nullable Validators validators;
+    private volatile long lastDelivery;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicLong skippedUpdates = new AtomicLong();
+
+    /**
+     * The validators sent with a response, to request the content only if it has been changed
+     */
+    private record Validators(URI uri, @Nullable String etag, @Nullable String lastModified) {
     }
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
-            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
-            boolean refreshAfterCommand) {
+            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
@@ -80,8 +109,9 @@ public class RefreshingUrlCache {
         this.headers = thingConfig.getHeaders();
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
-        this.httpStatusListener = httpStatusListener;
-        this.refreshAfterCommand = refreshAfterCommand;
+        this.httpStatusListeners.add(httpStatusListener);
+        this.skipUnchanged = thingConfig.skipUnchanged;
+        this.forcedRefreshNanos = TimeUnit.SECONDS.toNanos(thingConfig.forcedRefresh);
         fallbackEncoding = thingConfig.encoding;
     }
 
@@ -91,9 +121,34 @@ public class RefreshingUrlCache {
             return;
         }
         future = executor.scheduleWithFixedDelay(this::refresh, 1, refreshTime, TimeUnit.SECONDS);
+        this.refreshTime = refreshTime;
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
     }
 
+    /**
+     * Changes the interval of a started refresh task. The next refresh is done after the new interval.
+     *
+     * @param executor the executor to schedule the refresh task on
+     * @param refreshTime the new interval in seconds
+     */
+    public void setRefreshTime(ScheduledExecutorService executor, int refreshTime) {
+        ScheduledFuture<?> future = this.future;
+        if (future == null || refreshTime == this.refreshTime) {
+            return;
+        }
+        future.cancel(false);
+        this.future = executor.scheduleWithFixedDelay(this::refresh, refreshTime, refreshTime, TimeUnit.SECONDS);
+        this.refreshTime = refreshTime;
+        logger.trace("Changed interval of refresh task for URL '{}' to {}s", url, refreshTime);
+    }
+
+    /**
+     * Sets the client used for the following requests, e.g. if the client used so far is shut down.
+     */
+    public void setHttpClient(RateLimitedHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
     public void stop() {
         // clearing all listeners to prevent further updates
         consumers.clear();
@@ -102,20 +157,28 @@ public class RefreshingUrlCache {
             future.cancel(true);
             logger.trace("Stopped refresh task for URL '{}'", url);
         }
+        if (skipUnchanged) {
+            logger.debug("URL '{}': {} requests, {} answered with 'Not Modified', {} consumer updates skipped", url,
+                    requests.get(), notModifiedResponses.get(), skippedUpdates.get());
+        }
     }
 
     private void refresh() {
-        refresh(false);
+        refresh(false, false);
     }
 
-    public void refreshAfterCommand(ScheduledExecutorService executor) {
-        if (refreshAfterCommand) {
-            executor.schedule(() -> this.refresh(), 1, TimeUnit.SECONDS);
-            logger.trace("Started refresh task for URL '{}'", url);
-        }
+    /**
+     * Schedules a single refresh, which always updates the consumers.
+     *
+     * @param executor the executor to schedule the refresh on
+     */
+    public void scheduleRefresh(ScheduledExecutorService executor) {
+        // the state of the channels may have been changed by a command, so always update the consumers
+        executor.schedule(() -> this.refresh(false, true), 1, TimeUnit.SECONDS);
+        logger.trace("Started refresh task for URL '{}'", url);
     }
 
-    private void refresh(boolean isRetry) {
+    private void refresh(boolean isRetry, boolean force) {
         if (consumers.isEmpty()) {
             // do not refresh if we don't have listeners
             return;
@@ -129,6 +192,21 @@ public class RefreshingUrlCache {
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
+                requests.incrementAndGet();
+
+                AtomicBoolean notModified = new AtomicBoolean();
+                AtomicReference<@Nullable Validators> responseValidators = new AtomicReference<>();
+                if (skipUnchanged) {
+                    addConditionalHeaders(uri, force, request);
+                    request.onResponseHeaders(response -> {
+                        if (response.getStatus() == HttpStatus.NOT_MODIFIED_304) {
+                            notModified.set(true);
+                        } else if (response.getStatus() == HttpStatus.OK_200) {
+                            responseValidators.set(new Validators(uri, response.getHeaders().get(HttpHeader.ETAG),
+                                    response.getHeaders().get(HttpHeader.LAST_MODIFIED)));
+                        }
+                    });
+                }
 
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
                 responseContentFuture.exceptionally(t -> {
@@ -137,11 +215,11 @@ public class RefreshingUrlCache {
                             logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
                             httpStatusListener.onHttpError("Authentication failed");
                         } else {
-                            refresh(true);
+                            refresh(true, force);
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> processResult(content, notModified.get(), responseValidators.get(), force));
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
@@ -166,11 +244,82 @@ public class RefreshingUrlCache {
         consumers.add(consumer);
     }
 
+    public void removeConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
+        consumers.remove(consumer);
+    }
+
+    public void addStatusListener(HttpStatusListener httpStatusListener) {
+        httpStatusListeners.add(httpStatusListener);
+    }
+
+    public void removeStatusListener(HttpStatusListener httpStatusListener) {
+        httpStatusListeners.remove(httpStatusListener);
+    }
+
     public Optional<ChannelHandlerContent> getCached() {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ChannelHandlerContent content) {
+    /**
+     * Returns the number of requests sent to the URL
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of requests answered with "304 Not Modified", i.e. without transferring the content again
+     */
+    public long getNotModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    /**
+     * Returns the number of consumer updates (and therefore transformations) skipped because of unchanged content
+     */
+    public long getSkippedUpdates() {
+        return skippedUpdates.get();
+    }
+
+    private void addConditionalHeaders(URI uri, boolean force, Request request) {
+        // a request with validators of a different URI (e.g. with a formatted date) would return wrong content
+        ChannelHandlerContent lastContent = this.lastContent;
+        Validators validators = this.validators;
+        if (force || lastContent == null || validators == null || !uri.equals(validators.uri())) {
+            return;
+        }
+        String etag = validators.etag();
+        if (etag != null) {
+            request.header(HttpHeader.IF_NONE_MATCH, etag);
+        }
+        String lastModified = validators.lastModified();
+        if (lastModified != null) {
+            request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+        }
+    }
+
+    private void processResult(@Nullable ChannelHandlerContent content, boolean notModified,
+            @Nullable Validators responseValidators, boolean force) {
+        ChannelHandlerContent lastContent = this.lastContent;
+        if (notModified) {
+            notModifiedResponses.incrementAndGet();
+            if (lastContent == null) {
+                return;
+            }
+            content = lastContent;
+        } else if (content != null) {
+            // a failed response must not replace the validators of the last content
+            this.validators = responseValidators;
+        }
+        if (skipUnchanged && content != null && !force && lastContent != null
+                && Arrays.equals(content.getRawContent(), lastContent.getRawContent())
+                && (forcedRefreshNanos <= 0 || System.nanoTime() - lastDelivery < forcedRefreshNanos)) {
+            logger.trace("Content of URL '{}' unchanged, skipping update of {} consumers", url, consumers.size());
+            skippedUpdates.addAndGet(consumers.size());
+            this.lastContent = content;
+            return;
+        }
+        lastDelivery = System.nanoTime();
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
@@ -180,6 +329,6 @@ public class RefreshingUrlCache {
                 }
             }
         }
-        lastContent = content;
+        this.lastContent = content;
     }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.http.internal.config.HttpAuthMode;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RefreshingUrlCacheRegistry} shares the {@link RefreshingUrlCache}s of all things of the binding, so that
+ * identical requests of different things are only sent once and the response is passed to the consumers of all
+ * things. The refresh task runs with the shortest refresh time of the subscribed things.
+ *
+ * Requests are only shared if all settings affecting the request or the processing of the response are equal.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistry {
+
+    /**
+     * The settings identifying a request
+     */
+    private record Key(HttpMethod method, String url, String content, @Nullable String contentType,
+            Map<String, String> headers, HttpAuthMode authMode, String username, String password, boolean insecure,
+            int timeout, int bufferSize, @Nullable String encoding, boolean strictErrorHandling,
+            boolean skipUnchanged, int forcedRefresh) {
+
+        static Key of(String url, String content, @Nullable String contentType, HttpThingConfig config) {
+            return new Key(config.stateMethod, url, content, contentType, config.getHeaders(), config.authMode,
+                    config.username, config.password, config.ignoreSSLErrors, config.timeout, config.bufferSize,
+                    config.encoding, config.strictErrorHandling, config.skipUnchanged, config.forcedRefresh);
+        }
+    }
+
+    private record Subscription(RateLimitedHttpClient httpClient, HttpStatusListener statusListener, int refreshTime,
+            List<Consumer<@Nullable ChannelHandlerContent>> consumers) {
+    }
+
+    private static class SharedCache {
+        private final RefreshingUrlCache cache;
+        private final Map<Object, Subscription> subscriptions = new LinkedHashMap<>();
+        private RateLimitedHttpClient httpClient;
+
+        private SharedCache(RefreshingUrlCache cache, RateLimitedHttpClient httpClient) {
+            this.cache = cache;
+            this.httpClient = httpClient;
+        }
+
+        private int refreshTime() {
+            return subscriptions.values().stream().mapToInt(Subscription::refreshTime).min().orElse(1);
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCacheRegistry.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<Key, SharedCache> caches = new HashMap<>();
+
+    /**
+     * @param scheduler the executor to run the refresh tasks on
+     */
+    public RefreshingUrlCacheRegistry(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Subscribes to the refreshes of a URL. The refresh task is started or, if the URL is already requested with the
+     * same settings, shared with the other subscribers. If unchanged content is skipped, a shared URL is refreshed
+     * once for all subscribers, so that the new consumers receive the current content.
+     *
+     * @param owner the subscriber, usually a thing handler
+     * @param url the URL to request
+     * @param content the content of the request
+     * @param contentType the content type of the request
+     * @param config the configuration of the thing, the refresh time is taken from here
+     * @param httpClient the client of the subscriber
+     * @param statusListener the listener for the results of the requests
+     * @param consumers the consumers of the responses
+     * @return the (shared) cache of the URL
+     */
+    public synchronized RefreshingUrlCache subscribe(Object owner, String url, String content,
+            @Nullable String contentType, HttpThingConfig config, RateLimitedHttpClient httpClient,
+            HttpStatusListener statusListener, Collection<Consumer<@Nullable ChannelHandlerContent>> consumers) {
+        Key key = Key.of(url, content, contentType, config);
+        SharedCache sharedCache = caches.get(key);
+        if (sharedCache == null) {
+            sharedCache = new SharedCache(
+                    new RefreshingUrlCache(httpClient, url, config, content, contentType, statusListener), httpClient);
+            caches.put(key, sharedCache);
+        } else {
+            sharedCache.cache.addStatusListener(statusListener);
+            logger.debug("Sharing refresh of URL '{}' with {} other subscribers", url,
+                    sharedCache.subscriptions.size());
+        }
+        consumers.forEach(sharedCache.cache::addConsumer);
+        Subscription previous = sharedCache.subscriptions.put(owner,
+                new Subscription(httpClient, statusListener, config.refresh, new ArrayList<>(consumers)));
+        if (previous != null) {
+            previous.consumers().forEach(sharedCache.cache::removeConsumer);
+        }
+        if (previous == null && sharedCache.subscriptions.size() == 1) {
+            sharedCache.cache.start(scheduler, config.refresh);
+        } else {
+            sharedCache.cache.setRefreshTime(scheduler, sharedCache.refreshTime());
+            if (config.skipUnchanged) {
+                // the new consumers would not receive the content before it changes
+                sharedCache.cache.scheduleRefresh(scheduler);
+            }
+        }
+        return sharedCache.cache;
+    }
+
+    /**
+     * Removes all subscriptions of a subscriber. Refresh tasks without subscribers are stopped.
+     *
+     * @param owner the subscriber
+     */
+    public synchronized void unsubscribe(Object owner) {
+        Iterator<SharedCache> iterator = caches.values().iterator();
+        while (iterator.hasNext()) {
+            SharedCache sharedCache = iterator.next();
+            Subscription subscription = sharedCache.subscriptions.remove(owner);
+            if (subscription == null) {
+                continue;
+            }
+            if (sharedCache.subscriptions.isEmpty()) {
+                sharedCache.cache.stop();
+                iterator.remove();
+                continue;
+            }
+            subscription.consumers().forEach(sharedCache.cache::removeConsumer);
+            sharedCache.cache.removeStatusListener(subscription.statusListener());
+            if (sharedCache.httpClient == subscription.httpClient()) {
+                // the client of the subscriber is shut down, continue with the client of another subscriber
+                sharedCache.httpClient = sharedCache.subscriptions.values().iterator().next().httpClient();
+                sharedCache.cache.setHttpClient(sharedCache.httpClient);
+            }
+            sharedCache.cache.setRefreshTime(scheduler, sharedCache.refreshTime());
+        }
+    }
+
+    /**
+     * Returns the number of refresh tasks, i.e. distinct requests
+     */
+    public synchronized int getSize() {
+        return caches.size();
+    }
+}
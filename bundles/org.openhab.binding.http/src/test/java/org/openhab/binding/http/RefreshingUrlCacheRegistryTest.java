@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpStatusListener;
+import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
+import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+/**
+ * The {@link RefreshingUrlCacheRegistryTest} implements tests for the {@link RefreshingUrlCacheRegistry}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RefreshingUrlCacheRegistryTest extends AbstractWireMockTest {
+    private static final String TEST_LOCATION = "/testlocation";
+    private static final String TEST_CONTENT = "TESTCONTENT";
+
+    private @NonNullByDefault({}) RateLimitedHttpClient firstHttpClient;
+    private @NonNullByDefault({}) RateLimitedHttpClient secondHttpClient;
+    private @NonNullByDefault({}) RefreshingUrlCacheRegistry registry;
+    private @NonNullByDefault({}) String url;
+
+    private final List<@Nullable ChannelHandlerContent> firstContents = new CopyOnWriteArrayList<>();
+    private final List<@Nullable ChannelHandlerContent> secondContents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void initTest() {
+        // this is usually done inside the HttpHandlerFactory when creating the clients
+        httpClient.setUserAgentField(null);
+
+        firstHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        firstHttpClient.setDelay(0);
+        secondHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        secondHttpClient.setDelay(0);
+        registry = new RefreshingUrlCacheRegistry(scheduler);
+        url = "http://localhost:" + port + TEST_LOCATION;
+    }
+
+    @AfterEach
+    public void cleanUpTest() {
+        firstHttpClient.shutdown();
+        secondHttpClient.shutdown();
+        firstContents.clear();
+        secondContents.clear();
+        super.cleanUpTest();
+    }
+
+    @Test
+    public void testIdenticalRequestsAreShared() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        HttpStatusListener firstListener = mock(HttpStatusListener.class);
+        HttpStatusListener secondListener = mock(HttpStatusListener.class);
+
+        RefreshingUrlCache first = registry.subscribe("first", url, "", null, thingConfig(2), firstHttpClient,
+                firstListener, List.of(firstContents::add));
+        RefreshingUrlCache second = registry.subscribe("second", url, "", null, thingConfig(1), secondHttpClient,
+                secondListener, List.of(secondContents::add));
+
+        assertSame(first, second);
+        assertEquals(1, registry.getSize());
+
+        // both subscribers receive the responses of the shared requests
+        waitForAssert(() -> assertTrue(firstContents.size() >= 2 && secondContents.size() >= 2));
+        verify(firstListener, atLeastOnce()).onHttpSuccess();
+        verify(secondListener, atLeastOnce()).onHttpSuccess();
+        registry.unsubscribe("first");
+        registry.unsubscribe("second");
+        assertEquals(0, registry.getSize());
+
+        // each response was passed to both subscribers, a response to the last request may have been discarded
+        int requests = WireMock.findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size();
+        assertTrue(requests <= firstContents.size() + 1);
+        assertTrue(requests <= secondContents.size() + 1);
+    }
+
+    @Test
+    public void testRequestsWithDifferentHeadersAreNotShared() {
+        HttpThingConfig otherConfig = thingConfig(1);
+        otherConfig.headers = new ArrayList<>(List.of("X-SMARTHOME=TESTVALUE"));
+
+        RefreshingUrlCache first = registry.subscribe("first", url, "", null, thingConfig(1), firstHttpClient,
+                mock(HttpStatusListener.class), List.of(firstContents::add));
+        RefreshingUrlCache second = registry.subscribe("second", url, "", null, otherConfig, secondHttpClient,
+                mock(HttpStatusListener.class), List.of(secondContents::add));
+
+        assertNotSame(first, second);
+        assertEquals(2, registry.getSize());
+        registry.unsubscribe("first");
+        registry.unsubscribe("second");
+    }
+
+    @Test
+    public void testRemainingSubscriberContinuesWithOwnClient() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        HttpStatusListener secondListener = mock(HttpStatusListener.class);
+
+        registry.subscribe("first", url, "", null, thingConfig(1), firstHttpClient, mock(HttpStatusListener.class),
+                List.of(firstContents::add));
+        registry.subscribe("second", url, "", null, thingConfig(1), secondHttpClient, secondListener,
+                List.of(secondContents::add));
+
+        // the first subscriber leaves and shuts down its client
+        registry.unsubscribe("first");
+        firstHttpClient.shutdown();
+
+        // the refresh continues for the second subscriber only
+        verify(secondListener, timeout(3000).atLeast(2)).onHttpSuccess();
+        int firstCount = firstContents.size();
+        int secondCount = secondContents.size();
+        waitForAssert(() -> assertTrue(secondContents.size() > secondCount));
+        assertEquals(firstCount, firstContents.size());
+        registry.unsubscribe("second");
+    }
+
+    @Test
+    public void testLateSubscriberReceivesUnchangedContent() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        HttpThingConfig firstConfig = thingConfig(1);
+        firstConfig.skipUnchanged = true;
+        HttpThingConfig secondConfig = thingConfig(1);
+        secondConfig.skipUnchanged = true;
+
+        RefreshingUrlCache cache = registry.subscribe("first", url, "", null, firstConfig, firstHttpClient,
+                mock(HttpStatusListener.class), List.of(firstContents::add));
+        waitForAssert(() -> assertTrue(firstContents.size() == 1 && cache.getSkippedUpdates() >= 1));
+
+        // the second subscriber joins while the unchanged content is skipped
+        registry.subscribe("second", url, "", null, secondConfig, secondHttpClient, mock(HttpStatusListener.class),
+                List.of(secondContents::add));
+
+        waitForAssert(() -> assertEquals(1, secondContents.size()));
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(secondContents.get(0)).getAsString());
+        registry.unsubscribe("first");
+        registry.unsubscribe("second");
+    }
+
+    private HttpThingConfig thingConfig(int refresh) {
+        HttpThingConfig thingConfig = new HttpThingConfig();
+        thingConfig.baseURL = "http://localhost:" + port;
+        thingConfig.timeout = 500;
+        thingConfig.refresh = refresh;
+        return thingConfig;
+    }
+}
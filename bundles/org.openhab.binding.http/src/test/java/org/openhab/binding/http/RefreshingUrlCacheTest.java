@@ -13,7 +13,9 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -48,6 +50,8 @@ import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
+
 /**
  * The {@link RefreshingUrlCacheTest} implements tests for the {@link RefreshingUrlCache}
  *
@@ -245,6 +249,43 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertTrue(returnedQueryValue.matches("\\d{4}-\\d{2}-\\d{2}"));
     }
 
+    @Test
+    public void testUnchangedContentIsSkipped() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until the unchanged content was received at least three times
+        waitForAssert(() -> assertTrue(urlCache.getRequests() >= 3 && urlCache.getSkippedUpdates() >= 2));
+        urlCache.stop();
+
+        // the consumer only received the content once
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+        assertEquals(0, urlCache.getNotModifiedResponses());
+    }
+
+    @Test
+    public void testConditionalRequestWithETag() {
+        stubFor(get(urlEqualTo(TEST_LOCATION))
+                .willReturn(aResponse().withHeader("ETag", "\"1\"").withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo("\"1\""))
+                .willReturn(aResponse().withStatus(304)));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        waitForAssert(() -> assertTrue(urlCache.getNotModifiedResponses() >= 2));
+        urlCache.stop();
+
+        // the consumer only received the content once, but it is still cached for REFRESH commands
+        WireMock.verify(getRequestedFor(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo("\"1\"")));
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, urlCache.getCached().map(ChannelHandlerContent::getAsString).orElse(null));
+    }
+
     /**
      * helper method to create a {@link RefreshingUrlCache} and add a test listener
      *
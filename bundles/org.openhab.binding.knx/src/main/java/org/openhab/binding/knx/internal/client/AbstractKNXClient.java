@@ -15,8 +15,11 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -107,7 +110,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    // listeners by the group addresses they are interested in, to dispatch telegrams without asking every listener
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    // group addresses the listeners were registered with, guarded by itself
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new HashMap<>();
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
 
     @FunctionalInterface
@@ -341,12 +347,19 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        long received = System.nanoTime();
+        KNXBusStatistics busStatistics = commandExtensionData.busStatistics();
+        Set<GroupAddressListener> listeners = groupAddressListeners.getOrDefault(destination, Set.of());
+        boolean isHandled = !listeners.isEmpty();
+        busStatistics.recordTelegram(task, isHandled);
+        for (GroupAddressListener listener : listeners) {
+            knxScheduler.schedule(() -> {
+                try {
+                    action.apply(listener, source, destination, asdu);
+                } finally {
+                    busStatistics.recordNotification(System.nanoTime() - received);
+                }
+            }, 0, TimeUnit.SECONDS);
         }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
@@ -520,12 +533,47 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        synchronized (listenerGroupAddresses) {
+            // a listener registering again may have changed its group addresses
+            removeFromIndex(listener, listenerGroupAddresses.put(listener, groupAddresses));
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, k -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (listenerGroupAddresses) {
+            removeFromIndex(listener, listenerGroupAddresses.remove(listener));
+        }
+    }
+
+    /**
+     * Returns the group addresses with registered listeners
+     */
+    Set<GroupAddress> getListenedGroupAddresses() {
+        return Set.copyOf(groupAddressListeners.keySet());
+    }
+
+    /**
+     * Returns the listener of the process communicator, which dispatches the received telegrams
+     */
+    ProcessListener getProcessListener() {
+        return processListener;
+    }
+
+    private void removeFromIndex(GroupAddressListener listener, @Nullable Set<GroupAddress> groupAddresses) {
+        if (groupAddresses == null) {
+            return;
+        }
+        for (GroupAddress groupAddress : groupAddresses) {
+            groupAddressListeners.computeIfPresent(groupAddress, (k, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+        }
     }
 
     @Override
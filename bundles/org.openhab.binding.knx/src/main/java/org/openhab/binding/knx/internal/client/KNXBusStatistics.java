@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link KNXBusStatistics} counts the group telegrams received from the bus and measures the time needed to pass
+ * them to the listeners. The values can be shown on the console using knx:bus-statistics.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class KNXBusStatistics {
+    /** Number of seconds the telegram rate is calculated for */
+    static final int RATE_WINDOW_SECONDS = 60;
+
+    private final Map<String, LongAdder> telegramsByType = new ConcurrentHashMap<>();
+    private final LongAdder unhandledTelegrams = new LongAdder();
+    private final LongAdder notifications = new LongAdder();
+    private final LongAdder notificationNanos = new LongAdder();
+    private final AtomicLong maxNotificationNanos = new AtomicLong();
+
+    // number of telegrams per second of the last RATE_WINDOW_SECONDS seconds
+    private final long[] telegramsPerSecond = new long[RATE_WINDOW_SECONDS];
+    private final long[] slotSeconds = new long[RATE_WINDOW_SECONDS];
+
+    /**
+     * Records a received group telegram.
+     *
+     * @param type the type of the telegram, e.g. "Group Write"
+     * @param handled whether any listener is interested in the destination of the telegram
+     */
+    public void recordTelegram(String type, boolean handled) {
+        telegramsByType.computeIfAbsent(type, k -> new LongAdder()).increment();
+        if (!handled) {
+            unhandledTelegrams.increment();
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        int slot = (int) (second % RATE_WINDOW_SECONDS);
+        synchronized (telegramsPerSecond) {
+            if (slotSeconds[slot] != second) {
+                slotSeconds[slot] = second;
+                telegramsPerSecond[slot] = 0;
+            }
+            telegramsPerSecond[slot]++;
+        }
+    }
+
+    /**
+     * Records the time from receiving a telegram until a listener has processed it.
+     *
+     * @param nanos the time in nanoseconds
+     */
+    public void recordNotification(long nanos) {
+        notifications.increment();
+        notificationNanos.add(nanos);
+        maxNotificationNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of received group telegrams per type
+     */
+    public SortedMap<String, Long> getTelegrams() {
+        SortedMap<String, Long> telegrams = new TreeMap<>();
+        telegramsByType.forEach((type, count) -> telegrams.put(type, count.sum()));
+        return telegrams;
+    }
+
+    /**
+     * Returns the number of received group telegrams no listener is interested in
+     */
+    public long getUnhandledTelegrams() {
+        return unhandledTelegrams.sum();
+    }
+
+    /**
+     * Returns the average number of group telegrams received per second during the last minute
+     */
+    public double getTelegramRate() {
+        long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long count = 0;
+        synchronized (telegramsPerSecond) {
+            for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+                if (now - slotSeconds[i] < RATE_WINDOW_SECONDS) {
+                    count += telegramsPerSecond[i];
+                }
+            }
+        }
+        return (double) count / RATE_WINDOW_SECONDS;
+    }
+
+    /**
+     * Returns the number of listener notifications
+     */
+    public long getNotifications() {
+        return notifications.sum();
+    }
+
+    /**
+     * Returns the average time in milliseconds from receiving a telegram until a listener has processed it
+     */
+    public double getAverageNotificationMillis() {
+        long count = notifications.sum();
+        return count == 0 ? 0 : (double) notificationNanos.sum() / count / 1_000_000;
+    }
+
+    /**
+     * Returns the maximum time in milliseconds from receiving a telegram until a listener has processed it
+     */
+    public double getMaxNotificationMillis() {
+        return (double) maxNotificationNanos.get() / 1_000_000;
+    }
+}
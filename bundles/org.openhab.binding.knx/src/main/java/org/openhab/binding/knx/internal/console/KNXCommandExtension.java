@@ -18,6 +18,7 @@ import java.util.Map.Entry;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.KNXBusStatistics;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -39,7 +40,9 @@ import org.osgi.service.component.annotations.Reference;
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_BUS_STATISTICS = "bus-statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_BUS_STATISTICS), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -61,13 +64,31 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
             }
             return;
         }
+        if (args.length == 1 && CMD_BUS_STATISTICS.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                KNXBusStatistics busStatistics = bridgeHandler.getCommandExtensionData().busStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel()
+                        + "\": group telegrams since last reload of binding:");
+                for (Entry<String, Long> entry : busStatistics.getTelegrams().entrySet()) {
+                    console.println("  " + entry.getKey() + ": " + entry.getValue());
+                }
+                console.println("  not configured in openHAB: " + busStatistics.getUnhandledTelegrams());
+                console.println(String.format("  telegrams per second (last minute): %.2f",
+                        busStatistics.getTelegramRate()));
+                console.println(String.format("  processing time: %.2f ms average, %.2f ms max (%d notifications)",
+                        busStatistics.getAverageNotificationMillis(), busStatistics.getMaxNotificationMillis(),
+                        busStatistics.getNotifications()));
+            }
+            return;
+        }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_BUS_STATISTICS, "show number, rate and processing time of group telegrams"));
     }
 
     @Override
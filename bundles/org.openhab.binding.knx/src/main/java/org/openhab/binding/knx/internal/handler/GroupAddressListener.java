@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -33,4 +35,10 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Returns the GroupAddresses the GroupAddressListener has an interest in. Telegrams are dispatched to the listener
+     * based on the GroupAddresses returned when it is registered at the client.
+     */
+    Set<GroupAddress> getGroupAddresses();
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
+import org.openhab.core.thing.ThingUID;
+
+import io.calimero.GroupAddress;
+import io.calimero.KNXException;
+import io.calimero.link.KNXNetworkLink;
+import io.calimero.process.ProcessCommunicator;
+import io.calimero.process.ProcessCommunicatorImpl;
+import io.calimero.secure.Security;
+
+/**
+ * Tests the dispatching of telegrams to the {@link GroupAddressListener}s registered at the {@link AbstractKNXClient}.
+ * The telegrams are sent with a process communicator on a {@link DummyKNXNetworkLink}, which loops them back to the
+ * listener of the client.
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+@NonNullByDefault
+class AbstractKNXClientTest {
+    private static final GroupAddress FIRST_GA = new GroupAddress(1, 2, 3);
+    private static final GroupAddress SECOND_GA = new GroupAddress(1, 2, 4);
+    private static final GroupAddress THIRD_GA = new GroupAddress(1, 2, 5);
+    private static final int TIMEOUT_MS = 3000;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final CommandExtensionData commandExtensionData = new CommandExtensionData(new TreeMap<>(),
+            new KNXBusStatistics());
+    private final TestKNXClient client = new TestKNXClient(scheduler, commandExtensionData);
+    private @NonNullByDefault({}) ProcessCommunicator processCommunicator;
+
+    @BeforeEach
+    void setUp() throws KNXException {
+        processCommunicator = new ProcessCommunicatorImpl(new DummyKNXNetworkLink());
+        processCommunicator.addProcessListener(client.getProcessListener());
+    }
+
+    @AfterEach
+    void tearDown() {
+        processCommunicator.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testTelegramsAreDispatchedToTheListenersOfTheGroupAddress() throws Exception {
+        GroupAddressListener first = listener(FIRST_GA);
+        GroupAddressListener second = listener(FIRST_GA, SECOND_GA);
+        GroupAddressListener third = listener(THIRD_GA);
+        client.registerGroupAddressListener(first);
+        client.registerGroupAddressListener(second);
+        client.registerGroupAddressListener(third);
+
+        processCommunicator.write(FIRST_GA, true);
+
+        verify(first, timeout(TIMEOUT_MS)).onGroupWrite(eq(client), any(), eq(FIRST_GA), any());
+        verify(second, timeout(TIMEOUT_MS)).onGroupWrite(eq(client), any(), eq(FIRST_GA), any());
+        assertEquals(0, commandExtensionData.busStatistics().getUnhandledTelegrams());
+        verify(third, never()).onGroupWrite(any(), any(), any(), any());
+        // the listeners are not asked whether they listen to the group address
+        verify(first, never()).listensTo(any());
+        verify(third, never()).listensTo(any());
+    }
+
+    @Test
+    void testRegisteringAgainUpdatesTheGroupAddresses() throws Exception {
+        GroupAddressListener listener = listener(FIRST_GA);
+        client.registerGroupAddressListener(listener);
+
+        // the channels of the thing are changed to another group address
+        when(listener.getGroupAddresses()).thenReturn(Set.of(SECOND_GA));
+        client.registerGroupAddressListener(listener);
+        assertEquals(Set.of(SECOND_GA), client.getListenedGroupAddresses());
+
+        processCommunicator.write(FIRST_GA, true);
+        processCommunicator.write(SECOND_GA, true);
+
+        verify(listener, timeout(TIMEOUT_MS)).onGroupWrite(eq(client), any(), eq(SECOND_GA), any());
+        verify(listener, never()).onGroupWrite(any(), any(), eq(FIRST_GA), any());
+        assertEquals(1, commandExtensionData.busStatistics().getUnhandledTelegrams());
+    }
+
+    @Test
+    void testUnregisteringRemovesEmptyGroupAddresses() {
+        GroupAddressListener first = listener(FIRST_GA, SECOND_GA);
+        GroupAddressListener second = listener(SECOND_GA);
+        client.registerGroupAddressListener(first);
+        client.registerGroupAddressListener(second);
+        assertEquals(Set.of(FIRST_GA, SECOND_GA), client.getListenedGroupAddresses());
+
+        client.unregisterGroupAddressListener(first);
+        assertEquals(Set.of(SECOND_GA), client.getListenedGroupAddresses());
+
+        client.unregisterGroupAddressListener(second);
+        assertEquals(Set.of(), client.getListenedGroupAddresses());
+
+        // unregistering a listener which is not registered is ignored
+        client.unregisterGroupAddressListener(second);
+        assertEquals(Set.of(), client.getListenedGroupAddresses());
+    }
+
+    private GroupAddressListener listener(GroupAddress... groupAddresses) {
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(Set.of(groupAddresses));
+        return listener;
+    }
+
+    private static class TestKNXClient extends AbstractKNXClient {
+        TestKNXClient(ScheduledExecutorService scheduler, CommandExtensionData commandExtensionData) {
+            super(0, new ThingUID("knx", "ip", "test"), 1, 0, 0, scheduler, commandExtensionData,
+                    Security.newSecurity(), mock(StatusUpdateCallback.class));
+        }
+
+        @Override
+        protected KNXNetworkLink establishConnection() throws KNXException {
+            throw new KNXException("the telegrams are sent with the process communicator of the test");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author openHAB Contributors - Initial contribution
+ *
+ */
+@NonNullByDefault
+class KNXBusStatisticsTest {
+    @Test
+    void testTelegramsAreCountedByType() {
+        KNXBusStatistics busStatistics = new KNXBusStatistics();
+        busStatistics.recordTelegram("Group Write", true);
+        busStatistics.recordTelegram("Group Write", false);
+        busStatistics.recordTelegram("Group Read Request", true);
+
+        assertEquals(Map.of("Group Read Request", 1L, "Group Write", 2L), busStatistics.getTelegrams());
+        assertEquals(1, busStatistics.getUnhandledTelegrams());
+        assertEquals(3.0 / KNXBusStatistics.RATE_WINDOW_SECONDS, busStatistics.getTelegramRate(), 1e-9);
+    }
+
+    @Test
+    void testNotificationTimes() {
+        KNXBusStatistics busStatistics = new KNXBusStatistics();
+        assertEquals(0, busStatistics.getAverageNotificationMillis());
+
+        busStatistics.recordNotification(1_000_000);
+        busStatistics.recordNotification(3_000_000);
+
+        assertEquals(2, busStatistics.getNotifications());
+        assertEquals(2.0, busStatistics.getAverageNotificationMillis(), 1e-9);
+        assertEquals(3.0, busStatistics.getMaxNotificationMillis(), 1e-9);
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.binding.modbus.handler;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -22,7 +23,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -86,7 +90,9 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             }
             logger.debug("Thing {} received response {}", thing.getUID(), result);
             notifyChildren(result);
+            polls.incrementAndGet();
             if (result.failure != null) {
+                pollErrors.incrementAndGet();
                 Exception error = result.failure.getCause();
                 assert error != null;
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
@@ -189,6 +195,11 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable ModbusReadPlanner readPlanner;
+    private volatile ModbusReadPlanner.@Nullable Registration plannedPoll;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong pollErrors = new AtomicLong();
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -297,6 +308,20 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         lastPolledDataCache.set(null);
     }
 
+    /**
+     * Returns the number of poll results received since the handler was created
+     */
+    public long getPolls() {
+        return polls.get();
+    }
+
+    /**
+     * Returns the number of failed polls since the handler was created
+     */
+    public long getPollErrors() {
+        return pollErrors.get();
+    }
+
     /**
      * Unregister poll task.
      *
@@ -312,7 +337,16 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        ModbusReadPlanner localReadPlanner = this.readPlanner;
+        ModbusReadPlanner.Registration localPlannedPoll = this.plannedPoll;
+        if (localReadPlanner != null && localPlannedPoll != null) {
+            logger.debug("Unregistering polling from endpoint");
+            localReadPlanner.unregister(localPlannedPoll);
+        }
         this.pollTask = null;
+        this.readPlanner = null;
+        this.plannedPoll = null;
+        this.writeCoalescer = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +361,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || plannedPoll != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -357,14 +391,27 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 localFunctionCode, config.getStart(), config.getLength(), config.getMaxTries());
         this.request = localRequest;
 
+        ModbusReadPlanner localReadPlanner = null;
+        if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+            localReadPlanner = endpointHandler.getReadPlanner();
+            writeCoalescer = endpointHandler.getWriteCoalescer();
+        }
         if (config.getRefresh() <= 0L) {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
         } else {
-            logger.debug("Registering polling with ModbusManager");
-            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
-                    callbackDelegator);
-            assert pollTask != null;
+            if (localReadPlanner != null) {
+                // the endpoint may coalesce the polls of several pollers into one read
+                logger.debug("Registering polling with endpoint");
+                readPlanner = localReadPlanner;
+                plannedPoll = localReadPlanner.register(localRequest, config.getRefresh(), callbackDelegator,
+                        callbackDelegator);
+            } else {
+                logger.debug("Registering polling with ModbusManager");
+                pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
+                        callbackDelegator);
+                assert pollTask != null;
+            }
             updateStatus(ThingStatus.ONLINE);
         }
     }
@@ -417,6 +464,18 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         return comms;
     }
 
+    /**
+     * Get write coalescer of the endpoint of this poller
+     *
+     * Note that this can be <code>null</code> in case initialization is not complete, or if the endpoint does not
+     * coalesce writes.
+     *
+     * @return write coalescer of the endpoint
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
     /**
      * Refresh the data
      *
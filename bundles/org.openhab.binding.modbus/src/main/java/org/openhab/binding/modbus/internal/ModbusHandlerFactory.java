@@ -15,7 +15,10 @@ package org.openhab.binding.modbus.internal;
 import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal.*;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -41,14 +44,26 @@ import org.slf4j.LoggerFactory;
  *
  * @author Sami Salonen - Initial contribution
  */
-@Component(service = ThingHandlerFactory.class, configurationPid = "binding.modbus")
+@Component(service = { ThingHandlerFactory.class, ModbusHandlerFactory.class }, configurationPid = "binding.modbus")
 @NonNullByDefault
 public class ModbusHandlerFactory extends BaseThingHandlerFactory {
 
+    /**
+     * Listener of the handlers created and removed by this factory
+     */
+    public interface HandlerListener {
+        void handlerAdded(ThingHandler handler);
+
+        void handlerRemoved(ThingHandler handler);
+    }
+
     private final Logger logger = LoggerFactory.getLogger(ModbusHandlerFactory.class);
 
     private @NonNullByDefault({}) ModbusManager manager;
 
+    private final Set<ThingHandler> handlers = ConcurrentHashMap.newKeySet();
+    private final List<HandlerListener> handlerListeners = new CopyOnWriteArrayList<>();
+
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = new HashSet<>();
     static {
         SUPPORTED_THING_TYPES_UIDS.add(THING_TYPE_MODBUS_TCP);
@@ -64,6 +79,14 @@ public class ModbusHandlerFactory extends BaseThingHandlerFactory {
 
     @Override
     protected @Nullable ThingHandler createHandler(Thing thing) {
+        ThingHandler handler = newHandler(thing);
+        if (handler != null) {
+            trackHandler(handler);
+        }
+        return handler;
+    }
+
+    private @Nullable ThingHandler newHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (thingTypeUID.equals(THING_TYPE_MODBUS_TCP)) {
             logger.debug("createHandler Modbus tcp");
@@ -84,6 +107,32 @@ public class ModbusHandlerFactory extends BaseThingHandlerFactory {
         return null;
     }
 
+    @Override
+    protected void removeHandler(ThingHandler thingHandler) {
+        synchronized (this) {
+            handlers.remove(thingHandler);
+            handlerListeners.forEach(listener -> listener.handlerRemoved(thingHandler));
+        }
+        super.removeHandler(thingHandler);
+    }
+
+    private synchronized void trackHandler(ThingHandler handler) {
+        handlers.add(handler);
+        handlerListeners.forEach(listener -> listener.handlerAdded(handler));
+    }
+
+    /**
+     * Adds a listener and notifies it of all handlers created so far.
+     */
+    public synchronized void addHandlerListener(HandlerListener listener) {
+        handlerListeners.add(listener);
+        handlers.forEach(listener::handlerAdded);
+    }
+
+    public synchronized void removeHandlerListener(HandlerListener listener) {
+        handlerListeners.remove(listener);
+    }
+
     @Reference
     public void setModbusManager(ModbusManager manager) {
         logger.debug("Setting manager: {}", manager);
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
+import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.openhab.io.metrics.api.AddonMeters;
+import org.openhab.io.metrics.api.AddonMetricsService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link ModbusMetrics} publishes the counts kept by the Modbus thing handlers with the
+ * {@link AddonMetricsService}.
+ *
+ * This is the only class of the binding using the metrics API, which is imported optionally. The component is only
+ * activated when the metrics service is available, so the binding starts without it.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(immediate = true)
+@NonNullByDefault
+public class ModbusMetrics implements ModbusHandlerFactory.HandlerListener {
+
+    private static final String METER_PHYSICAL_READS = "openhab.addon.modbus.reads";
+    private static final String METER_WRITE_TRANSACTIONS = "openhab.addon.modbus.writes";
+
+    private final AddonMetricsService metricsService;
+    private final ModbusHandlerFactory handlerFactory;
+    private final Map<ThingHandler, AddonMeters> handlerMeters = new ConcurrentHashMap<>();
+
+    @Activate
+    public ModbusMetrics(@Reference AddonMetricsService metricsService,
+            @Reference ModbusHandlerFactory handlerFactory) {
+        this.metricsService = metricsService;
+        this.handlerFactory = handlerFactory;
+        handlerFactory.addHandlerListener(this);
+    }
+
+    /**
+     * Registers the meters of a handler.
+     */
+    @Override
+    public void handlerAdded(ThingHandler handler) {
+        AddonMeters meters = metricsService.forThing(handler.getThing().getUID());
+        if (handler instanceof ModbusPollerThingHandler poller) {
+            meters.counter(AddonMetricsService.MESSAGES, poller::getPolls);
+            meters.counter(AddonMetricsService.ERRORS, poller::getPollErrors);
+        } else if (handler instanceof ModbusDataThingHandler data) {
+            meters.counter(AddonMetricsService.MESSAGES, () -> data.getDecodedUpdates() + data.getSkippedUpdates());
+            meters.counter(AddonMetricsService.ERRORS, data::getErrors);
+            meters.timer(AddonMetricsService.COMMAND_LATENCY, data::getWriteResponses,
+                    data::getTotalWriteLatencyNanos);
+        } else if (handler instanceof AbstractModbusEndpointThingHandler<?, ?> endpoint) {
+            // planner and coalescer are created again when the endpoint is initialized
+            meters.gauge(AddonMetricsService.QUEUE_DEPTH, () -> {
+                ModbusWriteCoalescer writeCoalescer = endpoint.getWriteCoalescer();
+                return writeCoalescer == null ? 0 : writeCoalescer.getPendingWrites();
+            });
+            meters.counter(METER_PHYSICAL_READS, () -> {
+                ModbusReadPlanner readPlanner = endpoint.getReadPlanner();
+                return readPlanner == null ? 0 : readPlanner.getPhysicalReads();
+            });
+            meters.timer(AddonMetricsService.POLL_DURATION, () -> {
+                ModbusReadPlanner readPlanner = endpoint.getReadPlanner();
+                return readPlanner == null ? 0 : readPlanner.getPollCycles();
+            }, () -> {
+                ModbusReadPlanner readPlanner = endpoint.getReadPlanner();
+                return readPlanner == null ? 0 : readPlanner.getTotalPollCycleNanos();
+            });
+            meters.counter(METER_WRITE_TRANSACTIONS, () -> {
+                ModbusWriteCoalescer writeCoalescer = endpoint.getWriteCoalescer();
+                return writeCoalescer == null ? 0 : writeCoalescer.getTransactions();
+            });
+        }
+        AddonMeters previousMeters = handlerMeters.put(handler, meters);
+        if (previousMeters != null) {
+            previousMeters.close();
+        }
+    }
+
+    /**
+     * Removes the meters of a handler.
+     */
+    @Override
+    public void handlerRemoved(ThingHandler handler) {
+        AddonMeters meters = handlerMeters.remove(handler);
+        if (meters != null) {
+            meters.close();
+        }
+    }
+
+    /**
+     * Removes the meters of all handlers.
+     */
+    @Deactivate
+    public void dispose() {
+        handlerFactory.removeHandlerListener(this);
+        handlerMeters.values().forEach(AddonMeters::close);
+        handlerMeters.clear();
+    }
+}
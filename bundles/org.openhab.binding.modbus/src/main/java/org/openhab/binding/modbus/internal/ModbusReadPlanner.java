@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ModbusReadPlanner} coalesces the regular polls of the pollers of one endpoint.
+ *
+ * Polls of the same slave, function code and poll period are merged into as few physical reads as possible:
+ * overlapping ranges and ranges separated by at most <code>maxGap</code> registers (or bits) are read in one
+ * transaction, as long as the protocol limit of registers (or bits) per read is respected. The response is then split
+ * back into one result per registered poll, so the callbacks receive the same data as with separate reads.
+ *
+ * When the polls of a group change, only the reads of that group which are affected are registered again, so the
+ * schedule of the other reads is not disturbed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlanner {
+
+    /**
+     * Delay before the polls of a group are planned again, so that pollers initializing at the same time are merged
+     * in one go
+     */
+    private static final long REPLAN_DELAY_MILLIS = 200;
+
+    /**
+     * A regular poll registered with the planner
+     */
+    public static class Registration {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private Registration(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+                ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        private Range getRange() {
+            return new Range(request.getReference(), request.getDataLength());
+        }
+    }
+
+    /**
+     * Range of registers or bits
+     */
+    record Range(int start, int length) {
+        int end() {
+            return start + length;
+        }
+
+        boolean contains(Range other) {
+            return other.start >= start && other.end() <= end();
+        }
+    }
+
+    /**
+     * Polls that may be merged with each other
+     */
+    private record GroupKey(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis) {
+    }
+
+    /**
+     * One physical read and the registered polls it serves
+     */
+    private class Block implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final Range range;
+        private final ModbusReadRequestBlueprint request;
+        private final List<Registration> members;
+        private @Nullable PollTask pollTask;
+        private volatile long lastResponseNanos;
+
+        private Block(Range range, ModbusReadRequestBlueprint request, List<Registration> members) {
+            this.range = range;
+            this.request = request;
+            this.members = members;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            countRead();
+            for (Registration member : members) {
+                if (member.request == request) {
+                    member.resultCallback.handle(result);
+                    continue;
+                }
+                AsyncModbusReadResult memberResult;
+                try {
+                    memberResult = slice(result, member.request);
+                } catch (IllegalStateException e) {
+                    member.failureCallback.handle(new AsyncModbusFailure<>(member.request, e));
+                    continue;
+                }
+                member.resultCallback.handle(memberResult);
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            countRead();
+            for (Registration member : members) {
+                member.failureCallback.handle(member.request == request ? failure
+                        : new AsyncModbusFailure<>(member.request, failure.getCause()));
+            }
+        }
+
+        private void countRead() {
+            physicalReads.incrementAndGet();
+            servedReads.addAndGet(members.size());
+            transferredUnits.addAndGet(request.getDataLength());
+
+            // time between two responses of the same read, i.e. the actual poll period
+            long now = System.nanoTime();
+            long last = lastResponseNanos;
+            lastResponseNanos = now;
+            if (last != 0) {
+                long cycleNanos = now - last;
+                pollCycles.incrementAndGet();
+                totalPollCycleNanos.addAndGet(cycleNanos);
+                maxPollCycleNanos.accumulateAndGet(cycleNanos, Math::max);
+            }
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusReadPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final int maxGap;
+
+    private final Map<GroupKey, List<Registration>> registrations = new HashMap<>();
+    private final Map<GroupKey, List<Block>> blocks = new HashMap<>();
+    private final Map<GroupKey, ScheduledFuture<?>> pendingReplans = new HashMap<>();
+    private boolean disposed;
+
+    private final AtomicLong physicalReads = new AtomicLong();
+    private final AtomicLong servedReads = new AtomicLong();
+    private final AtomicLong transferredUnits = new AtomicLong();
+    private final AtomicLong pollCycles = new AtomicLong();
+    private final AtomicLong totalPollCycleNanos = new AtomicLong();
+    private final AtomicLong maxPollCycleNanos = new AtomicLong();
+
+    /**
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler used to delay the planning
+     * @param maxGap maximum number of unused registers (or bits) between two merged ranges
+     */
+    public ModbusReadPlanner(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler, int maxGap) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.maxGap = maxGap;
+    }
+
+    /**
+     * Registers a regular poll.
+     *
+     * @param request the read request
+     * @param pollPeriodMillis poll period in milliseconds
+     * @param resultCallback callback receiving the data of the request
+     * @param failureCallback callback receiving errors of the request
+     * @return registration to be used with {@link #unregister(Registration)}
+     */
+    public synchronized Registration register(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        Registration registration = new Registration(request, pollPeriodMillis, resultCallback, failureCallback);
+        if (disposed) {
+            return registration;
+        }
+        GroupKey key = groupKey(registration);
+        registrations.computeIfAbsent(key, k -> new ArrayList<>()).add(registration);
+        scheduleReplan(key);
+        return registration;
+    }
+
+    /**
+     * Unregisters a regular poll. Unknown registrations are ignored.
+     */
+    public synchronized void unregister(Registration registration) {
+        if (disposed) {
+            return;
+        }
+        GroupKey key = groupKey(registration);
+        List<Registration> group = registrations.get(key);
+        if (group != null && group.remove(registration)) {
+            scheduleReplan(key);
+        }
+    }
+
+    /**
+     * Unregisters all polls from the communication interface.
+     */
+    public synchronized void dispose() {
+        disposed = true;
+        pendingReplans.values().forEach(future -> future.cancel(false));
+        pendingReplans.clear();
+        blocks.values().forEach(groupBlocks -> groupBlocks.forEach(this::unregisterBlock));
+        blocks.clear();
+        registrations.clear();
+    }
+
+    /**
+     * Returns the number of physical reads since the planner was created
+     */
+    public long getPhysicalReads() {
+        return physicalReads.get();
+    }
+
+    /**
+     * Returns the number of registered polls served by the physical reads since the planner was created
+     */
+    public long getServedReads() {
+        return servedReads.get();
+    }
+
+    /**
+     * Returns the number of registers (or bits) read since the planner was created, including the gaps
+     */
+    public long getTransferredUnits() {
+        return transferredUnits.get();
+    }
+
+    /**
+     * Returns the number of times the time between two responses of the same physical read has been measured
+     */
+    public long getPollCycles() {
+        return pollCycles.get();
+    }
+
+    /**
+     * Returns the sum of the measured times between two responses of the same physical read, in nanoseconds
+     */
+    public long getTotalPollCycleNanos() {
+        return totalPollCycleNanos.get();
+    }
+
+    /**
+     * Returns the average time between two responses of the same physical read, i.e. the actual poll period
+     */
+    public long getAveragePollCycleMillis() {
+        long cycles = pollCycles.get();
+        return cycles > 0 ? TimeUnit.NANOSECONDS.toMillis(totalPollCycleNanos.get() / cycles) : 0;
+    }
+
+    /**
+     * Returns the longest time between two responses of the same physical read
+     */
+    public long getMaxPollCycleMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxPollCycleNanos.get());
+    }
+
+    /**
+     * Returns the number of physical reads currently registered
+     */
+    public synchronized int getPlannedReads() {
+        return blocks.values().stream().mapToInt(List::size).sum();
+    }
+
+    private GroupKey groupKey(Registration registration) {
+        ModbusReadRequestBlueprint request = registration.request;
+        return new GroupKey(request.getUnitID(), request.getFunctionCode(), registration.pollPeriodMillis);
+    }
+
+    private void scheduleReplan(GroupKey key) {
+        if (!pendingReplans.containsKey(key)) {
+            pendingReplans.put(key, scheduler.schedule(() -> replan(key), REPLAN_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private synchronized void replan(GroupKey key) {
+        pendingReplans.remove(key);
+        if (disposed) {
+            return;
+        }
+        List<Registration> group = registrations.getOrDefault(key, List.of());
+        List<Range> merged = merge(group.stream().map(Registration::getRange).toList(), maxLength(key.functionCode()),
+                maxGap);
+        List<Block> unusedBlocks = new ArrayList<>(blocks.getOrDefault(key, List.of()));
+        List<Block> newBlocks = new ArrayList<>(merged.size());
+        List<Range> changedRanges = new ArrayList<>();
+        // merged ranges overlap when the maximum length prevented merging them, a poll contained in several of them
+        // is only served by the first one
+        List<Registration> unassigned = new ArrayList<>(group);
+        for (Range range : merged) {
+            List<Registration> members = unassigned.stream().filter(r -> range.contains(r.getRange())).toList();
+            if (members.isEmpty()) {
+                continue;
+            }
+            unassigned.removeAll(members);
+            Optional<Block> unchanged = unusedBlocks.stream()
+                    .filter(block -> block.range.equals(range) && block.members.equals(members)).findFirst();
+            if (unchanged.isPresent()) {
+                // keep the read and its schedule
+                unusedBlocks.remove(unchanged.get());
+                newBlocks.add(unchanged.get());
+            } else {
+                newBlocks.add(new Block(range, blockRequest(key, range, members), members));
+                changedRanges.add(range);
+            }
+        }
+        unusedBlocks.forEach(this::unregisterBlock);
+        for (Block block : newBlocks) {
+            if (block.pollTask == null) {
+                block.pollTask = comms.registerRegularPoll(block.request, key.pollPeriodMillis(), 0, block, block);
+            }
+        }
+        if (newBlocks.isEmpty()) {
+            blocks.remove(key);
+            registrations.remove(key);
+        } else {
+            blocks.put(key, newBlocks);
+        }
+        logger.debug("Coalesced {} polls of slave {} ({}, every {} ms) into {} reads, registered again: {}",
+                group.size(), key.slaveId(), key.functionCode(), key.pollPeriodMillis(), newBlocks.size(),
+                changedRanges);
+    }
+
+    private void unregisterBlock(Block block) {
+        PollTask pollTask = block.pollTask;
+        if (pollTask != null) {
+            comms.unregisterRegularPoll(pollTask);
+            block.pollTask = null;
+        }
+    }
+
+    private static ModbusReadRequestBlueprint blockRequest(GroupKey key, Range range, List<Registration> members) {
+        if (members.size() == 1 && members.get(0).getRange().equals(range)) {
+            // nothing merged, results can be passed on unchanged
+            return members.get(0).request;
+        }
+        int maxTries = members.stream().mapToInt(r -> r.request.getMaxTries()).max().orElse(1);
+        return new ModbusReadRequestBlueprint(key.slaveId(), key.functionCode(), range.start(), range.length(),
+                maxTries);
+    }
+
+    private static int maxLength(ModbusReadFunctionCode functionCode) {
+        return switch (functionCode) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+    }
+
+    /**
+     * Merges overlapping and nearly adjacent ranges.
+     *
+     * @param ranges ranges to merge
+     * @param maxLength maximum length of a merged range
+     * @param maxGap maximum number of unused registers (or bits) between two merged ranges
+     * @return merged ranges, sorted by start. Each of the given ranges is contained in at least one of them. Merged
+     *         ranges may overlap when merging them would exceed the maximum length.
+     */
+    static List<Range> merge(Collection<Range> ranges, int maxLength, int maxGap) {
+        List<Range> sorted = ranges.stream()
+                .sorted(Comparator.comparingInt(Range::start).thenComparingInt(Range::length)).toList();
+        List<Range> merged = new ArrayList<>();
+        @Nullable
+        Range current = null;
+        for (Range range : sorted) {
+            if (current != null) {
+                int end = Math.max(current.end(), range.end());
+                if (range.start() - current.end() <= maxGap && end - current.start() <= maxLength) {
+                    current = new Range(current.start(), end - current.start());
+                    continue;
+                }
+                merged.add(current);
+            }
+            current = range;
+        }
+        if (current != null) {
+            merged.add(current);
+        }
+        return merged;
+    }
+
+    /**
+     * Extracts the data of one request from the result of a merged read.
+     *
+     * @throws IllegalStateException if the result does not contain the data of the request
+     */
+    static AsyncModbusReadResult slice(AsyncModbusReadResult result, ModbusReadRequestBlueprint request) {
+        int offset = request.getReference() - result.getRequest().getReference();
+        int length = request.getDataLength();
+        Optional<ModbusRegisterArray> registers = result.getRegisters();
+        if (registers.isPresent()) {
+            byte[] bytes = registers.get().getBytes();
+            if (offset < 0 || (offset + length) * 2 > bytes.length) {
+                throw new IllegalStateException(String.format(
+                        "Response with %d registers does not contain registers %d-%d of the merged read",
+                        bytes.length / 2, offset, offset + length - 1));
+            }
+            return new AsyncModbusReadResult(request,
+                    new ModbusRegisterArray(Arrays.copyOfRange(bytes, offset * 2, (offset + length) * 2)));
+        }
+        Optional<BitArray> bits = result.getBits();
+        if (bits.isPresent()) {
+            BitArray allBits = bits.get();
+            if (offset < 0 || offset + length > allBits.size()) {
+                throw new IllegalStateException(String.format(
+                        "Response with %d bits does not contain bits %d-%d of the merged read", allBits.size(),
+                        offset, offset + length - 1));
+            }
+            BitArray requestBits = new BitArray(length);
+            for (int i = 0; i < length; i++) {
+                requestBits.setBit(i, allBits.getBit(offset + i));
+            }
+            return new AsyncModbusReadResult(request, requestBits);
+        }
+        throw new IllegalStateException("Response contains neither registers nor bits");
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ModbusWriteCoalescer} submits the writes of the data things of one endpoint.
+ *
+ * When a coalescing window is configured, writes are collected for that time and writes of contiguous holding
+ * registers (or coils) of the same slave are merged into one "write multiple registers" (FC16) or "write multiple
+ * coils" (FC15) transaction. Every original write still receives its own result or failure callback.
+ *
+ * Writes to overlapping addresses are never merged, so that their order is kept.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteCoalescer {
+
+    /** Maximum number of registers of a "write multiple registers" request, according to the protocol */
+    static final int MAX_REGISTERS_WRITE_COUNT = 123;
+    /** Maximum number of coils of a "write multiple coils" request, according to the protocol */
+    static final int MAX_COILS_WRITE_COUNT = 1968;
+
+    /**
+     * A write waiting for the coalescing window to end
+     */
+    record PendingWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+
+        int start() {
+            return request.getReference();
+        }
+
+        int length() {
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                return registerRequest.getRegisters().size();
+            } else if (request instanceof ModbusWriteCoilRequestBlueprint coilRequest) {
+                return coilRequest.getCoils().size();
+            }
+            return 0;
+        }
+
+        int end() {
+            return start() + length();
+        }
+    }
+
+    /**
+     * Writes that may be merged with each other
+     */
+    private record GroupKey(int slaveId, boolean coils) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteCoalescer.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+
+    private List<PendingWrite> pendingWrites = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean disposed;
+
+    private final AtomicLong submittedWrites = new AtomicLong();
+    private final AtomicLong transactions = new AtomicLong();
+
+    /**
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler used to end the coalescing window
+     * @param windowMillis time writes are collected before they are submitted. Writes are submitted immediately if
+     *            zero or negative.
+     */
+    public ModbusWriteCoalescer(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler,
+            long windowMillis) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Submits a write, possibly merged with other writes.
+     *
+     * @param request the write request
+     * @param resultCallback callback receiving the result of the request
+     * @param failureCallback callback receiving errors of the request
+     */
+    public void submit(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        submittedWrites.incrementAndGet();
+        synchronized (this) {
+            if (windowMillis > 0 && !disposed && (request instanceof ModbusWriteRegisterRequestBlueprint
+                    || request instanceof ModbusWriteCoilRequestBlueprint)) {
+                pendingWrites.add(new PendingWrite(request, resultCallback, failureCallback));
+                if (flushJob == null) {
+                    flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        transactions.incrementAndGet();
+        comms.submitOneTimeWrite(request, resultCallback, failureCallback);
+    }
+
+    /**
+     * Submits the pending writes and submits all further writes immediately.
+     */
+    public void dispose() {
+        synchronized (this) {
+            disposed = true;
+            ScheduledFuture<?> localFlushJob = flushJob;
+            if (localFlushJob != null) {
+                localFlushJob.cancel(false);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Returns the number of writes submitted by the data things
+     */
+    public long getSubmittedWrites() {
+        return submittedWrites.get();
+    }
+
+    /**
+     * Returns the number of writes waiting for the coalescing window to end
+     */
+    public synchronized int getPendingWrites() {
+        return pendingWrites.size();
+    }
+
+    /**
+     * Returns the number of write transactions submitted to the communication interface
+     */
+    public long getTransactions() {
+        return transactions.get();
+    }
+
+    private void flush() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            writes = pendingWrites;
+            pendingWrites = new ArrayList<>();
+            flushJob = null;
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+        Map<GroupKey, List<PendingWrite>> groups = new LinkedHashMap<>();
+        for (PendingWrite write : writes) {
+            groups.computeIfAbsent(new GroupKey(write.request().getUnitID(),
+                    write.request() instanceof ModbusWriteCoilRequestBlueprint), k -> new ArrayList<>()).add(write);
+        }
+        groups.forEach((key, group) -> {
+            int maxLength = key.coils() ? MAX_COILS_WRITE_COUNT : MAX_REGISTERS_WRITE_COUNT;
+            for (List<PendingWrite> run : plan(group, maxLength)) {
+                submitRun(run);
+            }
+        });
+    }
+
+    /**
+     * Splits writes into runs of contiguous addresses.
+     *
+     * @param writes writes of one slave and type, in submission order
+     * @param maxLength maximum number of registers (or coils) of a run
+     * @return runs of writes, each to be submitted as one transaction. If any writes overlap, every write is a run of
+     *         its own, in submission order.
+     */
+    static List<List<PendingWrite>> plan(List<PendingWrite> writes, int maxLength) {
+        List<PendingWrite> sorted = writes.stream().sorted(Comparator.comparingInt(PendingWrite::start)).toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).start() < sorted.get(i - 1).end()) {
+                return writes.stream().map(List::of).toList();
+            }
+        }
+        List<List<PendingWrite>> runs = new ArrayList<>();
+        List<PendingWrite> run = new ArrayList<>();
+        for (PendingWrite write : sorted) {
+            if (!run.isEmpty()) {
+                PendingWrite first = run.get(0);
+                PendingWrite last = run.get(run.size() - 1);
+                if (write.start() != last.end() || write.end() - first.start() > maxLength) {
+                    runs.add(run);
+                    run = new ArrayList<>();
+                }
+            }
+            run.add(write);
+        }
+        if (!run.isEmpty()) {
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    /**
+     * Creates the request writing all writes of a run.
+     */
+    static ModbusWriteRequestBlueprint merge(List<PendingWrite> run) {
+        PendingWrite first = run.get(0);
+        int slaveId = first.request().getUnitID();
+        int maxTries = run.stream().mapToInt(write -> write.request().getMaxTries()).max().orElse(1);
+        int length = run.stream().mapToInt(PendingWrite::length).sum();
+        if (first.request() instanceof ModbusWriteCoilRequestBlueprint) {
+            BitArray coils = new BitArray(length);
+            int index = 0;
+            for (PendingWrite write : run) {
+                BitArray writeCoils = ((ModbusWriteCoilRequestBlueprint) write.request()).getCoils();
+                for (int i = 0; i < writeCoils.size(); i++) {
+                    coils.setBit(index++, writeCoils.getBit(i));
+                }
+            }
+            return new ModbusWriteCoilRequestBlueprint(slaveId, first.start(), coils, true, maxTries);
+        }
+        byte[] bytes = new byte[length * 2];
+        int index = 0;
+        for (PendingWrite write : run) {
+            byte[] writeBytes = ((ModbusWriteRegisterRequestBlueprint) write.request()).getRegisters().getBytes();
+            System.arraycopy(writeBytes, 0, bytes, index, writeBytes.length);
+            index += writeBytes.length;
+        }
+        return new ModbusWriteRegisterRequestBlueprint(slaveId, first.start(), new ModbusRegisterArray(bytes), true,
+                maxTries);
+    }
+
+    private void submitRun(List<PendingWrite> run) {
+        transactions.incrementAndGet();
+        if (run.size() == 1) {
+            PendingWrite write = run.get(0);
+            comms.submitOneTimeWrite(write.request(), write.resultCallback(), write.failureCallback());
+            return;
+        }
+        ModbusWriteRequestBlueprint request = merge(run);
+        logger.debug("Coalesced {} writes into {}", run.size(), request);
+        comms.submitOneTimeWrite(request, result -> {
+            for (PendingWrite write : run) {
+                write.resultCallback().handle(new AsyncModbusWriteResult(write.request(), result.getResponse()));
+            }
+        }, failure -> {
+            for (PendingWrite write : run) {
+                write.failureCallback().handle(new AsyncModbusFailure<>(write.request(), failure.getCause()));
+            }
+        });
+    }
+}
@@ -39,6 +39,9 @@ public class ModbusSerialConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean coalesceReads;
+    private int coalesceReadsMaxGap;
+    private int coalesceWritesMillis;
 
     public @Nullable String getPort() {
         return port;
@@ -167,4 +170,28 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isCoalesceReads() {
+        return coalesceReads;
+    }
+
+    public void setCoalesceReads(boolean coalesceReads) {
+        this.coalesceReads = coalesceReads;
+    }
+
+    public int getCoalesceReadsMaxGap() {
+        return coalesceReadsMaxGap;
+    }
+
+    public void setCoalesceReadsMaxGap(int coalesceReadsMaxGap) {
+        this.coalesceReadsMaxGap = coalesceReadsMaxGap;
+    }
+
+    public int getCoalesceWritesMillis() {
+        return coalesceWritesMillis;
+    }
+
+    public void setCoalesceWritesMillis(int coalesceWritesMillis) {
+        this.coalesceWritesMillis = coalesceWritesMillis;
+    }
 }
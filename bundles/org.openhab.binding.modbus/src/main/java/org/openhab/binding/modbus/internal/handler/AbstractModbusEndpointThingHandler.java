@@ -17,6 +17,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -46,8 +48,13 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @Nullable E endpoint;
     protected ModbusManager modbusManager;
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
+    protected volatile boolean coalesceReads;
+    protected volatile int coalesceReadsMaxGap;
+    protected volatile int coalesceWritesMillis;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusReadPlanner readPlanner;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +83,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    readPlanner = coalesceReads ? new ModbusReadPlanner(comms, scheduler, coalesceReadsMaxGap) : null;
+                    writeCoalescer = new ModbusWriteCoalescer(comms, scheduler, coalesceWritesMillis);
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +102,21 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusReadPlanner localReadPlanner = readPlanner;
+        if (localReadPlanner != null) {
+            logger.debug("Endpoint {} read {} times for {} polls, poll cycle average {} ms, max {} ms", thing.getUID(),
+                    localReadPlanner.getPhysicalReads(), localReadPlanner.getServedReads(),
+                    localReadPlanner.getAveragePollCycleMillis(), localReadPlanner.getMaxPollCycleMillis());
+            localReadPlanner.dispose();
+            readPlanner = null;
+        }
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        if (localWriteCoalescer != null) {
+            logger.debug("Endpoint {} submitted {} write transactions for {} writes", thing.getUID(),
+                    localWriteCoalescer.getTransactions(), localWriteCoalescer.getSubmittedWrites());
+            localWriteCoalescer.dispose();
+            writeCoalescer = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +134,28 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Returns the planner for the regular polls of the pollers of this endpoint
+     *
+     * Note that this is <code>null</code> if reads are not coalesced or in case of incomplete initialization
+     *
+     * @return read planner of this endpoint
+     */
+    public @Nullable ModbusReadPlanner getReadPlanner() {
+        return readPlanner;
+    }
+
+    /**
+     * Returns the coalescer for the writes of the data things of this endpoint
+     *
+     * Note that this can be <code>null</code> in case of incomplete initialization
+     *
+     * @return write coalescer of this endpoint
+     */
+    public @Nullable ModbusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -119,7 +165,7 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     public abstract int getSlaveId() throws EndpointNotInitializedException;
 
     /**
-     * Must be overriden by subclasses to initialize config, endpoint, and poolConfiguration
+     * Must be overriden by subclasses to initialize config, endpoint, poolConfiguration and read coalescing
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
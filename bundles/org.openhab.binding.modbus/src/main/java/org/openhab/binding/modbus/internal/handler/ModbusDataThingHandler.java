@@ -17,14 +17,17 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,6 +38,7 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
 import org.openhab.binding.modbus.internal.ModbusTransformation;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -142,11 +146,23 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile boolean writeParametersHavingTransformationOnly;
     private volatile boolean childOfEndpoint;
     private volatile @Nullable ModbusPollerThingHandler pollerHandler;
+    private volatile @Nullable ModbusWriteCoalescer writeCoalescer;
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
+    // raw data of the last decoded read, used to skip decoding when the data has not changed
+    private volatile byte @Nullable [] lastReadRegisters;
+    private volatile @Nullable Boolean lastReadBit;
+    private volatile long lastDecodedMillis;
+    private final AtomicLong decodedUpdates = new AtomicLong();
+    private final AtomicLong skippedUpdates = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong writeResponses = new AtomicLong();
+    private final AtomicLong totalWriteLatencyNanos = new AtomicLong();
+    // start times of the pending writes, by request instance
+    private final Map<ModbusWriteRequestBlueprint, Long> writeSubmittedNanos = new IdentityHashMap<>();
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
             null);
 
@@ -162,6 +178,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (config == null) {
             return;
         }
+        // The state of the channels should be updated with the next data, even if it has not changed
+        resetLastReadData();
 
         if (RefreshType.REFRESH == command) {
             ModbusPollerThingHandler poller = pollerHandler;
@@ -218,7 +236,20 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
 
         logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        submitWrite(comms, request);
+    }
+
+    /**
+     * Submit write request, coalesced with writes of other things if the endpoint is configured so
+     */
+    private void submitWrite(ModbusCommunicationInterface localComms, ModbusWriteRequestBlueprint request) {
+        writeSubmittedNanos.put(request, System.nanoTime());
+        ModbusWriteCoalescer localWriteCoalescer = writeCoalescer;
+        if (localWriteCoalescer != null) {
+            localWriteCoalescer.submit(request, this::onWriteResponse, this::handleWriteError);
+        } else {
+            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        }
     }
 
     /**
@@ -385,7 +416,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         requests.stream().forEach(request -> {
             logger.trace("Submitting write request: {} to endpoint {} (based from transformation {})", request,
                     localComms.getEndpoint(), transformOutput);
-            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+            submitWrite(localComms, request);
         });
     }
 
@@ -414,6 +445,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                if (endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> abstractEndpointHandler) {
+                    writeCoalescer = abstractEndpointHandler.getWriteCoalescer();
+                }
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -432,6 +466,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                writeCoalescer = localPollerHandler.getWriteCoalescer();
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -456,6 +491,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
 
     @Override
     public synchronized void dispose() {
+        logger.debug("Thing {} decoded {} reads and skipped {} reads with unchanged data", getThing().getUID(),
+                getDecodedUpdates(), getSkippedUpdates());
         config = null;
         readValueType = null;
         writeValueType = null;
@@ -475,11 +512,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeParametersHavingTransformationOnly = false;
         childOfEndpoint = false;
         pollerHandler = null;
+        writeCoalescer = null;
         channelCache = new HashMap<>();
         lastStatusInfoUpdate = LocalDateTime.MIN;
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        resetLastReadData();
+        writeSubmittedNanos.clear();
     }
 
     @Override
@@ -797,10 +837,13 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     }
 
     public synchronized void handleReadError(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        errors.incrementAndGet();
         onError(failure.getRequest(), failure.getCause());
     }
 
     public synchronized void handleWriteError(AsyncModbusFailure<ModbusWriteRequestBlueprint> failure) {
+        errors.incrementAndGet();
+        writeSubmittedNanos.remove(failure.getRequest());
         onError(failure.getRequest(), failure.getCause());
     }
 
@@ -814,6 +857,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (readValueType == null) {
             return;
         }
+        if (isUnchanged(registers, readIndex.get() - pollStart, Math.max(1, readValueType.getBits() / 16))) {
+            onUnchangedData();
+            return;
+        }
         State numericState;
 
         // extractIndex:
@@ -852,6 +899,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        if (isUnchanged(boolValue)) {
+            onUnchangedData();
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -865,6 +916,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
+        resetLastReadData();
         if (error instanceof ModbusConnectionException) {
             logger.trace("Thing {} '{}' had {} error on read: {}", getThing().getUID(), getThing().getLabel(),
                     error.getClass().getSimpleName(), error.toString());
@@ -938,6 +990,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         logger.debug("Successful write, matching request {}", result.getRequest());
+        Long submittedNanos = writeSubmittedNanos.remove(result.getRequest());
+        if (submittedNanos != null) {
+            writeResponses.incrementAndGet();
+            totalWriteLatencyNanos.addAndGet(System.nanoTime() - submittedNanos);
+        }
         updateStatusIfChanged(ThingStatus.ONLINE);
         ChannelUID lastWriteSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_WRITE_SUCCESS);
         if (isLinked(lastWriteSuccessUID)) {
@@ -945,6 +1002,119 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Checks whether the registers of the value are the same as in the last decoded read, and remembers them otherwise.
+     *
+     * Unchanged registers are decoded again every <code>updateUnchangedValuesEveryMillis</code>, so that the channels
+     * are updated as often as without this check.
+     *
+     * @param registers polled registers
+     * @param registerIndex index of the first register of the value
+     * @param registerCount number of registers of the value
+     * @return true if the value does not need to be decoded
+     */
+    private boolean isUnchanged(ModbusRegisterArray registers, int registerIndex, int registerCount) {
+        byte[] bytes = registers.getBytes();
+        int from = registerIndex * 2;
+        int to = from + registerCount * 2;
+        if (from < 0 || to > bytes.length) {
+            // let the decoding report the error
+            lastReadRegisters = null;
+            return false;
+        }
+        byte[] last = lastReadRegisters;
+        if (last != null && Arrays.equals(last, 0, last.length, bytes, from, to) && !isDecodeDue()) {
+            return true;
+        }
+        lastReadRegisters = Arrays.copyOfRange(bytes, from, to);
+        onDecode();
+        return false;
+    }
+
+    /**
+     * Checks whether the bit is the same as in the last decoded read, and remembers it otherwise.
+     *
+     * @param bit polled bit of the value
+     * @return true if the value does not need to be decoded
+     * @see #isUnchanged(ModbusRegisterArray, int, int)
+     */
+    private boolean isUnchanged(boolean bit) {
+        Boolean last = lastReadBit;
+        if (last != null && last.booleanValue() == bit && !isDecodeDue()) {
+            return true;
+        }
+        lastReadBit = bit;
+        onDecode();
+        return false;
+    }
+
+    private boolean isDecodeDue() {
+        return updateUnchangedValuesEveryMillis <= 0L
+                || System.currentTimeMillis() - lastDecodedMillis > updateUnchangedValuesEveryMillis;
+    }
+
+    private void onDecode() {
+        lastDecodedMillis = System.currentTimeMillis();
+        decodedUpdates.incrementAndGet();
+    }
+
+    /**
+     * Handles a successful read with unchanged data: the value channels keep their state, only the time of the last
+     * successful read is updated.
+     */
+    private void onUnchangedData() {
+        skippedUpdates.incrementAndGet();
+        logger.trace("Thing {} data unchanged, skipping update", thing.getUID());
+        synchronized (this) {
+            updateStatusIfChanged(ThingStatus.ONLINE);
+            ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+            if (isLinked(lastReadSuccessUID)) {
+                tryUpdateState(lastReadSuccessUID, new DateTimeType());
+            }
+        }
+    }
+
+    private void resetLastReadData() {
+        lastReadRegisters = null;
+        lastReadBit = null;
+        lastDecodedMillis = 0L;
+    }
+
+    /**
+     * Returns the number of reads whose data has been decoded and passed to the channels
+     */
+    public long getDecodedUpdates() {
+        return decodedUpdates.get();
+    }
+
+    /**
+     * Returns the number of reads that have been skipped, because the data of this thing has not changed
+     */
+    public long getSkippedUpdates() {
+        return skippedUpdates.get();
+    }
+
+    /**
+     * Returns the number of failed reads and writes since the handler was created
+     */
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * Returns the number of successful writes whose latency has been measured
+     */
+    public long getWriteResponses() {
+        return writeResponses.get();
+    }
+
+    /**
+     * Returns the sum of the times from submitting a write until its successful response, in nanoseconds
+     */
+    public long getTotalWriteLatencyNanos() {
+        return totalWriteLatencyNanos.get();
+    }
+
     /**
      * Update linked channels
      *
@@ -72,6 +72,10 @@ public class ModbusSerialThingHandler
 
         endpoint = new ModbusSerialSlaveEndpoint(port, baud, flowControlIn, flowControlOut, config.getDataBits(),
                 stopBits, parity, encoding, config.isEcho(), config.getReceiveTimeoutMillis());
+
+        coalesceReads = config.isCoalesceReads();
+        coalesceReadsMaxGap = config.getCoalesceReadsMaxGap();
+        coalesceWritesMillis = config.getCoalesceWritesMillis();
     }
 
     /**
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.Range;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.Registration;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ModbusReadPlannerTest {
+
+    /**
+     * A physical read registered with the mocked communication interface
+     */
+    private record RegisteredPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback callback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback,
+            PollTask pollTask) {
+    }
+
+    private @Mock @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+
+    private final List<RegisteredPoll> polls = new ArrayList<>();
+    private final List<Runnable> pendingReplans = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            RegisteredPoll poll = new RegisteredPoll(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(3), invocation.getArgument(4), mock(PollTask.class));
+            polls.add(poll);
+            return poll.pollTask();
+        }).when(comms).registerRegularPoll(any(), anyLong(), anyLong(), any(), any());
+        doAnswer(invocation -> polls.removeIf(poll -> poll.pollTask() == invocation.getArgument(0))).when(comms)
+                .unregisterRegularPoll(any());
+        doAnswer(invocation -> {
+            pendingReplans.add(invocation.getArgument(0));
+            return mock(ScheduledFuture.class);
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testRegisterMergesPolls() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, scheduler, 0);
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000, result -> {
+        }, failure -> {
+        });
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 5), 1000, result -> {
+        }, failure -> {
+        });
+        assertThat(polls.size(), is(0));
+
+        runReplans();
+
+        assertThat(planner.getPlannedReads(), is(1));
+        assertThat(polls.size(), is(1));
+        assertThat(polls.get(0).request().getReference(), is(0));
+        assertThat(polls.get(0).request().getDataLength(), is(15));
+        assertThat(polls.get(0).pollPeriodMillis(), is(1000L));
+    }
+
+    @Test
+    public void testReplanKeepsUnaffectedReads() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, scheduler, 0);
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000, result -> {
+        }, failure -> {
+        });
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 10), 1000, result -> {
+        }, failure -> {
+        });
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 500, result -> {
+        }, failure -> {
+        });
+        runReplans();
+        assertThat(polls.size(), is(3));
+        RegisteredPoll unaffectedInGroup = findPoll(100, 1000);
+        RegisteredPoll otherGroup = findPoll(0, 500);
+
+        // extends the read of registers 0-9 in the group polled every second
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 5), 1000, result -> {
+        }, failure -> {
+        });
+        runReplans();
+
+        assertThat(planner.getPlannedReads(), is(3));
+        assertThat(findPoll(0, 1000).request().getDataLength(), is(15));
+        assertThat(findPoll(100, 1000), is(sameInstance(unaffectedInGroup)));
+        assertThat(findPoll(0, 500), is(sameInstance(otherGroup)));
+        verify(comms, never()).unregisterRegularPoll(unaffectedInGroup.pollTask());
+        verify(comms, never()).unregisterRegularPoll(otherGroup.pollTask());
+    }
+
+    @Test
+    public void testOneReadIsDispatchedToAllPollers() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, scheduler, 2);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 4, 2);
+        List<AsyncModbusReadResult> firstResults = new ArrayList<>();
+        List<AsyncModbusReadResult> secondResults = new ArrayList<>();
+        List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+        planner.register(first, 1000, firstResults::add, failures::add);
+        planner.register(second, 1000, secondResults::add, failures::add);
+        runReplans();
+        assertThat(polls.size(), is(1));
+        RegisteredPoll poll = polls.get(0);
+
+        poll.callback().handle(new AsyncModbusReadResult(poll.request(), new ModbusRegisterArray(1, 2, 3, 4, 5, 6)));
+        poll.callback().handle(new AsyncModbusReadResult(poll.request(), new ModbusRegisterArray(1, 2, 3, 4, 5, 6)));
+
+        assertThat(firstResults.size(), is(2));
+        assertThat(firstResults.get(0).getRequest(), is(sameInstance(first)));
+        assertThat(firstResults.get(0).getRegisters().get(), is(equalTo(new ModbusRegisterArray(1, 2))));
+        assertThat(secondResults.size(), is(2));
+        assertThat(secondResults.get(0).getRequest(), is(sameInstance(second)));
+        assertThat(secondResults.get(0).getRegisters().get(), is(equalTo(new ModbusRegisterArray(5, 6))));
+        assertThat(failures.size(), is(0));
+        assertThat(planner.getPhysicalReads(), is(2L));
+        assertThat(planner.getServedReads(), is(4L));
+        assertThat(planner.getTransferredUnits(), is(12L));
+        assertThat(planner.getPollCycles(), is(1L));
+    }
+
+    @Test
+    public void testPollInOverlappingReadsIsDispatchedOnce() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, scheduler, 0);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 100);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 50, 100);
+        // contained in both reads, as merging them would exceed the maximum of 125 registers
+        ModbusReadRequestBlueprint inner = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 60, 10);
+        List<AsyncModbusReadResult> firstResults = new ArrayList<>();
+        List<AsyncModbusReadResult> secondResults = new ArrayList<>();
+        List<AsyncModbusReadResult> innerResults = new ArrayList<>();
+        List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+        planner.register(first, 1000, firstResults::add, failures::add);
+        planner.register(second, 1000, secondResults::add, failures::add);
+        planner.register(inner, 1000, innerResults::add, failures::add);
+        runReplans();
+        assertThat(polls.size(), is(2));
+
+        for (RegisteredPoll poll : polls) {
+            poll.callback().handle(new AsyncModbusReadResult(poll.request(),
+                    new ModbusRegisterArray(new int[poll.request().getDataLength()])));
+        }
+
+        assertThat(firstResults.size(), is(1));
+        assertThat(secondResults.size(), is(1));
+        assertThat(innerResults.size(), is(1));
+        assertThat(innerResults.get(0).getRequest(), is(sameInstance(inner)));
+        assertThat(failures.size(), is(0));
+        assertThat(planner.getServedReads(), is(3L));
+    }
+
+    @Test
+    public void testPollInOverlappingReadsFailsOnce() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, scheduler, 0);
+        List<AsyncModbusFailure<ModbusReadRequestBlueprint>> innerFailures = new ArrayList<>();
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 100), 1000, result -> {
+        }, failure -> {
+        });
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 50, 100), 1000, result -> {
+        }, failure -> {
+        });
+        planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 60, 10), 1000, result -> {
+        }, innerFailures::add);
+        runReplans();
+
+        for (RegisteredPoll poll : polls) {
+            poll.failureCallback().handle(new AsyncModbusFailure<>(poll.request(), new Exception("timeout")));
+        }
+
+        assertThat(innerFailures.size(), is(1));
+    }
+
+    @Test
+    public void testUnregister() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, scheduler, 0);
+        Registration first = planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000,
+                result -> {
+                }, failure -> {
+                });
+        Registration second = planner.register(request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 5), 1000,
+                result -> {
+                }, failure -> {
+                });
+        runReplans();
+        PollTask merged = polls.get(0).pollTask();
+
+        planner.unregister(second);
+        runReplans();
+
+        verify(comms).unregisterRegularPoll(merged);
+        assertThat(polls.size(), is(1));
+        assertThat(polls.get(0).request(), is(sameInstance(first.getRequest())));
+
+        planner.unregister(first);
+        runReplans();
+
+        assertThat(polls.size(), is(0));
+        assertThat(planner.getPlannedReads(), is(0));
+
+        // unknown registrations are ignored
+        planner.unregister(first);
+        assertThat(pendingReplans.size(), is(0));
+    }
+
+    @Test
+    public void testMergeAdjacentAndOverlapping() {
+        List<Range> merged = ModbusReadPlanner.merge(
+                List.of(new Range(10, 5), new Range(0, 10), new Range(12, 2), new Range(30, 1)), 125, 0);
+        assertThat(merged, is(equalTo(List.of(new Range(0, 15), new Range(30, 1)))));
+    }
+
+    @Test
+    public void testMergeWithGap() {
+        List<Range> ranges = List.of(new Range(0, 10), new Range(13, 2));
+        assertThat(ModbusReadPlanner.merge(ranges, 125, 2), is(equalTo(List.of(new Range(0, 10), new Range(13, 2)))));
+        assertThat(ModbusReadPlanner.merge(ranges, 125, 3), is(equalTo(List.of(new Range(0, 15)))));
+    }
+
+    @Test
+    public void testMergeRespectsMaxLength() {
+        List<Range> merged = ModbusReadPlanner.merge(
+                List.of(new Range(0, 100), new Range(100, 30), new Range(130, 10), new Range(250, 5)), 125, 10);
+        assertThat(merged, is(equalTo(List.of(new Range(0, 100), new Range(100, 40), new Range(250, 5)))));
+        for (Range range : merged) {
+            assertThat(range.length() <= 125, is(true));
+        }
+    }
+
+    @Test
+    public void testSliceRegisters() {
+        ModbusReadRequestBlueprint merged = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 4);
+        ModbusReadRequestBlueprint member = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 11, 2);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(merged, new ModbusRegisterArray(1, 2, 3, 4));
+
+        AsyncModbusReadResult slice = ModbusReadPlanner.slice(result, member);
+
+        assertThat(slice.getRequest(), is(sameInstance(member)));
+        assertThat(slice.getRegisters().get(), is(equalTo(new ModbusRegisterArray(2, 3))));
+    }
+
+    @Test
+    public void testSliceBits() {
+        ModbusReadRequestBlueprint merged = request(ModbusReadFunctionCode.READ_COILS, 0, 5);
+        ModbusReadRequestBlueprint member = request(ModbusReadFunctionCode.READ_COILS, 2, 3);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(merged,
+                new BitArray(true, false, true, true, false));
+
+        AsyncModbusReadResult slice = ModbusReadPlanner.slice(result, member);
+
+        BitArray bits = slice.getBits().get();
+        assertThat(bits.size(), is(3));
+        assertThat(bits.getBit(0), is(true));
+        assertThat(bits.getBit(1), is(true));
+        assertThat(bits.getBit(2), is(false));
+    }
+
+    @Test
+    public void testSliceShortResponse() {
+        ModbusReadRequestBlueprint merged = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 4);
+        ModbusReadRequestBlueprint member = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 12, 2);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(merged, new ModbusRegisterArray(1, 2, 3));
+
+        assertThrows(IllegalStateException.class, () -> ModbusReadPlanner.slice(result, member));
+    }
+
+    private void runReplans() {
+        List<Runnable> replans = new ArrayList<>(pendingReplans);
+        pendingReplans.clear();
+        replans.forEach(Runnable::run);
+    }
+
+    private RegisteredPoll findPoll(int start, long pollPeriodMillis) {
+        return polls.stream()
+                .filter(poll -> poll.request().getReference() == start && poll.pollPeriodMillis() == pollPeriodMillis)
+                .findFirst().orElseThrow();
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 1);
+    }
+}
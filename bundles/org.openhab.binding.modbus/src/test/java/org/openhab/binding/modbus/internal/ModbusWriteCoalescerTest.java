@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.modbus.internal.ModbusWriteCoalescer.PendingWrite;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusResponse;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ModbusWriteCoalescerTest {
+
+    private static final long WINDOW_MILLIS = 50;
+
+    /**
+     * A write submitted to the mocked communication interface
+     */
+    private record SubmittedWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+    }
+
+    /**
+     * Results and failures received by one original writer
+     */
+    private static class Writer {
+        private final List<AsyncModbusWriteResult> results = new ArrayList<>();
+        private final List<AsyncModbusFailure<ModbusWriteRequestBlueprint>> failures = new ArrayList<>();
+    }
+
+    private @Mock @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> flushFuture;
+
+    private final List<SubmittedWrite> submitted = new ArrayList<>();
+    private final List<Runnable> flushJobs = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            submitted.add(new SubmittedWrite(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2)));
+            return null;
+        }).when(comms).submitOneTimeWrite(any(), any(), any());
+        doAnswer(invocation -> {
+            flushJobs.add(invocation.getArgument(0));
+            return flushFuture;
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testWriteIsSubmittedImmediatelyWithoutWindow() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, 0);
+        ModbusWriteRequestBlueprint request = registers(10, 1).request();
+
+        coalescer.submit(request, result -> {
+        }, failure -> {
+        });
+
+        assertThat(submitted.size(), is(1));
+        assertThat(submitted.get(0).request(), is(sameInstance(request)));
+        assertThat(flushJobs.size(), is(0));
+        assertThat(coalescer.getTransactions(), is(1L));
+    }
+
+    @Test
+    public void testWritesAreMergedWhenWindowEnds() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, WINDOW_MILLIS);
+        Writer first = new Writer();
+        Writer second = new Writer();
+
+        submit(coalescer, registers(10, 1, 2), first);
+        submit(coalescer, registers(12, 3), second);
+
+        assertThat(submitted.size(), is(0));
+        assertThat(coalescer.getPendingWrites(), is(2));
+        // one window for all writes submitted within it
+        verify(scheduler).schedule(any(Runnable.class), eq(WINDOW_MILLIS), eq(TimeUnit.MILLISECONDS));
+        assertThat(flushJobs.size(), is(1));
+
+        runFlushJobs();
+
+        assertThat(submitted.size(), is(1));
+        ModbusWriteRegisterRequestBlueprint merged = (ModbusWriteRegisterRequestBlueprint) submitted.get(0)
+                .request();
+        assertThat(merged.getReference(), is(10));
+        assertThat(merged.getRegisters().getBytes(), is(new ModbusRegisterArray(1, 2, 3).getBytes()));
+        assertThat(coalescer.getPendingWrites(), is(0));
+        assertThat(coalescer.getSubmittedWrites(), is(2L));
+        assertThat(coalescer.getTransactions(), is(1L));
+
+        // the next write opens a new window
+        submit(coalescer, registers(20, 4), new Writer());
+        assertThat(flushJobs.size(), is(1));
+    }
+
+    @Test
+    public void testMergedWriteReportsSuccessToEachWriter() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, WINDOW_MILLIS);
+        PendingWrite firstWrite = coils(5, true, false);
+        PendingWrite secondWrite = coils(7, true);
+        Writer first = new Writer();
+        Writer second = new Writer();
+        submit(coalescer, firstWrite, first);
+        submit(coalescer, secondWrite, second);
+        runFlushJobs();
+        SubmittedWrite merged = submitted.get(0);
+        ModbusResponse response = mock(ModbusResponse.class);
+
+        merged.resultCallback().handle(new AsyncModbusWriteResult(merged.request(), response));
+
+        assertThat(first.results.size(), is(1));
+        assertThat(first.results.get(0).getRequest(), is(sameInstance(firstWrite.request())));
+        assertThat(first.results.get(0).getResponse(), is(sameInstance(response)));
+        assertThat(second.results.size(), is(1));
+        assertThat(second.results.get(0).getRequest(), is(sameInstance(secondWrite.request())));
+        assertThat(second.results.get(0).getResponse(), is(sameInstance(response)));
+        assertThat(first.failures.size(), is(0));
+        assertThat(second.failures.size(), is(0));
+    }
+
+    @Test
+    public void testMergedWriteReportsFailureToEachWriter() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, WINDOW_MILLIS);
+        PendingWrite firstWrite = registers(10, 1);
+        PendingWrite secondWrite = registers(11, 2);
+        Writer first = new Writer();
+        Writer second = new Writer();
+        submit(coalescer, firstWrite, first);
+        submit(coalescer, secondWrite, second);
+        runFlushJobs();
+        SubmittedWrite merged = submitted.get(0);
+        Exception cause = new Exception("timeout");
+
+        merged.failureCallback().handle(new AsyncModbusFailure<>(merged.request(), cause));
+
+        assertThat(first.failures.size(), is(1));
+        assertThat(first.failures.get(0).getRequest(), is(sameInstance(firstWrite.request())));
+        assertThat(first.failures.get(0).getCause(), is(sameInstance(cause)));
+        assertThat(second.failures.size(), is(1));
+        assertThat(second.failures.get(0).getRequest(), is(sameInstance(secondWrite.request())));
+        assertThat(second.failures.get(0).getCause(), is(sameInstance(cause)));
+        assertThat(first.results.size(), is(0));
+        assertThat(second.results.size(), is(0));
+    }
+
+    @Test
+    public void testSingleWriteKeepsItsCallbacks() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, WINDOW_MILLIS);
+        PendingWrite write = registers(10, 1);
+        submit(coalescer, write, new Writer());
+        runFlushJobs();
+
+        assertThat(submitted.size(), is(1));
+        assertThat(submitted.get(0).request(), is(sameInstance(write.request())));
+    }
+
+    @Test
+    public void testDisposeSubmitsPendingWrites() {
+        ModbusWriteCoalescer coalescer = new ModbusWriteCoalescer(comms, scheduler, WINDOW_MILLIS);
+        Writer first = new Writer();
+        Writer second = new Writer();
+        submit(coalescer, registers(10, 1), first);
+        submit(coalescer, registers(11, 2), second);
+
+        coalescer.dispose();
+
+        verify(flushFuture).cancel(false);
+        assertThat(submitted.size(), is(1));
+        assertThat(coalescer.getPendingWrites(), is(0));
+        submitted.get(0).resultCallback()
+                .handle(new AsyncModbusWriteResult(submitted.get(0).request(), mock(ModbusResponse.class)));
+        assertThat(first.results.size(), is(1));
+        assertThat(second.results.size(), is(1));
+
+        // further writes are submitted immediately, the cancelled window does not submit anything again
+        submit(coalescer, registers(20, 3), new Writer());
+        assertThat(submitted.size(), is(2));
+        runFlushJobs();
+        assertThat(submitted.size(), is(2));
+        assertThat(coalescer.getTransactions(), is(2L));
+    }
+
+    @Test
+    public void testPlanContiguousRegisters() {
+        PendingWrite first = registers(10, 1, 2);
+        PendingWrite second = registers(12, 3);
+        PendingWrite separate = registers(20, 4);
+
+        List<List<PendingWrite>> runs = ModbusWriteCoalescer.plan(List.of(second, separate, first), 123);
+
+        assertThat(runs, is(equalTo(List.of(List.of(first, second), List.of(separate)))));
+    }
+
+    @Test
+    public void testPlanOverlappingKeepsOrder() {
+        PendingWrite first = registers(10, 1, 2);
+        PendingWrite second = registers(11, 3);
+        PendingWrite third = registers(12, 4);
+
+        List<List<PendingWrite>> runs = ModbusWriteCoalescer.plan(List.of(third, first, second), 123);
+
+        assertThat(runs, is(equalTo(List.of(List.of(third), List.of(first), List.of(second)))));
+    }
+
+    @Test
+    public void testPlanRespectsMaxLength() {
+        PendingWrite first = registers(0, new int[100]);
+        PendingWrite second = registers(100, new int[23]);
+        PendingWrite third = registers(123, 1);
+
+        List<List<PendingWrite>> runs = ModbusWriteCoalescer.plan(List.of(first, second, third), 123);
+
+        assertThat(runs, is(equalTo(List.of(List.of(first, second), List.of(third)))));
+    }
+
+    @Test
+    public void testMergeRegisters() {
+        ModbusWriteRequestBlueprint merged = ModbusWriteCoalescer.merge(List.of(registers(10, 1, 2), registers(12, 3)));
+
+        assertThat(merged, is(instanceOf(ModbusWriteRegisterRequestBlueprint.class)));
+        ModbusWriteRegisterRequestBlueprint registerRequest = (ModbusWriteRegisterRequestBlueprint) merged;
+        assertThat(registerRequest.getReference(), is(10));
+        assertThat(registerRequest.getRegisters(), is(equalTo(new ModbusRegisterArray(1, 2, 3))));
+        assertThat(registerRequest.getFunctionCode(), is(ModbusWriteFunctionCode.WRITE_MULTIPLE_REGISTERS));
+    }
+
+    @Test
+    public void testMergeCoils() {
+        ModbusWriteRequestBlueprint merged = ModbusWriteCoalescer.merge(List.of(coils(5, true, false), coils(7, true)));
+
+        assertThat(merged, is(instanceOf(ModbusWriteCoilRequestBlueprint.class)));
+        ModbusWriteCoilRequestBlueprint coilRequest = (ModbusWriteCoilRequestBlueprint) merged;
+        assertThat(coilRequest.getReference(), is(5));
+        BitArray coils = coilRequest.getCoils();
+        assertThat(coils.size(), is(3));
+        assertThat(coils.getBit(0), is(true));
+        assertThat(coils.getBit(1), is(false));
+        assertThat(coils.getBit(2), is(true));
+        assertThat(coilRequest.getFunctionCode(), is(ModbusWriteFunctionCode.WRITE_MULTIPLE_COILS));
+    }
+
+    private void submit(ModbusWriteCoalescer coalescer, PendingWrite write, Writer writer) {
+        coalescer.submit(write.request(), writer.results::add, writer.failures::add);
+    }
+
+    private void runFlushJobs() {
+        List<Runnable> jobs = new ArrayList<>(flushJobs);
+        flushJobs.clear();
+        jobs.forEach(Runnable::run);
+    }
+
+    private static PendingWrite registers(int start, int... values) {
+        return pending(new ModbusWriteRegisterRequestBlueprint(1, start, new ModbusRegisterArray(values),
+                values.length > 1, 1));
+    }
+
+    private static PendingWrite coils(int start, boolean... values) {
+        return pending(new ModbusWriteCoilRequestBlueprint(1, start, new BitArray(values), values.length > 1, 1));
+    }
+
+    private static PendingWrite pending(ModbusWriteRequestBlueprint request) {
+        return new PendingWrite(request, result -> {
+        }, failure -> {
+        });
+    }
+}
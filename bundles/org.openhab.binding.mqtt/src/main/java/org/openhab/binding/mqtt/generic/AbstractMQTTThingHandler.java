@@ -22,6 +22,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -86,6 +87,11 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
     private AvailabilityMode availabilityMode = AvailabilityMode.ALL;
 
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong commandErrors = new AtomicLong();
+    private final AtomicLong publishedCommands = new AtomicLong();
+    private final AtomicLong totalCommandLatencyNanos = new AtomicLong();
+
     public AbstractMQTTThingHandler(Thing thing, int subscribeTimeout) {
         super(thing);
         this.subscribeTimeout = subscribeTimeout;
@@ -99,6 +105,42 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
      */
     public abstract @Nullable ChannelState getChannelState(ChannelUID channelUID);
 
+    /**
+     * Returns the number of messages that were skipped by the channels of this thing, because their payload was
+     * unchanged. Does return 0 in the base implementation.
+     */
+    public long getSkippedMessages() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of channel updates and triggers received since the handler was created
+     */
+    public long getReceivedMessages() {
+        return receivedMessages.get();
+    }
+
+    /**
+     * Returns the number of commands that could not be published since the handler was created
+     */
+    public long getCommandErrors() {
+        return commandErrors.get();
+    }
+
+    /**
+     * Returns the number of commands that were published since the handler was created
+     */
+    public long getPublishedCommands() {
+        return publishedCommands.get();
+    }
+
+    /**
+     * Returns the sum of the times from receiving a command until it was published, in nanoseconds
+     */
+    public long getTotalCommandLatencyNanos() {
+        return totalCommandLatencyNanos.get();
+    }
+
     /**
      * Start the topic discovery and subscribe to all channel state topics on all {@link ChannelState}s.
      * Put the thing ONLINE on success otherwise complete the returned future exceptionally.
@@ -151,13 +193,17 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
             return;
         }
 
+        final long commandNanos = System.nanoTime();
         final CompletableFuture<Boolean> future = data.publishValue(command);
         future.handle((v, ex) -> {
             if (ex != null) {
+                commandErrors.incrementAndGet();
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, ex.getLocalizedMessage());
                 logger.debug("Failed publishing value {} to topic {}: {}", command, data.getCommandTopic(),
                         ex.getMessage());
             } else {
+                totalCommandLatencyNanos.addAndGet(System.nanoTime() - commandNanos);
+                publishedCommands.incrementAndGet();
                 logger.debug("Successfully published value {} to topic {}", command, data.getCommandTopic());
             }
             return null;
@@ -262,6 +308,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
 
     @Override
     public void updateChannelState(ChannelUID channelUID, State value) {
+        receivedMessages.incrementAndGet();
         if (messageReceived.compareAndSet(false, true)) {
             calculateAndUpdateThingStatus(true);
         }
@@ -270,6 +317,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
 
     @Override
     public void triggerChannel(ChannelUID channelUID, String event) {
+        receivedMessages.incrementAndGet();
         if (messageReceived.compareAndSet(false, true)) {
             calculateAndUpdateThingStatus(true);
         }
@@ -46,6 +46,11 @@ public class ChannelConfig {
     public boolean retained = false;
     /** If true, the state topic will not update a state, but trigger a channel instead. */
     public boolean trigger = false;
+    /**
+     * If true, a message with the same payload as the previous one is skipped without transforming and parsing it.
+     * Trigger channels never skip messages.
+     */
+    public boolean skipUnchanged = false;
     public String unit = "";
 
     public List<String> transformationPattern = List.of();
@@ -83,6 +83,11 @@ public class ChannelConfigBuilder {
         return this;
     }
 
+    public ChannelConfigBuilder withSkipUnchanged(boolean skipUnchanged) {
+        config.skipUnchanged = skipUnchanged;
+        return this;
+    }
+
     public ChannelConfigBuilder withTransformationPattern(List<String> pattern) {
         config.transformationPattern = pattern;
         return this;
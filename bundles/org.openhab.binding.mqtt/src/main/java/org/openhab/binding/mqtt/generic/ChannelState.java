@@ -13,12 +13,14 @@
 package org.openhab.binding.mqtt.generic;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.IllegalFormatException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -66,6 +68,8 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
+    private volatile byte @Nullable [] lastPayload;
+    private final AtomicLong skippedMessages = new AtomicLong();
 
     /**
      * Creates a new channel state.
@@ -151,6 +155,16 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        // Unchanged payload: Nothing to transform, parse or dispatch
+        if (config.skipUnchanged && !config.trigger) {
+            if (Arrays.equals(payload, lastPayload)) {
+                skippedMessages.incrementAndGet();
+                receivedOrTimeout();
+                return;
+            }
+            lastPayload = payload.clone();
+        }
+
         if (cachedValue.isBinary()) {
             cachedValue.update(payload);
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
@@ -274,6 +288,7 @@ public class ChannelState implements MqttMessageSubscriber {
         this.connection = null;
         this.channelStateUpdateListener = null;
         hasSubscribed = false;
+        lastPayload = null;
         cachedValue.resetState();
     }
 
@@ -315,6 +330,7 @@ public class ChannelState implements MqttMessageSubscriber {
             hasSubscribed = false;
 
             this.connection = connection;
+            lastPayload = null;
 
             if (config.stateTopic.isBlank()) {
                 return CompletableFuture.completedFuture(null);
@@ -362,6 +378,8 @@ public class ChannelState implements MqttMessageSubscriber {
 
         Command mqttCommandValue = cachedValue.parseCommand(command);
         Value mqttFormatter = cachedValue;
+        // The device may answer with the payload it has sent before, which must not be skipped
+        lastPayload = null;
 
         if (readOnly) {
             logger.debug(
@@ -447,4 +465,11 @@ public class ChannelState implements MqttMessageSubscriber {
     public void setConnection(MqttBrokerConnection connection) {
         this.connection = connection;
     }
+
+    /**
+     * Returns the number of received messages that were skipped, because their payload was unchanged.
+     */
+    public long getSkippedMessages() {
+        return skippedMessages.get();
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.mqtt.generic.AbstractMQTTThingHandler;
+import org.openhab.io.metrics.api.AddonMeters;
+import org.openhab.io.metrics.api.AddonMetricsService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link MqttMetrics} publishes the counts kept by the MQTT thing handlers with the {@link AddonMetricsService}.
+ *
+ * This is the only class of the binding using the metrics API, which is imported optionally. The component is only
+ * activated when the metrics service is available, so the binding starts without it.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(immediate = true)
+@NonNullByDefault
+public class MqttMetrics implements MqttThingHandlerFactory.HandlerListener {
+
+    private final AddonMetricsService metricsService;
+    private final MqttThingHandlerFactory handlerFactory;
+    private final Map<AbstractMQTTThingHandler, AddonMeters> handlerMeters = new ConcurrentHashMap<>();
+
+    @Activate
+    public MqttMetrics(@Reference AddonMetricsService metricsService,
+            @Reference MqttThingHandlerFactory handlerFactory) {
+        this.metricsService = metricsService;
+        this.handlerFactory = handlerFactory;
+        handlerFactory.addHandlerListener(this);
+    }
+
+    /**
+     * Registers the meters of a handler.
+     */
+    @Override
+    public void handlerAdded(AbstractMQTTThingHandler handler) {
+        AddonMeters meters = metricsService.forThing(handler.getThing().getUID());
+        meters.counter(AddonMetricsService.MESSAGES, handler::getReceivedMessages);
+        meters.counter(AddonMetricsService.ERRORS, handler::getCommandErrors);
+        meters.timer(AddonMetricsService.COMMAND_LATENCY, handler::getPublishedCommands,
+                handler::getTotalCommandLatencyNanos);
+        AddonMeters previousMeters = handlerMeters.put(handler, meters);
+        if (previousMeters != null) {
+            previousMeters.close();
+        }
+    }
+
+    /**
+     * Removes the meters of a handler.
+     */
+    @Override
+    public void handlerRemoved(AbstractMQTTThingHandler handler) {
+        AddonMeters meters = handlerMeters.remove(handler);
+        if (meters != null) {
+            meters.close();
+        }
+    }
+
+    /**
+     * Removes the meters of all handlers.
+     */
+    @Deactivate
+    public void dispose() {
+        handlerFactory.removeHandlerListener(this);
+        handlerMeters.values().forEach(AddonMeters::close);
+        handlerMeters.clear();
+    }
+}
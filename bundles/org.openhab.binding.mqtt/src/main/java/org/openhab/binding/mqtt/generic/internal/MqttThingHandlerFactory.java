@@ -12,12 +12,16 @@
  */
 package org.openhab.binding.mqtt.generic.internal;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.AbstractMQTTThingHandler;
 import org.openhab.binding.mqtt.generic.MqttChannelStateDescriptionProvider;
 import org.openhab.binding.mqtt.generic.internal.handler.GenericMQTTThingHandler;
 import org.openhab.core.thing.Thing;
@@ -37,10 +41,22 @@ import org.osgi.service.component.annotations.Reference;
  *
  * @author David Graeff - Initial contribution
  */
-@Component(service = ThingHandlerFactory.class)
+@Component(service = { ThingHandlerFactory.class, MqttThingHandlerFactory.class })
 @NonNullByDefault
 public class MqttThingHandlerFactory extends BaseThingHandlerFactory {
+
+    /**
+     * Listener of the handlers created and removed by this factory
+     */
+    public interface HandlerListener {
+        void handlerAdded(AbstractMQTTThingHandler handler);
+
+        void handlerRemoved(AbstractMQTTThingHandler handler);
+    }
+
     private @NonNullByDefault({}) MqttChannelStateDescriptionProvider stateDescriptionProvider;
+    private final Set<AbstractMQTTThingHandler> handlers = ConcurrentHashMap.newKeySet();
+    private final List<HandlerListener> handlerListeners = new CopyOnWriteArrayList<>();
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Stream
             .of(MqttBindingConstants.GENERIC_MQTT_THING).collect(Collectors.toSet());
 
@@ -75,8 +91,40 @@ public class MqttThingHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(MqttBindingConstants.GENERIC_MQTT_THING)) {
-            return new GenericMQTTThingHandler(thing, stateDescriptionProvider, 1500);
+            GenericMQTTThingHandler handler = new GenericMQTTThingHandler(thing, stateDescriptionProvider, 1500);
+            trackHandler(handler);
+            return handler;
         }
         return null;
     }
+
+    @Override
+    protected void removeHandler(ThingHandler thingHandler) {
+        if (thingHandler instanceof AbstractMQTTThingHandler handler) {
+            untrackHandler(handler);
+        }
+        super.removeHandler(thingHandler);
+    }
+
+    private synchronized void trackHandler(AbstractMQTTThingHandler handler) {
+        handlers.add(handler);
+        handlerListeners.forEach(listener -> listener.handlerAdded(handler));
+    }
+
+    private synchronized void untrackHandler(AbstractMQTTThingHandler handler) {
+        handlers.remove(handler);
+        handlerListeners.forEach(listener -> listener.handlerRemoved(handler));
+    }
+
+    /**
+     * Adds a listener and notifies it of all handlers created so far.
+     */
+    public synchronized void addHandlerListener(HandlerListener listener) {
+        handlerListeners.add(listener);
+        handlers.forEach(listener::handlerAdded);
+    }
+
+    public synchronized void removeHandlerListener(HandlerListener listener) {
+        handlerListeners.remove(listener);
+    }
 }
@@ -78,6 +78,11 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
         return channelStateByChannelUID.get(channelUID);
     }
 
+    @Override
+    public long getSkippedMessages() {
+        return channelStateByChannelUID.values().stream().mapToLong(ChannelState::getSkippedMessages).sum();
+    }
+
     /**
      * Subscribe on all channel static topics on all {@link ChannelState}s.
      * If subscribing on all channels worked, the thing is put ONLINE, else OFFLINE.
@@ -141,6 +146,7 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
 
         ThingBuilder thingBuilder = editThing();
         boolean modified = false;
+        boolean skipUnchanged = getConfigAs(GenericThingConfiguration.class).skipUnchanged;
 
         List<ChannelUID> configErrors = new ArrayList<>();
         for (Channel channel : thing.getChannels()) {
@@ -150,6 +156,9 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
                 continue;
             }
             final ChannelConfig channelConfig = channel.getConfiguration().as(ChannelConfig.class);
+            if (channel.getConfiguration().get("skipUnchanged") == null) {
+                channelConfig.skipUnchanged = skipUnchanged;
+            }
 
             if (channelTypeUID
                     .equals(new ChannelTypeUID(MqttBindingConstants.BINDING_ID, MqttBindingConstants.NUMBER))) {
@@ -45,4 +45,9 @@ public class GenericThingConfiguration {
      * transformation pattern for the availability payload
      */
     public List<String> transformationPattern = List.of();
+
+    /**
+     * default for {@link org.openhab.binding.mqtt.generic.ChannelConfig#skipUnchanged} of all channels
+     */
+    public boolean skipUnchanged = false;
 }
@@ -23,6 +23,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
 import org.openhab.binding.mqtt.discovery.TopicSubscribe;
+import org.openhab.binding.mqtt.generic.AbstractMQTTThingHandler;
 import org.openhab.binding.mqtt.internal.action.MQTTActions;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttConnectionObserver;
@@ -30,6 +31,7 @@ import org.openhab.core.io.transport.mqtt.MqttConnectionState;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
@@ -79,6 +81,15 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         return connection;
     }
 
+    /**
+     * Returns the number of messages that were skipped by the things of this broker, because the payload was unchanged.
+     */
+    public long getSkippedMessages() {
+        return getThing().getThings().stream().map(Thing::getHandler)
+                .filter(AbstractMQTTThingHandler.class::isInstance).map(AbstractMQTTThingHandler.class::cast)
+                .mapToLong(AbstractMQTTThingHandler::getSkippedMessages).sum();
+    }
+
     /**
      * Does nothing in the base implementation.
      */
@@ -16,6 +16,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.handler.AbstractBrokerHandler;
 import org.openhab.core.automation.annotation.ActionInput;
+import org.openhab.core.automation.annotation.ActionOutput;
 import org.openhab.core.automation.annotation.RuleAction;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.thing.binding.ThingActions;
@@ -102,6 +103,12 @@ public class MQTTActions implements ThingActions {
         });
     }
 
+    @RuleAction(label = "@text/actionSkippedMessagesLabel", description = "@text/actionSkippedMessagesDesc")
+    public @ActionOutput(name = "skippedMessages", label = "@text/actionOutputSkippedMessagesLabel", type = "java.lang.Long") long getSkippedMessages() {
+        AbstractBrokerHandler brokerHandler = handler;
+        return brokerHandler != null ? brokerHandler.getSkippedMessages() : 0;
+    }
+
     public static void publishMQTT(ThingActions actions, @Nullable String topic, @Nullable String value) {
         publishMQTT(actions, topic, value, null);
     }
@@ -119,4 +126,8 @@ public class MQTTActions implements ThingActions {
             @Nullable Boolean retain) {
         ((MQTTActions) actions).publishMQTT(topic, value, retain);
     }
+
+    public static long getSkippedMessages(ThingActions actions) {
+        return ((MQTTActions) actions).getSkippedMessages();
+    }
 }
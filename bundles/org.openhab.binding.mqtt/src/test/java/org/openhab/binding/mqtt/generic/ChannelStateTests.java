@@ -203,6 +203,38 @@ public class ChannelStateTests {
         verify(channelStateUpdateListenerMock).updateChannelState(eq(channelUIDMock), any());
     }
 
+    @Test
+    public void receiveUnchangedPayloadTest() throws Exception {
+        ChannelConfig config = ChannelConfigBuilder.create("state", "command").withSkipUnchanged(true).build();
+        ChannelState c = spy(new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 0);
+
+        c.processMessage("state", "A TEST".getBytes());
+        c.processMessage("state", "A TEST".getBytes());
+        verify(channelStateUpdateListenerMock, times(1)).updateChannelState(eq(channelUIDMock), any());
+        assertThat(c.getSkippedMessages(), is(1L));
+
+        c.processMessage("state", "OTHER".getBytes());
+        verify(channelStateUpdateListenerMock, times(2)).updateChannelState(eq(channelUIDMock), any());
+
+        // after a command the device may confirm the previous payload
+        c.publishValue(new StringType("OTHER")).get();
+        c.processMessage("state", "OTHER".getBytes());
+        verify(channelStateUpdateListenerMock, times(3)).updateChannelState(eq(channelUIDMock), any());
+        assertThat(c.getSkippedMessages(), is(1L));
+    }
+
+    @Test
+    public void receiveUnchangedPayloadWithoutSkipTest() throws Exception {
+        ChannelState c = spy(new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 0);
+
+        c.processMessage("state", "A TEST".getBytes());
+        c.processMessage("state", "A TEST".getBytes());
+        verify(channelStateUpdateListenerMock, times(2)).updateChannelState(eq(channelUIDMock), any());
+        assertThat(c.getSkippedMessages(), is(0L));
+    }
+
     @Test
     public void receiveDecimalTest() {
         NumberValue value = new NumberValue(null, null, new BigDecimal(10), null);
@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.openhab.binding.mqtt.generic.internal.handler.ThingChannelConstants.*;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -26,6 +27,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -195,6 +197,24 @@ public class GenericThingHandlerTests {
         assertThat(textValue.getChannelState().toString(), is("UPDATE"));
     }
 
+    @Test
+    public void initializeAppliesThingSkipUnchangedToUnsetChannels() {
+        Configuration thingConfig = new Configuration();
+        thingConfig.put("skipUnchanged", true);
+        when(thingMock.getConfiguration()).thenReturn(thingConfig);
+        Configuration optOutConfig = textConfiguration();
+        optOutConfig.put("skipUnchanged", false);
+        when(thingMock.getChannels()).thenReturn(List.of(cb("mytext", "String", textConfiguration(), TEXT_CHANNEL),
+                cb("optout", "String", optOutConfig, TEXT_CHANNEL)));
+
+        thingHandler.initialize();
+
+        ArgumentCaptor<ChannelConfig> configs = ArgumentCaptor.forClass(ChannelConfig.class);
+        verify(thingHandler, times(2)).createChannelState(configs.capture(), any(), any());
+        assertThat(configs.getAllValues().get(0).skipUnchanged, is(true));
+        assertThat(configs.getAllValues().get(1).skipUnchanged, is(false));
+    }
+
     @Test
     public void handleBridgeStatusChange() {
         Configuration config = new Configuration();
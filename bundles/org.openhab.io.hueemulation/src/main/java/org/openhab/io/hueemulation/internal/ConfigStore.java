@@ -20,21 +20,30 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.core.EntityTag;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.items.events.GroupItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.net.CidrAddress;
 import org.openhab.core.net.NetUtil;
 import org.openhab.core.net.NetworkAddressService;
@@ -52,7 +61,6 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
-import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,17 +77,31 @@ import com.google.gson.GsonBuilder;
  * <p>
  * This is a central component and required by all other components and may not
  * depend on anything in this bundle.
+ * <p>
+ * The serialized lights, groups and sensors are kept as snapshots, see {@link #snapshot(String, Supplier)}. Item
+ * state changes are received as {@link EventSubscriber} to invalidate the affected snapshots.
  *
  * @author David Graeff - Initial contribution
  */
-@Component(immediate = false, service = ConfigStore.class, configurationPid = HueEmulationService.CONFIG_PID)
+@Component(immediate = false, service = { ConfigStore.class,
+        EventSubscriber.class }, configurationPid = HueEmulationService.CONFIG_PID)
 @ConfigurableService(category = "io", label = "Hue Emulation", description_uri = "io:hueemulation")
 @NonNullByDefault
-public class ConfigStore {
+public class ConfigStore implements EventSubscriber {
 
     public static final String METAKEY = "HUEEMU";
     public static final String EVENT_ADDRESS_CHANGED = "HUE_EMU_CONFIG_ADDR_CHANGED";
 
+    public static final String SNAPSHOT_LIGHTS = "lights";
+    public static final String SNAPSHOT_GROUPS = "groups";
+    public static final String SNAPSHOT_SENSORS = "sensors";
+
+    /**
+     * A serialized resource together with its entity tag
+     */
+    public record Snapshot(String json, EntityTag etag) {
+    }
+
     private final Logger logger = LoggerFactory.getLogger(ConfigStore.class);
 
     public HueDataStore ds = new HueDataStore();
@@ -122,6 +144,9 @@ public class ConfigStore {
 
     private int highestAssignedHueID = 1;
 
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong snapshotGeneration = new AtomicLong();
+
     public ConfigStore() {
         scheduler = ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
     }
@@ -246,7 +271,7 @@ public class ConfigStore {
                 : "255.255.255.0";
 
         if (eventAdmin != null) {
-            eventAdmin.postEvent(new Event(EVENT_ADDRESS_CHANGED, Collections.emptyMap()));
+            eventAdmin.postEvent(new org.osgi.service.event.Event(EVENT_ADDRESS_CHANGED, Collections.emptyMap()));
         }
     }
 
@@ -401,4 +426,76 @@ public class ConfigStore {
     public Set<InetAddress> getDiscoveryIps() {
         return discoveryIps;
     }
+
+    /**
+     * Returns the serialized form of a resource. The resource is only serialized again after the snapshot got
+     * invalidated by {@link #invalidateSnapshots()} or {@link #invalidateSnapshots(String)}.
+     *
+     * @param resource The resource path, for example {@link #SNAPSHOT_LIGHTS} or "lights/1"
+     * @param source Supplies the object to serialize
+     * @return The snapshot of the resource
+     */
+    public Snapshot snapshot(String resource, Supplier<Object> source) {
+        Snapshot snapshot = snapshots.get(resource);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long generation = snapshotGeneration.get();
+        String json = gson.toJson(source.get());
+        snapshot = new Snapshot(json, new EntityTag(Long.toHexString(generation) + "-" + json.length() + "-"
+                + Integer.toHexString(json.hashCode())));
+        Snapshot serialized = snapshot;
+        // Don't keep a snapshot that was serialized while the data store got changed. The generation is checked
+        // while the entry is locked, so an invalidation either happens before and is seen, or removes the entry after.
+        snapshots.compute(resource,
+                (key, existing) -> snapshotGeneration.get() == generation ? serialized : existing);
+        return snapshot;
+    }
+
+    /**
+     * Invalidates all snapshots. To be called after lights, groups or sensors got added, removed or changed.
+     */
+    public void invalidateSnapshots() {
+        snapshotGeneration.incrementAndGet();
+        snapshots.clear();
+    }
+
+    /**
+     * Invalidates the snapshots of the light, group or sensor with the given hue ID and of the resource lists.
+     *
+     * @param hueID The hue ID
+     */
+    public void invalidateSnapshots(String hueID) {
+        snapshotGeneration.incrementAndGet();
+        for (String resource : Set.of(SNAPSHOT_LIGHTS, SNAPSHOT_GROUPS, SNAPSHOT_SENSORS)) {
+            snapshots.remove(resource);
+            snapshots.remove(resource + "/" + hueID);
+        }
+    }
+
+    /**
+     * Returns the hue ID already assigned to the given item, without assigning a new one.
+     *
+     * @param itemUID The item UID
+     * @return The hue ID or null if the item is not exposed
+     */
+    protected @Nullable String getAssignedHueID(String itemUID) {
+        Metadata metadata = metadataRegistry.get(new MetadataKey(METAKEY, itemUID));
+        return metadata != null ? metadata.getValue() : null;
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE);
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ItemStateChangedEvent stateChangedEvent) {
+            String hueID = getAssignedHueID(stateChangedEvent.getItemName());
+            if (hueID != null) {
+                invalidateSnapshots(hueID);
+            }
+        }
+    }
 }
@@ -20,12 +20,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.hueemulation.internal.ConfigStore.Snapshot;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponse;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponse.HueErrorMessage;
 import org.openhab.io.hueemulation.internal.dto.response.HueResponseSuccessSimple;
@@ -140,4 +142,20 @@ public class NetworkUtils {
         return Response.ok(gson.toJson(responses, new TypeToken<List<?>>() {
         }.getType())).build();
     }
+
+    /**
+     * Creates a json response for the given snapshot. Responds with "304 Not Modified" instead, if the
+     * "If-None-Match" header of the request matches the entity tag of the snapshot.
+     *
+     * @param request The request
+     * @param snapshot A snapshot, see {@link ConfigStore#snapshot(String, java.util.function.Supplier)}
+     * @return
+     */
+    public static Response snapshotResponse(Request request, Snapshot snapshot) {
+        ResponseBuilder notModified = request.evaluatePreconditions(snapshot.etag());
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(snapshot.json()).tag(snapshot.etag()).build();
+    }
 }
@@ -27,6 +27,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -125,6 +126,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Activate
     protected void activate() {
         cs.ds.resetGroupsAndLights();
+        cs.invalidateSnapshots();
 
         itemRegistry.removeRegistryChangeListener(this);
         itemRegistry.addRegistryChangeListener(this);
@@ -185,6 +187,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             cs.ds.lights.put(hueID, device);
             updateGroup0();
         }
+        cs.invalidateSnapshots();
     }
 
     /**
@@ -204,6 +207,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         cs.ds.lights.remove(hueID);
         cs.ds.groups.remove(hueID);
         updateGroup0();
+        cs.invalidateSnapshots();
     }
 
     /**
@@ -225,6 +229,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             } else {
                 cs.ds.groups.remove(hueID);
             }
+            cs.invalidateSnapshots();
         }
 
         HueLightEntry hueDevice = cs.ds.lights.get(hueID);
@@ -243,17 +248,18 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
         }
 
         hueDevice.updateItem(element);
+        cs.invalidateSnapshots();
     }
 
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return NetworkUtils.snapshotResponse(request, cs.snapshot(ConfigStore.SNAPSHOT_LIGHTS, () -> cs.ds.lights));
     }
 
     @GET
@@ -283,13 +289,18 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/lights/{id}")
     @Operation(summary = "Return a light", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getLightApi(@Context UriInfo uri, //
+    public Response getLightApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "light id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        HueLightEntry hueDevice = cs.ds.lights.get(id);
+        if (hueDevice == null) {
+            return Response.ok(cs.gson.toJson(null)).build();
+        }
+        return NetworkUtils.snapshotResponse(request,
+                cs.snapshot(ConfigStore.SNAPSHOT_LIGHTS + "/" + id, () -> hueDevice));
     }
 
     @DELETE
@@ -386,6 +397,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
             }
             hueDevice.lastCommand = command;
             hueDevice.lastHueChange = newState;
+            cs.invalidateSnapshots(id);
         }
 
         return Response.ok(cs.gson.toJson(responses, new TypeToken<List<?>>() {
@@ -416,6 +428,7 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
 
         // First synchronize the internal state information with the framework
         hueDevice.action = StateUtils.colorStateFromItemState(groupItem.getState(), hueDevice.deviceType);
+        cs.invalidateSnapshots(id);
 
         List<HueResponse> responses = new ArrayList<>();
         Command command = StateUtils.computeCommandByState(responses, "/groups/" + id + "/state/", hueDevice.action,
@@ -440,24 +453,29 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        return NetworkUtils.snapshotResponse(request, cs.snapshot(ConfigStore.SNAPSHOT_GROUPS, () -> cs.ds.groups));
     }
 
     @GET
     @Path("{username}/groups/{id}")
     @Operation(summary = "Return a group", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getGroupApi(@Context UriInfo uri, //
+    public Response getGroupApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "group id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups.get(id))).build();
+        HueGroupEntry hueGroup = cs.ds.groups.get(id);
+        if (hueGroup == null) {
+            return Response.ok(cs.gson.toJson(null)).build();
+        }
+        return NetworkUtils.snapshotResponse(request,
+                cs.snapshot(ConfigStore.SNAPSHOT_GROUPS + "/" + id, () -> hueGroup));
     }
 
     @POST
@@ -26,6 +26,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -91,6 +92,7 @@ public class Sensors implements RegistryChangeListener<Item> {
     @Activate
     protected void activate() {
         cs.ds.resetSensors();
+        cs.invalidateSnapshots();
 
         itemRegistry.removeRegistryChangeListener(this);
         itemRegistry.addRegistryChangeListener(this);
@@ -124,6 +126,7 @@ public class Sensors implements RegistryChangeListener<Item> {
 
         HueSensorEntry sensor = new HueSensorEntry(element);
         cs.ds.sensors.put(hueID, sensor);
+        cs.invalidateSnapshots();
     }
 
     @Override
@@ -131,6 +134,7 @@ public class Sensors implements RegistryChangeListener<Item> {
         String hueID = cs.mapItemUIDtoHueID(element);
         logger.debug("Remove item {}", hueID);
         cs.ds.sensors.remove(hueID);
+        cs.invalidateSnapshots();
     }
 
     @Override
@@ -148,17 +152,19 @@ public class Sensors implements RegistryChangeListener<Item> {
 
         HueSensorEntry sensor = new HueSensorEntry(element);
         cs.ds.sensors.put(hueID, sensor);
+        cs.invalidateSnapshots();
     }
 
     @GET
     @Path("{username}/sensors")
     @Operation(summary = "Return all sensors", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllSensorsApi(@Context UriInfo uri,
+    public Response getAllSensorsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.sensors)).build();
+        return NetworkUtils.snapshotResponse(request,
+                cs.snapshot(ConfigStore.SNAPSHOT_SENSORS, () -> cs.ds.sensors));
     }
 
     @GET
@@ -188,13 +194,18 @@ public class Sensors implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/sensors/{id}")
     @Operation(summary = "Return a sensor", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getSensorApi(@Context UriInfo uri, //
+    public Response getSensorApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "sensor id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.sensors.get(id))).build();
+        HueSensorEntry sensor = cs.ds.sensors.get(id);
+        if (sensor == null) {
+            return Response.ok(cs.gson.toJson(null)).build();
+        }
+        return NetworkUtils.snapshotResponse(request,
+                cs.snapshot(ConfigStore.SNAPSHOT_SENSORS + "/" + id, () -> sensor));
     }
 
     @GET
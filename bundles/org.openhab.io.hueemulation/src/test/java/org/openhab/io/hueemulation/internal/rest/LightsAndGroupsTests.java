@@ -17,12 +17,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +35,7 @@ import org.openhab.core.events.Event;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.library.items.ColorItem;
 import org.openhab.core.library.items.StringItem;
 import org.openhab.core.library.items.SwitchItem;
@@ -424,6 +429,45 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsServedFromSnapshot() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertThat(response.getStatus(), is(200));
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertNotNull(etag);
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertThat(response.getStatus(), is(304));
+
+        // A state change of an exposed item invalidates the snapshot
+        HueLightEntry hueLightEntry = cs.ds.lights.get("1");
+        assertNotNull(hueLightEntry);
+        hueLightEntry.item.setState(OnOffType.ON);
+        ItemStateChangedEvent event = mock(ItemStateChangedEvent.class);
+        when(event.getItemName()).thenReturn("switch");
+        cs.receive(event);
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), is(not(etag)));
+        assertThat(response.getContentAsString(), containsString("\"on\":true"));
+    }
+
+    @Test
+    public void snapshotSerializedDuringInvalidationIsNotKept() {
+        ConfigStore.Snapshot stale = cs.snapshot(ConfigStore.SNAPSHOT_LIGHTS, () -> {
+            // the data store changes while the snapshot is serialized
+            cs.invalidateSnapshots();
+            return cs.ds.lights;
+        });
+
+        ConfigStore.Snapshot current = cs.snapshot(ConfigStore.SNAPSHOT_LIGHTS, () -> cs.ds.lights);
+        assertThat(current, is(not(sameInstance(stale))));
+        assertThat(cs.snapshot(ConfigStore.SNAPSHOT_LIGHTS, () -> cs.ds.lights), is(sameInstance(current)));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
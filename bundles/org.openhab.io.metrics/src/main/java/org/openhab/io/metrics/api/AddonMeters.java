@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link AddonMeters} are the meters of one instance of an add-on, e.g. of a thing or a persistence service, all
+ * tagged with {@link AddonMetricsService#TAG_ADDON} and {@link AddonMetricsService#TAG_INSTANCE}.
+ *
+ * The values are kept by the add-on itself, e.g. in an {@link java.util.concurrent.atomic.AtomicLong}, and are only
+ * read when the metrics are published. This way the add-on does not need the metrics API to record values.
+ *
+ * Meters are registered once, e.g. when a thing handler is created, and are removed with {@link #close()}, e.g.
+ * when it is removed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public interface AddonMeters extends AutoCloseable {
+
+    /**
+     * Registers a counter.
+     *
+     * @param name the meter name, e.g. {@link AddonMetricsService#ERRORS}
+     * @param count supplier of the monotonically increasing count
+     */
+    void counter(String name, LongSupplier count);
+
+    /**
+     * Registers a gauge.
+     *
+     * @param name the meter name, e.g. {@link AddonMetricsService#QUEUE_DEPTH}
+     * @param value supplier of the current value
+     */
+    void gauge(String name, DoubleSupplier value);
+
+    /**
+     * Registers a timer.
+     *
+     * @param name the meter name, e.g. {@link AddonMetricsService#COMMAND_LATENCY}
+     * @param count supplier of the monotonically increasing number of recorded durations
+     * @param totalNanos supplier of the monotonically increasing sum of the recorded durations in nanoseconds
+     */
+    void timer(String name, LongSupplier count, LongSupplier totalNanos);
+
+    /**
+     * Removes all meters registered by these {@link AddonMeters}.
+     */
+    @Override
+    void close();
+}
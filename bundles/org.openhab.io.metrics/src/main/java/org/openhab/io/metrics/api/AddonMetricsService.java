@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.api;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * The {@link AddonMetricsService} lets bindings and persistence services publish their own metrics next to the
+ * openHAB core metrics.
+ *
+ * The meter names below are used by all add-ons, so that the same metric of different add-ons can be compared. All
+ * meters are tagged with {@link #TAG_ADDON} and {@link #TAG_INSTANCE}.
+ *
+ * Add-ons import this package optionally, so that they can be installed without the metrics service. They only use it
+ * in a class that is created when this service is bound.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public interface AddonMetricsService {
+
+    /** Tag of the add-on id, e.g. the binding id or the persistence service id */
+    String TAG_ADDON = "addon";
+    /** Tag of the instance of the add-on, e.g. the thing UID or the persistence service id */
+    String TAG_INSTANCE = "instance";
+
+    /** Timer of the time from receiving a command until the device or broker accepted it */
+    String COMMAND_LATENCY = "openhab.addon.command.latency";
+    /** Timer of the duration of a poll */
+    String POLL_DURATION = "openhab.addon.poll.duration";
+    /** Timer of the duration of a write to a database */
+    String WRITE_DURATION = "openhab.addon.write.duration";
+    /** Counter of received messages, polls or stored values */
+    String MESSAGES = "openhab.addon.messages";
+    /** Gauge of the number of queued messages or values */
+    String QUEUE_DEPTH = "openhab.addon.queue.depth";
+    /** Counter of failed commands, polls or writes */
+    String ERRORS = "openhab.addon.errors";
+
+    /**
+     * Returns the meters of an instance of an add-on.
+     *
+     * @param addonId the id of the add-on
+     * @param instance the instance of the add-on
+     * @return the meters of the instance
+     */
+    AddonMeters forAddon(String addonId, String instance);
+
+    /**
+     * Returns the meters of a thing, tagged with its binding id and thing UID.
+     *
+     * @param thingUID the UID of the thing
+     * @return the meters of the thing
+     */
+    default AddonMeters forThing(ThingUID thingUID) {
+        return forAddon(thingUID.getBindingId(), thingUID.getAsString());
+    }
+
+    /**
+     * Returns the meters of a persistence service, tagged with its id as add-on id and instance.
+     *
+     * @param serviceId the id of the persistence service
+     * @return the meters of the persistence service
+     */
+    default AddonMeters forPersistenceService(String serviceId) {
+        return forAddon(serviceId, serviceId);
+    }
+}
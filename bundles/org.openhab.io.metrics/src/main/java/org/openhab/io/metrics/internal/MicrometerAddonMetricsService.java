@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.io.metrics.api.AddonMeters;
+import org.openhab.io.metrics.api.AddonMetricsService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link MicrometerAddonMetricsService} registers the meters of add-ons in the openHAB meter registry, so that
+ * they are published by all configured exporters.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(service = AddonMetricsService.class)
+@NonNullByDefault
+public class MicrometerAddonMetricsService implements AddonMetricsService {
+
+    private final MeterRegistry meterRegistry;
+
+    @Activate
+    public MicrometerAddonMetricsService(final @Reference MeterRegistryProvider meterRegistryProvider) {
+        this.meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+    }
+
+    @Override
+    public AddonMeters forAddon(String addonId, String instance) {
+        return new MicrometerAddonMeters(meterRegistry, Tags.of(TAG_ADDON, addonId, TAG_INSTANCE, instance));
+    }
+
+    /**
+     * Sources of the values of a timer
+     */
+    private record TimerSource(LongSupplier count, LongSupplier totalNanos) {
+    }
+
+    private static class MicrometerAddonMeters implements AddonMeters {
+
+        private final MeterRegistry meterRegistry;
+        private final Tags tags;
+        private final List<Meter> meters = new ArrayList<>();
+        // function meters only keep weak references to their sources
+        private final List<Object> sources = new ArrayList<>();
+
+        MicrometerAddonMeters(MeterRegistry meterRegistry, Tags tags) {
+            this.meterRegistry = meterRegistry;
+            this.tags = tags;
+        }
+
+        @Override
+        public synchronized void counter(String name, LongSupplier count) {
+            sources.add(count);
+            meters.add(
+                    FunctionCounter.builder(name, count, LongSupplier::getAsLong).tags(tags).register(meterRegistry));
+        }
+
+        @Override
+        public synchronized void gauge(String name, DoubleSupplier value) {
+            sources.add(value);
+            meters.add(Gauge.builder(name, value, DoubleSupplier::getAsDouble).tags(tags).register(meterRegistry));
+        }
+
+        @Override
+        public synchronized void timer(String name, LongSupplier count, LongSupplier totalNanos) {
+            TimerSource source = new TimerSource(count, totalNanos);
+            sources.add(source);
+            meters.add(FunctionTimer.builder(name, source, s -> s.count().getAsLong(),
+                    s -> s.totalNanos().getAsLong(), TimeUnit.NANOSECONDS).tags(tags).register(meterRegistry));
+        }
+
+        @Override
+        public synchronized void close() {
+            meters.forEach(meterRegistry::remove);
+            meters.clear();
+            sources.clear();
+        }
+    }
+}
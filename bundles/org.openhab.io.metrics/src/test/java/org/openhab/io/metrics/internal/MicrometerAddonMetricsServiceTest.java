@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.io.metrics.api.AddonMeters;
+import org.openhab.io.metrics.api.AddonMetricsService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MicrometerAddonMetricsServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private @NonNullByDefault({}) MicrometerAddonMetricsService service;
+
+    @BeforeEach
+    public void setUp() {
+        MeterRegistryProvider meterRegistryProvider = mock(MeterRegistryProvider.class);
+        when(meterRegistryProvider.getOHMeterRegistry()).thenReturn(meterRegistry);
+        service = new MicrometerAddonMetricsService(meterRegistryProvider);
+    }
+
+    @Test
+    public void testThingAndPersistenceMetersUseTheSameTags() {
+        service.forThing(new ThingUID("modbus", "data", "temperature")).counter(AddonMetricsService.MESSAGES,
+                () -> 3);
+        service.forPersistenceService("jdbc").counter(AddonMetricsService.MESSAGES, () -> 5);
+
+        FunctionCounter thingCounter = meterRegistry.get(AddonMetricsService.MESSAGES)
+                .tag(AddonMetricsService.TAG_ADDON, "modbus")
+                .tag(AddonMetricsService.TAG_INSTANCE, "modbus:data:temperature").functionCounter();
+        FunctionCounter serviceCounter = meterRegistry.get(AddonMetricsService.MESSAGES)
+                .tag(AddonMetricsService.TAG_ADDON, "jdbc").tag(AddonMetricsService.TAG_INSTANCE, "jdbc")
+                .functionCounter();
+
+        assertThat(thingCounter.count(), is(3.0));
+        assertThat(serviceCounter.count(), is(5.0));
+        assertThat(thingCounter.getId().getTags().size(), is(2));
+        assertThat(serviceCounter.getId().getTags().size(), is(2));
+    }
+
+    @Test
+    public void testMetersReadTheValuesOfTheAddon() {
+        AtomicLong errors = new AtomicLong();
+        AtomicLong queued = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        AtomicLong writeNanos = new AtomicLong();
+        AddonMeters meters = service.forPersistenceService("influxdb");
+        meters.counter(AddonMetricsService.ERRORS, errors::get);
+        meters.gauge(AddonMetricsService.QUEUE_DEPTH, queued::get);
+        meters.timer(AddonMetricsService.WRITE_DURATION, writes::get, writeNanos::get);
+
+        errors.incrementAndGet();
+        queued.set(7);
+        writes.addAndGet(2);
+        writeNanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertThat(meterRegistry.get(AddonMetricsService.ERRORS).functionCounter().count(), is(1.0));
+        assertThat(meterRegistry.get(AddonMetricsService.QUEUE_DEPTH).gauge().value(), is(7.0));
+        FunctionTimer timer = meterRegistry.get(AddonMetricsService.WRITE_DURATION).functionTimer();
+        assertThat(timer.count(), is(2.0));
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS), is(30.0));
+        assertThat(timer.mean(TimeUnit.MILLISECONDS), is(15.0));
+    }
+
+    @Test
+    public void testCloseRemovesMeters() {
+        AddonMeters first = service.forThing(new ThingUID("mqtt", "topic", "first"));
+        AddonMeters second = service.forThing(new ThingUID("mqtt", "topic", "second"));
+        first.counter(AddonMetricsService.MESSAGES, () -> 1);
+        first.gauge(AddonMetricsService.QUEUE_DEPTH, () -> 1);
+        first.timer(AddonMetricsService.COMMAND_LATENCY, () -> 1, () -> 1);
+        second.counter(AddonMetricsService.MESSAGES, () -> 2);
+
+        first.close();
+
+        assertThat(meterRegistry.getMeters().size(), is(1));
+        assertThat(meterRegistry.get(AddonMetricsService.MESSAGES).functionCounter().count(), is(2.0));
+        assertThat(meterRegistry.find(AddonMetricsService.QUEUE_DEPTH).meter(), is(nullValue()));
+        assertThat(meterRegistry.find(AddonMetricsService.COMMAND_LATENCY).meter(), is(nullValue()));
+
+        // closing twice does not fail
+        first.close();
+        second.close();
+        assertThat(meterRegistry.getMeters().size(), is(0));
+    }
+}
@@ -19,7 +19,9 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.Nullable;
@@ -36,9 +39,9 @@ import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -84,6 +87,16 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    /*
+     * Maximum size of the response content sent in one message
+     */
+    private static final int RESPONSE_FRAME_SIZE = 64 * 1024;
+
+    /*
+     * Number of response content bytes of all requests held in frames, after which frames are sent before they are full
+     */
+    private static final long MAX_BUFFERED_RESPONSE_BYTES = 1024 * 1024;
+
     /*
      * Logger for this class
      */
@@ -119,6 +132,23 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * This map holds the responses of the running requests, which are sent to the openHAB Cloud
+     */
+    private final Map<Integer, ProxiedResponse> runningResponses = new ConcurrentHashMap<>();
+
+    /*
+     * Response content bytes of all running requests, which are held in frames
+     */
+    private final AtomicLong bufferedResponseBytes = new AtomicLong();
+
+    /*
+     * Statistics of the finished responses
+     */
+    private final AtomicLong finishedResponses = new AtomicLong();
+    private final AtomicLong sentResponseBytes = new AtomicLong();
+    private final AtomicLong sentResponseFrames = new AtomicLong();
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -143,6 +173,19 @@ public class CloudClient {
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
 
+    /*
+     * Time in milliseconds item updates are collected before they are sent to the openHAB Cloud
+     */
+    private final long itemUpdateInterval;
+
+    /*
+     * This map holds the latest state of each exposed item that was not sent to the openHAB Cloud yet
+     */
+    private final Map<String, String> pendingItemUpdates = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> itemUpdateFuture;
+    private final AtomicLong receivedItemUpdates = new AtomicLong();
+    private final AtomicLong sentItemUpdates = new AtomicLong();
+
     /**
      * Back-off strategy for reconnecting when manual reconnection is needed
      */
@@ -152,8 +195,7 @@ public class CloudClient {
      * Delay reconnect scheduler pool
      *
      */
-    protected final ScheduledExecutorService scheduler = ThreadPoolManager
-            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    protected final ScheduledExecutorService scheduler;
 
     @SuppressWarnings("null")
     private final AtomicReference<Optional<ScheduledFuture<?>>> reconnectFuture = new AtomicReference<>(
@@ -166,16 +208,27 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param itemUpdateInterval Time in milliseconds updates of exposed items are collected before the latest state of
+     *            each item is sent. Updates are sent immediately if zero.
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, long itemUpdateInterval) {
+        this(httpClient, uuid, secret, baseURL, localBaseUrl, remoteAccessEnabled, exposedItems, itemUpdateInterval,
+                ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON));
+    }
+
+    CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
+            boolean remoteAccessEnabled, Set<String> exposedItems, long itemUpdateInterval,
+            ScheduledExecutorService scheduler) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
+        this.itemUpdateInterval = itemUpdateInterval;
         this.jettyClient = httpClient;
+        this.scheduler = scheduler;
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
         reconnectBackoff.setJitter(RECONNECT_JITTER);
@@ -370,6 +423,8 @@ public class CloudClient {
                 this.localBaseUrl);
         reconnectBackoff.reset();
         isConnected = true;
+        // Send the item updates received while being disconnected
+        scheduleItemUpdates();
     }
 
     /**
@@ -382,6 +437,7 @@ public class CloudClient {
         isConnected = false;
         // And clean up the list of running requests
         runningRequests.clear();
+        runningResponses.clear();
     }
 
     /**
@@ -477,8 +533,11 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            ProxiedResponse proxiedResponse = new ProxiedResponse(requestId, RESPONSE_FRAME_SIZE,
+                    bufferedResponseBytes, MAX_BUFFERED_RESPONSE_BYTES, body -> sendResponseContent(requestId, body));
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
+                proxiedResponse.setContentLength(response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH));
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -493,18 +552,10 @@ public class CloudClient {
                 }
             }).onResponseContent((theResponse, content) -> {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", StandardCharsets.UTF_8.decode(content.slice()).toString());
                 }
+                proxiedResponse.content(content);
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
@@ -515,7 +566,13 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).send(result -> {
+            });
+
+            // Add the request to the list of currently running requests before it is sent, to be able to cancel it
+            // and to find its response until it is finished
+            runningRequests.put(requestId, request);
+            runningResponses.put(requestId, proxiedResponse);
+            request.send(result -> {
                 logger.debug("onComplete: {}", requestId);
                 // Remove this request from list of running requests
                 runningRequests.remove(requestId);
@@ -531,24 +588,74 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
+                proxiedResponse.finish();
+                runningResponses.remove(requestId, proxiedResponse);
+                finishedResponses.incrementAndGet();
+                sentResponseBytes.addAndGet(proxiedResponse.getBytes());
+                sentResponseFrames.addAndGet(proxiedResponse.getFrames());
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
                     socket.emit("responseFinished", responseJson);
-                    logger.debug("Finished responding to request {}", requestId);
+                    logger.debug("Finished responding to request {}: {} bytes in {} messages after {} ms", requestId,
+                            proxiedResponse.getBytes(), proxiedResponse.getFrames(),
+                            TimeUnit.NANOSECONDS.toMillis(proxiedResponse.getDurationNanos()));
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
             });
-
-            // If successfully submitted request to http client, add it to the list of currently
-            // running requests to be able to cancel it if needed
-            runningRequests.put(requestId, request);
         } catch (JSONException | IOException | URISyntaxException e) {
             logger.debug("{}", e.getMessage());
         }
     }
 
+    private void sendResponseContent(int requestId, byte[] body) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", body);
+            socket.emit("responseContentBinary", responseJson);
+            logger.trace("Sent content to request {}", requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the responses of the requests, which are currently proxied
+     */
+    public Collection<ProxiedResponse> getRunningResponses() {
+        return List.copyOf(runningResponses.values());
+    }
+
+    /**
+     * Returns the number of response content bytes of all running requests, which are not sent yet
+     */
+    public long getBufferedResponseBytes() {
+        return bufferedResponseBytes.get();
+    }
+
+    /**
+     * Returns the number of finished proxied responses
+     */
+    public long getFinishedResponses() {
+        return finishedResponses.get();
+    }
+
+    /**
+     * Returns the number of content bytes sent for the finished responses
+     */
+    public long getSentResponseBytes() {
+        return sentResponseBytes.get();
+    }
+
+    /**
+     * Returns the number of content messages sent for the finished responses
+     */
+    public long getSentResponseFrames() {
+        return sentResponseFrames.get();
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         Iterator<String> headersIterator = requestHeadersJson.keys();
         // Convert JSONObject of headers into Header ArrayList
@@ -777,23 +884,92 @@ public class CloudClient {
     /**
      * Send item update to openHAB Cloud
      *
+     * Updates are collected for the configured interval and only the latest state of each item is sent. While there
+     * is no connection, only the latest state of each item is kept and sent after reconnecting.
+     *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
+        receivedItemUpdates.incrementAndGet();
+        synchronized (pendingItemUpdates) {
+            pendingItemUpdates.put(itemName, itemState);
+        }
         if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
+            scheduleItemUpdates();
+        } else {
+            logger.debug("No connection, Item update is sent after reconnecting");
+        }
+    }
+
+    private void scheduleItemUpdates() {
+        if (itemUpdateInterval <= 0) {
+            sendPendingItemUpdates();
+            return;
+        }
+        synchronized (pendingItemUpdates) {
+            if (itemUpdateFuture == null && !pendingItemUpdates.isEmpty()) {
+                itemUpdateFuture = scheduler.schedule(this::sendPendingItemUpdates, itemUpdateInterval,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void sendPendingItemUpdates() {
+        Map<String, String> itemUpdates;
+        synchronized (pendingItemUpdates) {
+            itemUpdateFuture = null;
+            if (!isConnected() || pendingItemUpdates.isEmpty()) {
+                return;
+            }
+            itemUpdates = new LinkedHashMap<>(pendingItemUpdates);
+            pendingItemUpdates.clear();
+        }
+        for (Map.Entry<String, String> itemUpdate : itemUpdates.entrySet()) {
+            logger.debug("Sending update '{}' for item '{}'", itemUpdate.getValue(), itemUpdate.getKey());
             JSONObject itemUpdateMessage = new JSONObject();
             try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
+                itemUpdateMessage.put("itemName", itemUpdate.getKey());
+                itemUpdateMessage.put("itemStatus", itemUpdate.getValue());
                 socket.emit("itemupdate", itemUpdateMessage);
+                sentItemUpdates.incrementAndGet();
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
-        } else {
-            logger.debug("No connection, Item update is not sent");
+        }
+        logger.trace("Sent {} item updates, {} of {} item updates were coalesced so far", itemUpdates.size(),
+                getCoalescedItemUpdates(), receivedItemUpdates.get());
+    }
+
+    /**
+     * Returns the number of item updates that were not sent, because a newer state of the item was sent instead, i.e.
+     * the number of messages saved by coalescing
+     */
+    public long getCoalescedItemUpdates() {
+        return receivedItemUpdates.get() - sentItemUpdates.get() - getPendingItemUpdates();
+    }
+
+    /**
+     * Returns the number of updates of exposed items received since the client was created
+     */
+    public long getReceivedItemUpdates() {
+        return receivedItemUpdates.get();
+    }
+
+    /**
+     * Returns the number of item updates sent to the openHAB Cloud since the client was created
+     */
+    public long getSentItemUpdates() {
+        return sentItemUpdates.get();
+    }
+
+    /**
+     * Returns the number of items whose latest state was not sent yet
+     */
+    public int getPendingItemUpdates() {
+        synchronized (pendingItemUpdates) {
+            return pendingItemUpdates.size();
         }
     }
 
@@ -810,6 +986,15 @@ public class CloudClient {
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
+        synchronized (pendingItemUpdates) {
+            ScheduledFuture<?> future = itemUpdateFuture;
+            if (future != null) {
+                future.cancel(false);
+                itemUpdateFuture = null;
+            }
+        }
+        logger.debug("Sent {} item updates, {} of {} item updates were coalesced", sentItemUpdates.get(),
+                getCoalescedItemUpdates(), receivedItemUpdates.get());
         socket.disconnect();
     }
 
@@ -817,6 +1002,10 @@ public class CloudClient {
         this.listener = listener;
     }
 
+    void setSocket(Socket socket) {
+        this.socket = socket;
+    }
+
     private void scheduleReconnect(long delay) {
         reconnectFuture.getAndSet(Optional.of(scheduler.schedule(new Runnable() {
             @Override
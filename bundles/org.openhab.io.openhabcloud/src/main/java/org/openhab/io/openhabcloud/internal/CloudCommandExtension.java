@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link CloudCommandExtension} provides console commands for the openHAB Cloud connector.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class CloudCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_STATS), false);
+
+    private final CloudService cloudService;
+
+    @Activate
+    public CloudCommandExtension(final @Reference CloudService cloudService) {
+        super("openhabcloud", "Interact with the openHAB Cloud connector.");
+        this.cloudService = cloudService;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            printStats(console);
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void printStats(Console console) {
+        CloudClient cloudClient = cloudService.getCloudClient();
+        if (cloudClient == null) {
+            console.println("The openHAB Cloud connector is not started.");
+            return;
+        }
+        console.println("Connected:    " + cloudClient.isConnected());
+        console.println("Item updates: " + cloudClient.getReceivedItemUpdates() + " received, "
+                + cloudClient.getSentItemUpdates() + " sent, " + cloudClient.getCoalescedItemUpdates()
+                + " saved by coalescing, " + cloudClient.getPendingItemUpdates() + " pending");
+        console.println("Responses:    " + cloudClient.getFinishedResponses() + " finished with "
+                + cloudClient.getSentResponseBytes() + " bytes in " + cloudClient.getSentResponseFrames()
+                + " messages");
+        Collection<ProxiedResponse> runningResponses = cloudClient.getRunningResponses();
+        console.println("Running:      " + runningResponses.size() + " responses with "
+                + cloudClient.getBufferedResponseBytes() + " buffered bytes");
+        for (ProxiedResponse response : runningResponses) {
+            console.println(String.format("  request %d: %d bytes in %d messages, %d bytes buffered, %d ms",
+                    response.getRequestId(), response.getBytes(), response.getFrames(), response.getBufferedBytes(),
+                    TimeUnit.NANOSECONDS.toMillis(response.getDurationNanos())));
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_STATS, "shows statistics of the connection to the openHAB Cloud"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
@@ -77,10 +77,12 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_ITEM_UPDATE_INTERVAL = "itemUpdateInterval";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
     private static final int DEFAULT_LOCAL_OPENHAB_REQUEST_TIMEOUT = 30000;
+    private static final long DEFAULT_ITEM_UPDATE_INTERVAL = 0;
     private static final String HTTPCLIENT_NAME = "openhabcloud";
     public static final String CLOUD_EVENT_SOURCE = "org.openhab.io.openhabcloud";
 
@@ -95,6 +97,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
     private boolean remoteAccessEnabled = true;
     private Set<String> exposedItems = null;
+    private long itemUpdateInterval = DEFAULT_ITEM_UPDATE_INTERVAL;
     private int localPort;
 
     @Activate
@@ -255,6 +258,13 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
         }
     }
 
+    /**
+     * Returns the client of the connection to the openHAB Cloud, or null if the connector is not started yet
+     */
+    public @Nullable CloudClient getCloudClient() {
+        return cloudClient;
+    }
+
     @Deactivate
     protected void deactivate() {
         logger.debug("openHAB Cloud connector deactivated");
@@ -298,6 +308,19 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             }
         }
 
+        Object itemUpdateIntervalCfg = config.get(CFG_ITEM_UPDATE_INTERVAL);
+        if (itemUpdateIntervalCfg != null) {
+            try {
+                itemUpdateInterval = Long.parseLong(itemUpdateIntervalCfg.toString());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid item update interval '{}', using {} ms", itemUpdateIntervalCfg,
+                        DEFAULT_ITEM_UPDATE_INTERVAL);
+                itemUpdateInterval = DEFAULT_ITEM_UPDATE_INTERVAL;
+            }
+        } else {
+            itemUpdateInterval = DEFAULT_ITEM_UPDATE_INTERVAL;
+        }
+
         logger.debug("UUID = {}, secret = {}", censored(InstanceUUID.get()), censored(getSecret()));
 
         if (cloudClient != null) {
@@ -316,7 +339,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, itemUpdateInterval);
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
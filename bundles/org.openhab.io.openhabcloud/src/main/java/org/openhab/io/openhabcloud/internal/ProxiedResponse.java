@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ProxiedResponse} collects the response content of a request proxied through the openHAB Cloud into
+ * frames, which are sent as one message each.
+ *
+ * If the content length is known, the content chunks of Jetty are copied into frames of up to the frame size, so a
+ * request holds at most one frame. Full frames are sent as they are. Responses of unknown length, for example event
+ * streams, are passed through chunk by chunk, so they are not delayed.
+ *
+ * The bytes held in frames of all responses are counted in a shared counter. If it exceeds its limit, the frame is
+ * sent early instead of buffering more. The socket.io client does not report when a message has been written, so
+ * this only bounds the content held here, not the messages queued in the client.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ProxiedResponse {
+
+    private final int requestId;
+    private final int frameSize;
+    private final AtomicLong bufferedBytes;
+    private final long maxBufferedBytes;
+    private final Consumer<byte[]> sender;
+    private final long startNanos = System.nanoTime();
+
+    private long contentLength = -1;
+    private byte @Nullable [] frame;
+    private int frameLength;
+    private long bytes;
+    private int frames;
+    private long finishedNanos = -1;
+
+    /**
+     * @param requestId the id of the proxied request
+     * @param frameSize the maximum size of a frame
+     * @param bufferedBytes the counter of the bytes held in frames, shared by all responses
+     * @param maxBufferedBytes the number of bytes in frames, after which frames are sent before they are full
+     * @param sender sends a frame
+     */
+    public ProxiedResponse(int requestId, int frameSize, AtomicLong bufferedBytes, long maxBufferedBytes,
+            Consumer<byte[]> sender) {
+        this.requestId = requestId;
+        this.frameSize = frameSize;
+        this.bufferedBytes = bufferedBytes;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.sender = sender;
+    }
+
+    /**
+     * Sets the content length of the response.
+     *
+     * @param contentLength the content length, or -1 if it is unknown
+     */
+    public synchronized void setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    /**
+     * Adds a content chunk of the response. The chunk is not modified and not used after this method returns.
+     */
+    public synchronized void content(ByteBuffer content) {
+        ByteBuffer buffer = content.slice();
+        if (contentLength <= 0) {
+            bytes += buffer.remaining();
+            send(toArray(buffer));
+            return;
+        }
+        while (buffer.hasRemaining()) {
+            byte[] localFrame = frame;
+            if (localFrame == null) {
+                long expected = contentLength - bytes;
+                localFrame = new byte[expected > 0 ? (int) Math.min(frameSize, expected) : frameSize];
+                frame = localFrame;
+            }
+            int length = Math.min(buffer.remaining(), localFrame.length - frameLength);
+            buffer.get(localFrame, frameLength, length);
+            frameLength += length;
+            long buffered = bufferedBytes.addAndGet(length);
+            if (frameLength == localFrame.length || buffered > maxBufferedBytes) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Sends the content held in the current frame.
+     */
+    public synchronized void flush() {
+        byte[] localFrame = frame;
+        if (localFrame != null && frameLength > 0) {
+            bufferedBytes.addAndGet(-frameLength);
+            bytes += frameLength;
+            // a frame is only sent before it is full if the buffer limit is reached or the content is shorter
+            send(frameLength == localFrame.length ? localFrame : Arrays.copyOf(localFrame, frameLength));
+        }
+        frame = null;
+        frameLength = 0;
+    }
+
+    /**
+     * Sends the content held in the current frame and stops the measurement of the duration.
+     */
+    public synchronized void finish() {
+        flush();
+        if (finishedNanos < 0) {
+            finishedNanos = System.nanoTime();
+        }
+    }
+
+    private void send(byte[] body) {
+        sender.accept(body);
+        frames++;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] array = new byte[buffer.remaining()];
+        buffer.get(array);
+        return array;
+    }
+
+    /**
+     * Returns the id of the proxied request
+     */
+    public int getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Returns the number of content bytes sent
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of frames sent
+     */
+    public synchronized int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Returns the number of content bytes received, but not sent yet
+     */
+    public synchronized int getBufferedBytes() {
+        return frameLength;
+    }
+
+    /**
+     * Returns the time since the request was sent until it finished, or until now if it did not finish yet
+     */
+    public synchronized long getDurationNanos() {
+        return (finishedNanos < 0 ? System.nanoTime() : finishedNanos) - startNanos;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.socket.client.Socket;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class CloudClientTest {
+
+    private static final long ITEM_UPDATE_INTERVAL = 500;
+
+    private @Mock @NonNullByDefault({}) HttpClient httpClient;
+    private @Mock @NonNullByDefault({}) Socket socket;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> itemUpdateFuture;
+
+    private final List<String> sentItemUpdates = new ArrayList<>();
+    private final List<Runnable> scheduledJobs = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            if ("itemupdate".equals(invocation.getArgument(0))) {
+                JSONObject message = invocation.getArgument(1);
+                sentItemUpdates.add(message.getString("itemName") + "=" + message.getString("itemStatus"));
+            }
+            return socket;
+        }).when(socket).emit(anyString(), any());
+        doAnswer(invocation -> {
+            scheduledJobs.add(invocation.getArgument(0));
+            return itemUpdateFuture;
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private CloudClient createClient(long itemUpdateInterval) {
+        CloudClient client = new CloudClient(httpClient, "uuid", "secret", "https://myopenhab.org/",
+                "http://localhost:8080", true, Set.of("a", "b"), itemUpdateInterval, scheduler);
+        client.setSocket(socket);
+        return client;
+    }
+
+    private void runScheduledJobs() {
+        List<Runnable> jobs = new ArrayList<>(scheduledJobs);
+        scheduledJobs.clear();
+        jobs.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testItemUpdatesAreSentImmediatelyWithoutInterval() {
+        CloudClient client = createClient(0);
+        client.onConnect();
+
+        client.sendItemUpdate("a", "1");
+        client.sendItemUpdate("a", "2");
+
+        assertThat(sentItemUpdates, is(List.of("a=1", "a=2")));
+        assertThat(scheduledJobs.size(), is(0));
+        assertThat(client.getSentItemUpdates(), is(2L));
+        assertThat(client.getCoalescedItemUpdates(), is(0L));
+    }
+
+    @Test
+    public void testItemUpdatesAreCoalescedWithinInterval() {
+        CloudClient client = createClient(ITEM_UPDATE_INTERVAL);
+        client.onConnect();
+
+        client.sendItemUpdate("a", "1");
+        client.sendItemUpdate("b", "1");
+        client.sendItemUpdate("a", "2");
+        client.sendItemUpdate("a", "3");
+
+        assertThat(sentItemUpdates.size(), is(0));
+        assertThat(client.getPendingItemUpdates(), is(2));
+        verify(scheduler).schedule(any(Runnable.class), eq(ITEM_UPDATE_INTERVAL), eq(TimeUnit.MILLISECONDS));
+
+        runScheduledJobs();
+
+        assertThat(sentItemUpdates, is(List.of("a=3", "b=1")));
+        assertThat(client.getReceivedItemUpdates(), is(4L));
+        assertThat(client.getSentItemUpdates(), is(2L));
+        assertThat(client.getCoalescedItemUpdates(), is(2L));
+        assertThat(client.getPendingItemUpdates(), is(0));
+
+        // the next update starts a new interval
+        client.sendItemUpdate("b", "2");
+        assertThat(scheduledJobs.size(), is(1));
+        runScheduledJobs();
+        assertThat(sentItemUpdates, is(List.of("a=3", "b=1", "b=2")));
+    }
+
+    @Test
+    public void testLatestItemUpdatesAreSentAfterReconnecting() {
+        CloudClient client = createClient(0);
+
+        client.sendItemUpdate("a", "1");
+        client.sendItemUpdate("a", "2");
+        client.sendItemUpdate("b", "1");
+
+        assertThat(sentItemUpdates.size(), is(0));
+        assertThat(client.getPendingItemUpdates(), is(2));
+
+        client.onConnect();
+
+        assertThat(sentItemUpdates, is(List.of("a=2", "b=1")));
+        assertThat(client.getCoalescedItemUpdates(), is(1L));
+    }
+
+    @Test
+    public void testItemUpdatesAreKeptWhenDisconnectedBeforeInterval() {
+        CloudClient client = createClient(ITEM_UPDATE_INTERVAL);
+        client.onConnect();
+        client.sendItemUpdate("a", "1");
+
+        client.onDisconnect();
+        runScheduledJobs();
+
+        assertThat(sentItemUpdates.size(), is(0));
+        assertThat(client.getPendingItemUpdates(), is(1));
+
+        client.sendItemUpdate("a", "2");
+        assertThat(scheduledJobs.size(), is(0));
+        client.onConnect();
+        runScheduledJobs();
+
+        assertThat(sentItemUpdates, is(List.of("a=2")));
+        assertThat(client.getCoalescedItemUpdates(), is(1L));
+    }
+
+    @Test
+    public void testShutdownCancelsPendingInterval() {
+        CloudClient client = createClient(ITEM_UPDATE_INTERVAL);
+        client.onConnect();
+        client.sendItemUpdate("a", "1");
+
+        client.shutdown();
+
+        verify(itemUpdateFuture).cancel(false);
+        verify(socket).disconnect();
+        assertThat(sentItemUpdates.size(), is(0));
+    }
+
+    @Test
+    public void testResponseIsRunningFromSendUntilDisconnect() {
+        CloudClient client = createClient(0);
+        client.onConnect();
+        Request request = mock(Request.class, RETURNS_SELF);
+        when(httpClient.newRequest(any(URI.class))).thenReturn(request);
+        List<Integer> runningWhenSent = new ArrayList<>();
+        doAnswer(invocation -> {
+            runningWhenSent.add(client.getRunningResponses().size());
+            return null;
+        }).when(request).send(any());
+
+        client.onEvent("request", new JSONObject().put("id", 7).put("path", "/rest/items").put("method", "GET")
+                .put("headers", new JSONObject()).put("body", "").put("query", new JSONObject()));
+
+        assertThat(runningWhenSent, is(List.of(1)));
+        assertThat(client.getRunningResponses().iterator().next().getRequestId(), is(7));
+
+        client.onDisconnect();
+
+        assertThat(client.getRunningResponses().size(), is(0));
+    }
+}
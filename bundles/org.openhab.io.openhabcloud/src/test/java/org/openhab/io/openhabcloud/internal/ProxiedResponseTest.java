@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ProxiedResponseTest {
+
+    private static final int FRAME_SIZE = 8;
+
+    private final List<byte[]> sent = new ArrayList<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    private ProxiedResponse createResponse(long contentLength, long maxBufferedBytes) {
+        ProxiedResponse response = new ProxiedResponse(1, FRAME_SIZE, bufferedBytes, maxBufferedBytes, sent::add);
+        response.setContentLength(contentLength);
+        return response;
+    }
+
+    private static ByteBuffer chunk(int from, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (from + i);
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private void assertSentContent(int length) {
+        int position = 0;
+        for (byte[] frame : sent) {
+            for (byte b : frame) {
+                assertThat(b, is((byte) position++));
+            }
+        }
+        assertThat(position, is(length));
+    }
+
+    @Test
+    public void testChunksAreCollectedIntoFramesOfExactSize() {
+        ProxiedResponse response = createResponse(16, Long.MAX_VALUE);
+
+        response.content(chunk(0, 3));
+        response.content(chunk(3, 3));
+        assertThat(sent.size(), is(0));
+        assertThat(response.getBufferedBytes(), is(6));
+        assertThat(bufferedBytes.get(), is(6L));
+
+        response.content(chunk(6, 10));
+        response.finish();
+
+        assertThat(sent.size(), is(2));
+        assertThat(sent.get(0).length, is(FRAME_SIZE));
+        assertThat(sent.get(1).length, is(FRAME_SIZE));
+        assertSentContent(16);
+        assertThat(response.getBytes(), is(16L));
+        assertThat(response.getFrames(), is(2));
+        assertThat(response.getBufferedBytes(), is(0));
+        assertThat(bufferedBytes.get(), is(0L));
+    }
+
+    @Test
+    public void testFinalFrameIsSizedToTheRemainingContent() {
+        ProxiedResponse response = createResponse(11, Long.MAX_VALUE);
+
+        response.content(chunk(0, 5));
+        response.content(chunk(5, 6));
+
+        // the last frame is full with the last byte, so it is sent before the response finished
+        assertThat(sent.size(), is(2));
+        assertThat(sent.get(0).length, is(FRAME_SIZE));
+        assertThat(sent.get(1).length, is(3));
+        response.finish();
+        assertThat(sent.size(), is(2));
+        assertSentContent(11);
+    }
+
+    @Test
+    public void testShortContentIsSentWhenFinished() {
+        // the response is shorter than announced, for example because it got aborted
+        ProxiedResponse response = createResponse(20, Long.MAX_VALUE);
+
+        response.content(chunk(0, 10));
+        assertThat(sent.size(), is(1));
+        response.finish();
+
+        assertThat(sent.size(), is(2));
+        assertThat(sent.get(1).length, is(2));
+        assertSentContent(10);
+        assertThat(bufferedBytes.get(), is(0L));
+    }
+
+    @Test
+    public void testContentOfUnknownLengthIsPassedThrough() {
+        ProxiedResponse response = createResponse(-1, Long.MAX_VALUE);
+
+        response.content(chunk(0, 3));
+        assertThat(sent.size(), is(1));
+        response.content(chunk(3, 20));
+        assertThat(sent.size(), is(2));
+        response.finish();
+
+        assertThat(sent.size(), is(2));
+        assertThat(sent.get(0).length, is(3));
+        assertThat(sent.get(1).length, is(20));
+        assertSentContent(23);
+        assertThat(bufferedBytes.get(), is(0L));
+    }
+
+    @Test
+    public void testFramesAreSentEarlyWhenTheBufferLimitIsReached() {
+        ProxiedResponse other = new ProxiedResponse(2, FRAME_SIZE, bufferedBytes, 10, body -> {
+        });
+        other.setContentLength(100);
+        other.content(chunk(0, 6));
+
+        ProxiedResponse response = createResponse(16, 10);
+        response.content(chunk(0, 3));
+        assertThat(sent.size(), is(0));
+        response.content(chunk(3, 2));
+
+        // 11 bytes are held by both responses
+        assertThat(sent.size(), is(1));
+        assertThat(sent.get(0).length, is(5));
+        assertThat(bufferedBytes.get(), is(6L));
+    }
+
+    @Test
+    public void testChunkIsNotModified() {
+        ProxiedResponse response = createResponse(4, Long.MAX_VALUE);
+        ByteBuffer content = chunk(0, 4);
+
+        response.content(content);
+
+        assertThat(content.remaining(), is(4));
+        assertSentContent(4);
+    }
+}
@@ -14,6 +14,8 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -29,10 +31,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -54,6 +58,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpool;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
@@ -88,8 +93,8 @@ import org.slf4j.LoggerFactory;
  *         branch from Dominik Vorreiter
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.influxdb", //
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        InfluxDBPersistenceService.class }, configurationPid = "org.openhab.influxdb", //
         property = Constants.SERVICE_PID + "=org.openhab.influxdb")
 @ConfigurableService(category = "persistence", label = "InfluxDB Persistence Service", description_uri = InfluxDBPersistenceService.CONFIG_URI)
 public class InfluxDBPersistenceService implements ModifiablePersistenceService {
@@ -98,6 +103,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final long SPOOL_SEGMENT_SIZE = 4L * 1024 * 1024; // in bytes
+    private static final Path SPOOL_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb", "spool");
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -110,7 +117,15 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<InfluxPoint> pointsQueue;
+    private final @Nullable InfluxDBSpool spool;
+    private final AtomicLong droppedPoints = new AtomicLong();
+
+    // metrics
+    private final AtomicLong writtenPoints = new AtomicLong();
+    private final AtomicLong writeErrors = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -122,7 +137,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        this.pointsQueue = new LinkedBlockingQueue<>(configuration.getMaxQueueSize());
         if (configuration.isValid()) {
+            this.spool = configuration.isSpoolEnabled() ? openSpool() : null;
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
@@ -144,6 +161,25 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    // Visible for testing
+    protected Path getSpoolFolder() {
+        return SPOOL_FOLDER;
+    }
+
+    private @Nullable InfluxDBSpool openSpool() {
+        InfluxDBSpool spool = new InfluxDBSpool(getSpoolFolder(), configuration.getSpoolMaxSize() * 1024L * 1024L,
+                SPOOL_SEGMENT_SIZE, configuration.isDropOldest());
+        try {
+            spool.open();
+            return spool;
+        } catch (IOException e) {
+            logger.warn("Failed to open InfluxDB spool in {}, points will only be buffered in memory: {}",
+                    getSpoolFolder(), e.getMessage());
+            spool.close();
+            return null;
+        }
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -157,6 +193,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         if (!pointsQueue.isEmpty()) {
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
         }
+        InfluxDBSpool spool = this.spool;
+        if (spool != null) {
+            if (!spool.isEmpty()) {
+                logger.info("Keeping {} points in InfluxDB spool for replay after restart.", spool.getDepth());
+            }
+            spool.close();
+        }
 
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
@@ -209,7 +252,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
+            if (enqueue(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
                 logger.warn("Failed to queue {} for item {}", point, item);
@@ -280,13 +323,34 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
+    /**
+     * Add a point to the bounded in-memory queue. If the queue is full, either the oldest queued point or the new point
+     * is dropped, depending on the configured drop policy.
+     *
+     * @return true if the point has been queued
+     */
+    private boolean enqueue(InfluxPoint point) {
+        if (pointsQueue.offer(point)) {
+            return true;
+        }
+        droppedPoints.incrementAndGet();
+        if (configuration.isDropOldest()) {
+            pointsQueue.poll();
+            return pointsQueue.offer(point);
+        }
+        return false;
+    }
+
+    private synchronized void commit() {
+        InfluxDBSpool spool = this.spool;
+        if (spool != null) {
+            commitWithSpool(spool);
+        } else if (!pointsQueue.isEmpty() && checkConnection()) {
             List<InfluxPoint> points = new ArrayList<>();
             pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
+            if (!write(points)) {
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
+                points.forEach(this::enqueue);
                 influxDBRepository.disconnect();
             } else {
                 logger.trace("Wrote {} elements to database", points.size());
@@ -294,6 +358,121 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         }
     }
 
+    private void commitWithSpool(InfluxDBSpool spool) {
+        List<InfluxPoint> points = new ArrayList<>();
+        pointsQueue.drainTo(points);
+        boolean connected = checkConnection();
+        if (!points.isEmpty()) {
+            if (connected && spool.isEmpty()) {
+                if (write(points)) {
+                    logger.trace("Wrote {} elements to database", points.size());
+                } else {
+                    logger.warn("Spooling {} elements, failed to write batch.", points.size());
+                    spool.append(points);
+                    influxDBRepository.disconnect();
+                    connected = false;
+                }
+            } else {
+                // keep the order: new points go behind the points which are still waiting for replay
+                spool.append(points);
+                logger.trace("Spooled {} elements, {} elements in spool", points.size(), spool.getDepth());
+            }
+        }
+        if (connected && !spool.isEmpty()) {
+            replay(spool);
+        }
+    }
+
+    private void replay(InfluxDBSpool spool) {
+        long start = System.nanoTime();
+        long replayed = 0;
+        while (serviceActivated && !spool.isEmpty()) {
+            InfluxDBSpool.ReplayBatch batch = spool.peek(configuration.getReplayBatchSize());
+            if (batch.points().isEmpty() && batch.segments() == 0) {
+                break;
+            }
+            long batchStart = System.nanoTime();
+            if (!batch.points().isEmpty() && !write(batch.points())) {
+                logger.warn("Failed to replay {} spooled elements, {} elements remain in spool.",
+                        batch.points().size(), spool.getDepth());
+                influxDBRepository.disconnect();
+                break;
+            }
+            spool.acknowledge(batch, System.nanoTime() - batchStart);
+            replayed += batch.points().size();
+        }
+        if (replayed > 0) {
+            logger.info("Replayed {} spooled elements in {} ms, {} elements remain in spool.", replayed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), spool.getDepth());
+        }
+    }
+
+    /**
+     * Write a batch of points to the database and record the metrics of the write
+     *
+     * @return true if the points have been written
+     */
+    private boolean write(List<InfluxPoint> points) {
+        long start = System.nanoTime();
+        if (!influxDBRepository.write(points)) {
+            writeErrors.incrementAndGet();
+            return false;
+        }
+        totalWriteNanos.addAndGet(System.nanoTime() - start);
+        writes.incrementAndGet();
+        writtenPoints.addAndGet(points.size());
+        return true;
+    }
+
+    /**
+     * @return the number of points written to the database
+     */
+    public long getWrittenPoints() {
+        return writtenPoints.get();
+    }
+
+    /**
+     * @return the number of failed writes to the database
+     */
+    public long getWriteErrors() {
+        return writeErrors.get();
+    }
+
+    /**
+     * @return the number of successful writes to the database
+     */
+    public long getWrites() {
+        return writes.get();
+    }
+
+    /**
+     * @return the sum of the durations of the successful writes to the database, in nanoseconds
+     */
+    public long getTotalWriteNanos() {
+        return totalWriteNanos.get();
+    }
+
+    /**
+     * @return the number of points waiting in memory to be written
+     */
+    public int getQueueSize() {
+        return pointsQueue.size();
+    }
+
+    /**
+     * @return the number of points dropped because the in-memory queue was full
+     */
+    public long getDroppedPoints() {
+        return droppedPoints.get();
+    }
+
+    /**
+     * @return the spool, or <code>null</code> if spooling is disabled
+     */
+    public @Nullable InfluxDBSpool getSpool() {
+        return spool;
+    }
+
     /**
      * Convert incoming data to an {@link InfluxPoint} for further processing. This is needed because storage is
      * asynchronous and the item data may have changed.
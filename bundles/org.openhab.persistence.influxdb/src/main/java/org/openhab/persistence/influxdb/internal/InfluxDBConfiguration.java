@@ -39,6 +39,13 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String MAX_QUEUE_SIZE_PARAM = "maxQueueSize";
+    public static final String SPOOL_ENABLED_PARAM = "spoolEnabled";
+    public static final String SPOOL_MAX_SIZE_PARAM = "spoolMaxSize";
+    public static final String SPOOL_DROP_POLICY_PARAM = "spoolDropPolicy";
+    public static final String REPLAY_BATCH_SIZE_PARAM = "replayBatchSize";
+    public static final String DROP_POLICY_OLDEST = "oldest";
+    public static final String DROP_POLICY_NEWEST = "newest";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +58,11 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int maxQueueSize;
+    private final boolean spoolEnabled;
+    private final int spoolMaxSize;
+    private final boolean dropOldest;
+    private final int replayBatchSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +76,14 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        maxQueueSize = Math.max(1,
+                ConfigParser.valueAsOrElse(config.get(MAX_QUEUE_SIZE_PARAM), Integer.class, 100000));
+        spoolEnabled = ConfigParser.valueAsOrElse(config.get(SPOOL_ENABLED_PARAM), Boolean.class, false);
+        spoolMaxSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(SPOOL_MAX_SIZE_PARAM), Integer.class, 100));
+        dropOldest = !DROP_POLICY_NEWEST.equalsIgnoreCase(
+                ConfigParser.valueAsOrElse(config.get(SPOOL_DROP_POLICY_PARAM), String.class, DROP_POLICY_OLDEST));
+        replayBatchSize = Math.max(1,
+                ConfigParser.valueAsOrElse(config.get(REPLAY_BATCH_SIZE_PARAM), Integer.class, 1000));
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +174,44 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    /**
+     * @return maximum number of points buffered in memory until they are written or spooled
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public boolean isSpoolEnabled() {
+        return spoolEnabled;
+    }
+
+    /**
+     * @return maximum size of the spool in MB
+     */
+    public int getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
+    /**
+     * @return <code>true</code> if the oldest points are dropped when the queue or the spool is full,
+     *         <code>false</code> if new points are dropped
+     */
+    public boolean isDropOldest() {
+        return dropOldest;
+    }
+
+    public int getReplayBatchSize() {
+        return replayBatchSize;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", maxQueueSize=" + maxQueueSize + ", spoolEnabled=" + spoolEnabled
+                + ", spoolMaxSize=" + spoolMaxSize + ", dropOldest=" + dropOldest + ", replayBatchSize="
+                + replayBatchSize + '}';
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.api.AddonMeters;
+import org.openhab.io.metrics.api.AddonMetricsService;
+import org.openhab.persistence.influxdb.InfluxDBPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link InfluxDBMetrics} publishes the counts kept by the {@link InfluxDBPersistenceService} with the
+ * {@link AddonMetricsService}.
+ *
+ * This is the only class of the service using the metrics API, which is imported optionally. The component is only
+ * activated when the metrics service is available, so the persistence service starts without it.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(immediate = true)
+@NonNullByDefault
+public class InfluxDBMetrics {
+
+    private static final String METER_DROPPED_POINTS = "openhab.addon.influxdb.dropped";
+    private static final String METER_SPOOL_DEPTH = "openhab.addon.influxdb.spool.depth";
+
+    private final AddonMeters meters;
+
+    @Activate
+    public InfluxDBMetrics(@Reference AddonMetricsService metricsService,
+            @Reference InfluxDBPersistenceService persistenceService) {
+        meters = metricsService.forPersistenceService(InfluxDBPersistenceService.SERVICE_NAME);
+        meters.counter(AddonMetricsService.MESSAGES, persistenceService::getWrittenPoints);
+        meters.counter(AddonMetricsService.ERRORS, persistenceService::getWriteErrors);
+        meters.timer(AddonMetricsService.WRITE_DURATION, persistenceService::getWrites,
+                persistenceService::getTotalWriteNanos);
+        meters.gauge(AddonMetricsService.QUEUE_DEPTH, persistenceService::getQueueSize);
+        meters.counter(METER_DROPPED_POINTS, persistenceService::getDroppedPoints);
+        InfluxDBSpool spool = persistenceService.getSpool();
+        if (spool != null) {
+            meters.gauge(METER_SPOOL_DEPTH, spool::getDepth);
+        }
+    }
+
+    /**
+     * Removes the meters.
+     */
+    @Deactivate
+    public void close() {
+        meters.close();
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBSpool} is an append-only store for {@link InfluxPoint}s which could not be written to InfluxDB.
+ * Points are appended to segment files and replayed in the order they were appended. Fully replayed segments are
+ * deleted. A spool directory left over from a previous run is picked up again when the spool is opened.
+ *
+ * Each record is stored as its length, a CRC32 checksum and the serialized point. A record which was only partially
+ * written, e.g. due to a power loss, ends the segment it belongs to.
+ *
+ * The spool is not thread-safe, it is expected to be used from the commit job only.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpool {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final int RECORD_HEADER_SIZE = 12;
+    private static final int MAX_RECORD_SIZE = 1024 * 1024;
+
+    private static final byte TYPE_STRING = 'S';
+    private static final byte TYPE_DECIMAL = 'N';
+    private static final byte TYPE_LONG = 'L';
+    private static final byte TYPE_INTEGER = 'I';
+    private static final byte TYPE_DOUBLE = 'D';
+    private static final byte TYPE_BOOLEAN = 'B';
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpool.class);
+
+    private final Path directory;
+    private final long maxSize;
+    private final long segmentSize;
+    private final boolean dropOldest;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private @Nullable FileChannel writeChannel;
+    private long nextSequence = 0;
+    private long readOffset = 0;
+    private long size = 0;
+    private long depth = 0;
+
+    private long droppedCount = 0;
+    private long replayedCount = 0;
+    private double lastReplayRate = 0;
+
+    /**
+     * A batch of points read from the spool, which is removed from the spool by
+     * {@link #acknowledge(ReplayBatch, long)}.
+     *
+     * @param points the points in the order they were appended
+     * @param segments number of segments which have been read completely
+     * @param offset the read offset within the first segment which has not been read completely
+     * @param offsetPoints number of points read from the first segment which has not been read completely
+     */
+    public record ReplayBatch(List<InfluxPoint> points, int segments, long offset, int offsetPoints) {
+    }
+
+    private static class Segment {
+        private final Path path;
+        private final long sequence;
+        private long size;
+        // points which have not been replayed yet
+        private long points;
+
+        private Segment(Path path, long sequence) {
+            this.path = path;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Creates a new spool.
+     *
+     * @param directory the directory holding the segment files
+     * @param maxSize the maximum size of all segments in bytes
+     * @param segmentSize the size in bytes after which a new segment is started
+     * @param dropOldest if the spool is full, drop the oldest segment (<code>true</code>) or new points
+     *            (<code>false</code>)
+     */
+    public InfluxDBSpool(Path directory, long maxSize, long segmentSize, boolean dropOldest) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.segmentSize = Math.min(segmentSize, maxSize);
+        this.dropOldest = dropOldest;
+    }
+
+    /**
+     * Opens the spool and recovers the segments of a previous run.
+     *
+     * @throws IOException if the spool directory cannot be created or read
+     */
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Segment> existing = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String fileName = path.getFileName().toString();
+                if (fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        existing.add(new Segment(path, Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(),
+                                fileName.length() - SEGMENT_SUFFIX.length()))));
+                    } catch (NumberFormatException e) {
+                        logger.debug("Ignoring unexpected file {} in spool directory", path);
+                    }
+                }
+            });
+        }
+        existing.sort((a, b) -> Long.compare(a.sequence, b.sequence));
+        for (Segment segment : existing) {
+            recover(segment);
+            if (segment.points == 0) {
+                Files.deleteIfExists(segment.path);
+                continue;
+            }
+            segments.add(segment);
+            size += segment.size;
+            depth += segment.points;
+            nextSequence = segment.sequence + 1;
+        }
+        if (depth > 0) {
+            logger.info("Found {} points in InfluxDB spool {}", depth, directory);
+        }
+    }
+
+    /**
+     * Closes the spool. Spooled points are kept on disk.
+     */
+    public void close() {
+        closeWriteChannel();
+    }
+
+    /**
+     * Appends points to the spool. If the spool is full, either the oldest segments or the new points are dropped.
+     *
+     * @param points the points to append
+     */
+    public void append(List<InfluxPoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        try {
+            for (InfluxPoint point : points) {
+                byte[] record = toRecord(point);
+                if (!makeRoom(record.length)) {
+                    droppedCount++;
+                    continue;
+                }
+                FileChannel channel = getWriteChannel();
+                ByteBuffer buffer = ByteBuffer.wrap(record);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                Segment segment = segments.getLast();
+                segment.size += record.length;
+                segment.points++;
+                size += record.length;
+                depth++;
+                if (segment.size >= segmentSize) {
+                    closeWriteChannel();
+                }
+            }
+            FileChannel channel = writeChannel;
+            if (channel != null) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to append points to InfluxDB spool {}: {}", directory, e.getMessage());
+            closeWriteChannel();
+        }
+    }
+
+    /**
+     * Reads the oldest points without removing them.
+     *
+     * @param maxPoints the maximum number of points to read
+     * @return the points, which are empty if the spool is empty or cannot be read
+     */
+    public ReplayBatch peek(int maxPoints) {
+        List<InfluxPoint> points = new ArrayList<>();
+        int completedSegments = 0;
+        long offset = readOffset;
+        int offsetPoints = 0;
+        for (Segment segment : segments) {
+            offsetPoints = 0;
+            if (points.size() >= maxPoints) {
+                break;
+            }
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(segment.path)))) {
+                in.skipNBytes(offset);
+                while (points.size() < maxPoints && offset < segment.size) {
+                    byte[] payload = readRecord(in);
+                    if (payload == null) {
+                        // unreadable remainder, skip the rest of this segment
+                        offset = segment.size;
+                        break;
+                    }
+                    points.add(fromPayload(payload));
+                    offset += RECORD_HEADER_SIZE + payload.length;
+                    offsetPoints++;
+                }
+            } catch (IOException e) {
+                logger.warn("Failed to read InfluxDB spool segment {}, skipping it: {}", segment.path, e.getMessage());
+                offset = segment.size;
+            }
+            if (offset < segment.size) {
+                break;
+            }
+            completedSegments++;
+            offset = 0;
+            offsetPoints = 0;
+        }
+        return new ReplayBatch(points, completedSegments, offset, offsetPoints);
+    }
+
+    /**
+     * Removes the points of a batch returned by {@link #peek(int)} after they have been written successfully.
+     *
+     * @param batch the batch
+     * @param nanos the time it took to write the batch
+     */
+    public void acknowledge(ReplayBatch batch, long nanos) {
+        for (int i = 0; i < batch.segments() && !segments.isEmpty(); i++) {
+            removeFirstSegment();
+        }
+        Segment segment = segments.peekFirst();
+        if (segment != null) {
+            readOffset = batch.offset();
+            segment.points = Math.max(0, segment.points - batch.offsetPoints());
+            depth = Math.max(0, depth - batch.offsetPoints());
+        }
+        replayedCount += batch.points().size();
+        if (nanos > 0) {
+            lastReplayRate = batch.points().size() * 1_000_000_000.0 / nanos;
+        }
+        if (depth == 0) {
+            // everything has been replayed, start over with an empty segment
+            while (!segments.isEmpty()) {
+                removeFirstSegment();
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return depth == 0;
+    }
+
+    /**
+     * @return number of points in the spool
+     */
+    public long getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return size of all segments in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return number of points dropped because the spool was full
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * @return number of points replayed to InfluxDB since the spool was opened
+     */
+    public long getReplayedCount() {
+        return replayedCount;
+    }
+
+    /**
+     * @return points per second of the last replayed batch
+     */
+    public double getLastReplayRate() {
+        return lastReplayRate;
+    }
+
+    private boolean makeRoom(int recordSize) {
+        while (size + recordSize > maxSize) {
+            if (!dropOldest || segments.isEmpty()) {
+                return false;
+            }
+            long dropped = segments.getFirst().points;
+            removeFirstSegment();
+            droppedCount += dropped;
+            logger.warn("InfluxDB spool is full, dropped {} oldest points", dropped);
+        }
+        return true;
+    }
+
+    private void removeFirstSegment() {
+        Segment segment = segments.removeFirst();
+        if (segments.isEmpty()) {
+            closeWriteChannel();
+        }
+        size -= segment.size;
+        depth = Math.max(0, depth - segment.points);
+        readOffset = 0;
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete InfluxDB spool segment {}: {}", segment.path, e.getMessage());
+        }
+    }
+
+    private FileChannel getWriteChannel() throws IOException {
+        FileChannel channel = writeChannel;
+        if (channel == null) {
+            Segment segment = segments.peekLast();
+            if (segment == null || segment.size >= segmentSize) {
+                segment = new Segment(directory.resolve(SEGMENT_PREFIX + nextSequence++ + SEGMENT_SUFFIX), 0);
+                segments.add(segment);
+            }
+            channel = FileChannel.open(segment.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            writeChannel = channel;
+        }
+        return channel;
+    }
+
+    private void closeWriteChannel() {
+        FileChannel channel = writeChannel;
+        writeChannel = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close InfluxDB spool segment: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Determines the number of readable points of a segment and truncates an incomplete last record.
+     */
+    private void recover(Segment segment) throws IOException {
+        long fileSize = Files.size(segment.path);
+        long offset = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment.path)))) {
+            while (offset < fileSize) {
+                byte[] payload = readRecord(in);
+                if (payload == null) {
+                    break;
+                }
+                offset += RECORD_HEADER_SIZE + payload.length;
+                segment.points++;
+            }
+        }
+        if (offset < fileSize) {
+            logger.warn("Truncating incomplete record at offset {} of InfluxDB spool segment {}", offset,
+                    segment.path);
+            try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.WRITE)) {
+                channel.truncate(offset);
+            }
+        }
+        segment.size = offset;
+    }
+
+    private static byte @Nullable [] readRecord(InputStream input) throws IOException {
+        DataInputStream in = input instanceof DataInputStream dataInput ? dataInput : new DataInputStream(input);
+        try {
+            int length = in.readInt();
+            long checksum = in.readLong();
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+            byte[] payload = in.readNBytes(length);
+            if (payload.length != length || checksum(payload) != checksum) {
+                return null;
+            }
+            return payload;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static long checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    // Visible for testing
+    static byte[] toRecord(InfluxPoint point) throws IOException {
+        ByteArrayOutputStream payloadStream = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(payloadStream)) {
+            writeString(out, point.getMeasurementName());
+            out.writeLong(point.getTime().getEpochSecond());
+            out.writeInt(point.getTime().getNano());
+            Object value = point.getValue();
+            if (value instanceof BigDecimal decimal) {
+                out.writeByte(TYPE_DECIMAL);
+                writeString(out, decimal.toString());
+            } else if (value instanceof Long longValue) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Integer intValue) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(intValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof Number number) {
+                out.writeByte(TYPE_DECIMAL);
+                writeString(out, new BigDecimal(number.toString()).toString());
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else {
+                out.writeByte(TYPE_STRING);
+                writeString(out, String.valueOf(value));
+            }
+            Map<String, String> tags = point.getTags();
+            out.writeInt(tags.size());
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                writeString(out, tag.getKey());
+                writeString(out, tag.getValue());
+            }
+        }
+        byte[] payload = payloadStream.toByteArray();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        record.putInt(payload.length);
+        record.putLong(checksum(payload));
+        record.put(payload);
+        return record.array();
+    }
+
+    // Visible for testing
+    static InfluxPoint fromPayload(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(in));
+            builder.withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            byte type = in.readByte();
+            Object value = switch (type) {
+                case TYPE_DECIMAL -> new BigDecimal(readString(in));
+                case TYPE_LONG -> in.readLong();
+                case TYPE_INTEGER -> in.readInt();
+                case TYPE_DOUBLE -> in.readDouble();
+                case TYPE_BOOLEAN -> in.readBoolean();
+                case TYPE_STRING -> readString(in);
+                default -> throw new IOException("Unknown value type " + type);
+            };
+            builder.withValue(value);
+            int tagCount = in.readInt();
+            for (int i = 0; i < tagCount; i++) {
+                builder.withTag(readString(in), readString(in));
+            }
+            return builder.build();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_RECORD_SIZE) {
+            throw new IOException("Invalid string length " + length);
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
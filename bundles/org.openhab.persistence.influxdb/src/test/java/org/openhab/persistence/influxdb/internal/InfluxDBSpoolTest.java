@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpoolTest {
+    private static final long MAX_SIZE = 1024 * 1024;
+    private static final long SEGMENT_SIZE = 4096;
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    @Test
+    public void recordRoundTrip() throws IOException {
+        Instant time = Instant.ofEpochSecond(1700000000, 123456789);
+        for (Object value : List.of(new BigDecimal("12.345"), 42L, 7, 3.5, true, "ON")) {
+            InfluxPoint point = InfluxPoint.newBuilder("measurement").withTime(time).withValue(value)
+                    .withTag("item", "myItem").withTag("floor", "ground").build();
+            byte[] record = InfluxDBSpool.toRecord(point);
+            byte[] payload = new byte[record.length - 12];
+            System.arraycopy(record, 12, payload, 0, payload.length);
+
+            InfluxPoint result = InfluxDBSpool.fromPayload(payload);
+            assertThat(result.getMeasurementName(), is("measurement"));
+            assertThat(result.getTime(), is(time));
+            assertThat(result.getValue(), is(value));
+            assertThat(result.getTags(), is(point.getTags()));
+        }
+    }
+
+    @Test
+    public void replayKeepsOrderAcrossSegments() throws IOException {
+        InfluxDBSpool spool = openSpool(MAX_SIZE, true);
+        spool.append(points(0, 500));
+        assertThat(spool.getDepth(), is(500L));
+        assertThat(spool.getSegmentCount(), is(greaterThan(1)));
+
+        int expected = 0;
+        while (!spool.isEmpty()) {
+            InfluxDBSpool.ReplayBatch batch = spool.peek(64);
+            for (InfluxPoint point : batch.points()) {
+                assertThat(point.getValue(), is((long) expected++));
+            }
+            spool.acknowledge(batch, 1000);
+        }
+        assertThat(expected, is(500));
+        assertThat(spool.getReplayedCount(), is(500L));
+        assertThat(spool.getSegmentCount(), is(0));
+        assertThat(spool.getSize(), is(0L));
+        spool.close();
+    }
+
+    @Test
+    public void unacknowledgedBatchIsReplayedAgain() throws IOException {
+        InfluxDBSpool spool = openSpool(MAX_SIZE, true);
+        spool.append(points(0, 10));
+
+        InfluxDBSpool.ReplayBatch first = spool.peek(5);
+        InfluxDBSpool.ReplayBatch second = spool.peek(5);
+        assertThat(second.points().get(0).getValue(), is(first.points().get(0).getValue()));
+
+        spool.acknowledge(first, 1000);
+        assertThat(spool.getDepth(), is(5L));
+        assertThat(spool.peek(5).points().get(0).getValue(), is(5L));
+        spool.close();
+    }
+
+    @Test
+    public void spoolIsRecoveredAfterReopen() throws IOException {
+        InfluxDBSpool spool = openSpool(MAX_SIZE, true);
+        spool.append(points(0, 200));
+        spool.acknowledge(spool.peek(50), 1000);
+        spool.close();
+
+        InfluxDBSpool reopened = openSpool(MAX_SIZE, true);
+        // the read offset is not persisted, points of a partially replayed segment are replayed again
+        assertThat(reopened.getDepth(), is(lessThanOrEqualTo(200L)));
+        assertThat(reopened.getDepth(), is(greaterThanOrEqualTo(150L)));
+        List<InfluxPoint> replayed = reopened.peek(1000).points();
+        assertThat(replayed.get(replayed.size() - 1).getValue(), is(199L));
+        reopened.close();
+    }
+
+    @Test
+    public void incompleteRecordIsTruncated() throws IOException {
+        InfluxDBSpool spool = openSpool(MAX_SIZE, true);
+        spool.append(points(0, 3));
+        spool.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[] { 0, 0, 0, 100, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+        InfluxDBSpool reopened = openSpool(MAX_SIZE, true);
+        assertThat(reopened.getDepth(), is(3L));
+        assertThat(Files.size(segment), is(validSize));
+
+        reopened.append(points(3, 1));
+        List<InfluxPoint> replayed = reopened.peek(10).points();
+        assertThat(replayed.size(), is(4));
+        assertThat(replayed.get(3).getValue(), is(3L));
+        reopened.close();
+    }
+
+    @Test
+    public void fullSpoolDropsOldestSegment() throws IOException {
+        InfluxDBSpool spool = openSpool(4 * SEGMENT_SIZE, true);
+        spool.append(points(0, 1000));
+
+        assertThat(spool.getSize(), is(lessThanOrEqualTo(4 * SEGMENT_SIZE)));
+        assertThat(spool.getDroppedCount(), is(greaterThan(0L)));
+        assertThat(spool.getDepth() + spool.getDroppedCount(), is(1000L));
+        List<InfluxPoint> replayed = spool.peek(1000).points();
+        assertThat(replayed.get(replayed.size() - 1).getValue(), is(999L));
+        spool.close();
+    }
+
+    @Test
+    public void fullSpoolDropsNewPoints() throws IOException {
+        InfluxDBSpool spool = openSpool(4 * SEGMENT_SIZE, false);
+        spool.append(points(0, 1000));
+
+        assertThat(spool.getSize(), is(lessThanOrEqualTo(4 * SEGMENT_SIZE)));
+        assertThat(spool.getDepth() + spool.getDroppedCount(), is(1000L));
+        assertThat(spool.peek(1).points().get(0).getValue(), is(0L));
+        spool.close();
+    }
+
+    private InfluxDBSpool openSpool(long maxSize, boolean dropOldest) throws IOException {
+        InfluxDBSpool spool = new InfluxDBSpool(tempDir, maxSize, SEGMENT_SIZE, dropOldest);
+        spool.open();
+        return spool;
+    }
+
+    private static List<InfluxPoint> points(int start, int count) {
+        return IntStream.range(start, start + count)
+                .mapToObj(i -> InfluxPoint.newBuilder("measurement").withTime(Instant.ofEpochSecond(i))
+                        .withValue((long) i).withTag("item", "myItem").build())
+                .toList();
+    }
+}
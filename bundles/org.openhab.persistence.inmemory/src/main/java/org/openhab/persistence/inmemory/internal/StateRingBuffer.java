@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.RawType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link StateRingBuffer} stores the states of a single item in columnar form, ordered by timestamp.
+ *
+ * Timestamps are kept as epoch microseconds in a <code>long[]</code> together with their time zone. Plain
+ * {@link DecimalType} and {@link QuantityType} states are stored as <code>double</code> together with their unit, if
+ * the value including its scale can be restored without loss. All other states are stored by reference, with equal
+ * states sharing one instance.
+ *
+ * The buffer grows on demand up to the maximum number of entries and then drops the oldest entries. Writers are
+ * serialized by a {@link StampedLock}, readers use an optimistic read and only fall back to a read lock if a write
+ * happened concurrently.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class StateRingBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int MAX_INTERNED_STATES = 256;
+
+    /**
+     * Marks entries holding a plain {@link DecimalType} in the value column.
+     */
+    private static final Object DECIMAL = new Object();
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<State, State> internedStates = new HashMap<>();
+
+    private long[] timestamps = new long[0];
+    private @Nullable ZoneId[] zones = new ZoneId[0];
+    private double[] values = new double[0];
+    // DECIMAL, the Unit of a QuantityType or the State itself
+    private @Nullable Object[] kinds = new Object[0];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Adds a state. If an entry with the same timestamp already exists, the existing entry is kept.
+     *
+     * @param timestamp the timestamp in epoch microseconds
+     * @param zone the time zone of the timestamp
+     * @param state the state
+     * @param maxEntries the maximum number of entries
+     */
+    public void add(long timestamp, ZoneId zone, State state, long maxEntries) {
+        long stamp = lock.writeLock();
+        try {
+            int index = lowerBound(timestamp);
+            if (index < size && timestampAt(index) == timestamp) {
+                return;
+            }
+            // number of oldest entries to drop after the new entry has been added
+            long excess = size + 1L - maxEntries;
+            // the new entry is among the oldest and would immediately be dropped
+            boolean dropNew = index < excess;
+            for (long i = dropNew ? 1 : 0; i < excess; i++) {
+                removeFirst();
+                index--;
+            }
+            if (dropNew) {
+                return;
+            }
+            ensureCapacity(maxEntries);
+            for (int i = size; i > index; i--) {
+                move(i - 1, i);
+            }
+            set(index, timestamp, zone, state);
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the oldest entries until at most <code>maxEntries</code> entries are left.
+     *
+     * @param maxEntries the maximum number of entries
+     */
+    public void trim(long maxEntries) {
+        long stamp = lock.writeLock();
+        try {
+            while (size > maxEntries) {
+                removeFirst();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all entries within a time range whose state matches the filter.
+     *
+     * @param from the first timestamp (inclusive) in epoch microseconds
+     * @param to the last timestamp (inclusive) in epoch microseconds
+     * @param filter the filter for the states to remove
+     */
+    public void remove(long from, long to, Predicate<State> filter) {
+        long stamp = lock.writeLock();
+        try {
+            int begin = lowerBound(from);
+            int end = upperBound(to);
+            int target = begin;
+            for (int i = begin; i < size; i++) {
+                if (i < end && filter.test(stateAt(i))) {
+                    continue;
+                }
+                if (target != i) {
+                    move(i, target);
+                }
+                target++;
+            }
+            for (int i = target; i < size; i++) {
+                int index = physical(i);
+                zones[index] = null;
+                kinds[index] = null;
+            }
+            size = target;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies all entries within a time range.
+     *
+     * @param from the first timestamp (inclusive) in epoch microseconds
+     * @param to the last timestamp (inclusive) in epoch microseconds
+     * @return the entries, ordered by ascending timestamp
+     */
+    public Slice query(long from, long to) {
+        long stamp = lock.tryOptimisticRead();
+        Slice slice = copyRange(from, to);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                slice = copyRange(from, to);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return slice;
+    }
+
+    /**
+     * Copies the first and the last entry.
+     *
+     * @return the first and the last entry, empty if the buffer is empty
+     */
+    public Slice bounds() {
+        long stamp = lock.tryOptimisticRead();
+        Slice slice = copyBounds();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                slice = copyBounds();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return slice;
+    }
+
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = this.size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                size = this.size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Converts an {@link Instant} to epoch microseconds, saturating at the range of <code>long</code>.
+     */
+    public static long toMicros(Instant instant) {
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000);
+        } catch (ArithmeticException e) {
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    public static Instant toInstant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1000);
+    }
+
+    // The copy methods may run without a lock while a write is in progress. They must not fail on inconsistent
+    // fields; their result is discarded in that case.
+
+    private Slice copyRange(long from, long to) {
+        long[] timestamps = this.timestamps;
+        @Nullable
+        ZoneId[] zones = this.zones;
+        double[] values = this.values;
+        @Nullable
+        Object[] kinds = this.kinds;
+        int head = this.head;
+        int size = this.size;
+        int capacity = timestamps.length;
+        if (capacity == 0 || zones.length != capacity || values.length != capacity || kinds.length != capacity
+                || size > capacity || head >= capacity) {
+            return Slice.EMPTY;
+        }
+        int begin = search(timestamps, head, size, from, false);
+        int end = search(timestamps, head, size, to, true);
+        int count = Math.max(0, end - begin);
+        long[] sliceTimestamps = new long[count];
+        @Nullable
+        ZoneId[] sliceZones = new ZoneId[count];
+        double[] sliceValues = new double[count];
+        @Nullable
+        Object[] sliceKinds = new Object[count];
+        int start = (head + begin) % capacity;
+        int firstPart = Math.min(count, capacity - start);
+        System.arraycopy(timestamps, start, sliceTimestamps, 0, firstPart);
+        System.arraycopy(zones, start, sliceZones, 0, firstPart);
+        System.arraycopy(values, start, sliceValues, 0, firstPart);
+        System.arraycopy(kinds, start, sliceKinds, 0, firstPart);
+        System.arraycopy(timestamps, 0, sliceTimestamps, firstPart, count - firstPart);
+        System.arraycopy(zones, 0, sliceZones, firstPart, count - firstPart);
+        System.arraycopy(values, 0, sliceValues, firstPart, count - firstPart);
+        System.arraycopy(kinds, 0, sliceKinds, firstPart, count - firstPart);
+        return new Slice(sliceTimestamps, sliceZones, sliceValues, sliceKinds);
+    }
+
+    private Slice copyBounds() {
+        long[] timestamps = this.timestamps;
+        @Nullable
+        ZoneId[] zones = this.zones;
+        double[] values = this.values;
+        @Nullable
+        Object[] kinds = this.kinds;
+        int head = this.head;
+        int size = this.size;
+        int capacity = timestamps.length;
+        if (size == 0 || zones.length != capacity || values.length != capacity || kinds.length != capacity
+                || size > capacity || head >= capacity) {
+            return Slice.EMPTY;
+        }
+        int last = (head + size - 1) % capacity;
+        return new Slice(new long[] { timestamps[head], timestamps[last] },
+                new @Nullable ZoneId[] { zones[head], zones[last] }, new double[] { values[head], values[last] },
+                new @Nullable Object[] { kinds[head], kinds[last] });
+    }
+
+    /**
+     * Binary search over the logical indices of a ring buffer.
+     *
+     * @return the first logical index with a timestamp greater or equal to (<code>upper == false</code>) or greater
+     *         than (<code>upper == true</code>) the given timestamp
+     */
+    private static int search(long[] timestamps, int head, int size, long timestamp, boolean upper) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long value = timestamps[(head + mid) % timestamps.length];
+            if (value < timestamp || (upper && value == timestamp)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int lowerBound(long timestamp) {
+        return timestamps.length == 0 ? 0 : search(timestamps, head, size, timestamp, false);
+    }
+
+    private int upperBound(long timestamp) {
+        return timestamps.length == 0 ? 0 : search(timestamps, head, size, timestamp, true);
+    }
+
+    private int physical(int index) {
+        return (head + index) % timestamps.length;
+    }
+
+    private long timestampAt(int index) {
+        return timestamps[physical(index)];
+    }
+
+    private State stateAt(int index) {
+        int i = physical(index);
+        return Objects.requireNonNull(decode(values[i], kinds[i]));
+    }
+
+    private void move(int from, int to) {
+        int source = physical(from);
+        int target = physical(to);
+        timestamps[target] = timestamps[source];
+        zones[target] = zones[source];
+        values[target] = values[source];
+        kinds[target] = kinds[source];
+    }
+
+    private void set(int index, long timestamp, ZoneId zone, State state) {
+        int i = physical(index);
+        timestamps[i] = timestamp;
+        zones[i] = zone;
+        if (state.getClass() == DecimalType.class) {
+            BigDecimal value = ((DecimalType) state).toBigDecimal();
+            double doubleValue = value.doubleValue();
+            if (isLossless(value, doubleValue)) {
+                values[i] = doubleValue;
+                kinds[i] = DECIMAL;
+                return;
+            }
+        } else if (state instanceof QuantityType<?> quantity && state.getClass() == QuantityType.class) {
+            BigDecimal value = quantity.toBigDecimal();
+            double doubleValue = value.doubleValue();
+            if (isLossless(value, doubleValue)) {
+                values[i] = doubleValue;
+                kinds[i] = quantity.getUnit();
+                return;
+            }
+        }
+        values[i] = 0;
+        kinds[i] = intern(state);
+    }
+
+    private void removeFirst() {
+        zones[head] = null;
+        kinds[head] = null;
+        head = (head + 1) % timestamps.length;
+        size--;
+    }
+
+    private void ensureCapacity(long maxEntries) {
+        int capacity = timestamps.length;
+        if (size < capacity) {
+            return;
+        }
+        int newCapacity = (int) Math.min(Math.max(INITIAL_CAPACITY, 2L * capacity),
+                Math.min(maxEntries, MAX_CAPACITY));
+        if (newCapacity <= capacity) {
+            throw new IllegalStateException("Maximum capacity of " + MAX_CAPACITY + " entries reached");
+        }
+        long[] newTimestamps = new long[newCapacity];
+        @Nullable
+        ZoneId[] newZones = new ZoneId[newCapacity];
+        double[] newValues = new double[newCapacity];
+        @Nullable
+        Object[] newKinds = new Object[newCapacity];
+        for (int i = 0; i < size; i++) {
+            int source = physical(i);
+            newTimestamps[i] = timestamps[source];
+            newZones[i] = zones[source];
+            newValues[i] = values[source];
+            newKinds[i] = kinds[source];
+        }
+        timestamps = newTimestamps;
+        zones = newZones;
+        values = newValues;
+        kinds = newKinds;
+        head = 0;
+    }
+
+    private State intern(State state) {
+        if (state instanceof RawType) {
+            // do not keep potentially large binary data alive
+            return state;
+        }
+        State interned = internedStates.get(state);
+        if (interned != null && interned.getClass() == state.getClass()
+                && interned.toFullString().equals(state.toFullString())) {
+            return interned;
+        }
+        if (internedStates.size() >= MAX_INTERNED_STATES) {
+            internedStates.clear();
+        }
+        internedStates.put(state, state);
+        return state;
+    }
+
+    private static boolean isLossless(BigDecimal value, double doubleValue) {
+        // the restored value must have the same scale, e.g. 1.50 must not become 1.5
+        return Double.isFinite(doubleValue) && toBigDecimal(doubleValue).equals(value);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static @Nullable State decode(double value, @Nullable Object kind) {
+        if (kind instanceof State state) {
+            return state;
+        }
+        if (kind == DECIMAL) {
+            return new DecimalType(toBigDecimal(value));
+        }
+        if (kind instanceof Unit unit) {
+            return new QuantityType(toBigDecimal(value), unit);
+        }
+        return null;
+    }
+
+    private static BigDecimal toBigDecimal(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 0x1p53) {
+            return BigDecimal.valueOf((long) value);
+        }
+        return BigDecimal.valueOf(value);
+    }
+
+    /**
+     * A copy of consecutive entries of a {@link StateRingBuffer}, ordered by ascending timestamp.
+     */
+    public static class Slice {
+        static final Slice EMPTY = new Slice(new long[0], new ZoneId[0], new double[0], new Object[0]);
+
+        private final long[] timestamps;
+        private final @Nullable ZoneId[] zones;
+        private final double[] values;
+        private final @Nullable Object[] kinds;
+
+        private Slice(long[] timestamps, @Nullable ZoneId[] zones, double[] values, @Nullable Object[] kinds) {
+            this.timestamps = timestamps;
+            this.zones = zones;
+            this.values = values;
+            this.kinds = kinds;
+        }
+
+        public int size() {
+            return timestamps.length;
+        }
+
+        public long timestamp(int index) {
+            return timestamps[index];
+        }
+
+        public ZoneId zone(int index) {
+            ZoneId zone = zones[index];
+            if (zone == null) {
+                throw new IllegalStateException("Missing time zone at index " + index);
+            }
+            return zone;
+        }
+
+        public State state(int index) {
+            State state = decode(values[index], kinds[index]);
+            if (state == null) {
+                throw new IllegalStateException("Missing state at index " + index);
+            }
+            return state;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,7 +36,9 @@ import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
@@ -275,4 +278,109 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void maxEntriesDropsOldestEntries() {
+        service.activate(Map.<String, Object> of("maxEntries", 3L));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 5; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+        // older than all retained entries, dropped immediately
+        service.store(item, start.minusHours(1), new DecimalType(-1));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(2, 3, 4));
+    }
+
+    @Test
+    public void storeOutOfOrderReturnsOrderedStates() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(3), new DecimalType(4));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        filterCriteria.setBeginDate(start.plusHours(1));
+        filterCriteria.setEndDate(start.plusHours(2));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(2, 3));
+    }
+
+    @Test
+    public void storeNumericStatesKeepsTypeAndValue() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        State quantity = new QuantityType<>("21.5 °C");
+        State decimal = new DecimalType("0.1");
+        State precise = new DecimalType("1.00000000000000000001");
+        State percent = new PercentType(42);
+        service.store(item, start, quantity);
+        service.store(item, start.plusHours(1), decimal);
+        service.store(item, start.plusHours(2), precise);
+        service.store(item, start.plusHours(3), percent);
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(quantity, decimal, precise, percent));
+        assertThat(((QuantityType<?>) resultSet.get(0)).getUnit(), is(SIUnits.CELSIUS));
+        assertThat(resultSet.get(3), is(instanceOf(PercentType.class)));
+    }
+
+    @Test
+    public void removeAllEntriesHidesItemInfo() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new StringType("value1"));
+        service.store(item, start.plusHours(1), new StringType("value2"));
+        assertThat(service.getItemInfo(), hasSize(1));
+
+        service.remove(filterCriteria);
+
+        assertThat(service.getItemInfo(), is(empty()));
+    }
+
+    @Test
+    public void storeNumericStatesKeepsScale() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType("1.50"));
+        service.store(item, start.plusHours(1), new QuantityType<>("20.0 °C"));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, hasSize(2));
+        assertThat(((DecimalType) resultSet.get(0)).toBigDecimal().scale(), is(2));
+        assertThat(((QuantityType<?>) resultSet.get(1)).toBigDecimal().scale(), is(1));
+    }
+
+    @Test
+    public void storeKeepsTimeZone() {
+        ZonedDateTime timestamp = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.of("Pacific/Auckland"));
+        service.store(item, timestamp, new DecimalType(1));
+
+        List<HistoricItem> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(resultSet::add);
+
+        assertThat(resultSet, hasSize(1));
+        assertThat(resultSet.get(0).getTimestamp(), is(timestamp));
+    }
+
+    @Test
+    public void maxEntriesZeroStoresNothing() {
+        service.activate(Map.<String, Object> of("maxEntries", 0L));
+
+        service.store(item, ZonedDateTime.now(), new DecimalType(1));
+
+        assertThat(service.query(filterCriteria), is(emptyIterable()));
+    }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.jdbc.internal.dto.JdbcItemState;
+import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcBatchWriter} collects item states in a bounded queue and hands them over in batches to the
+ * persistence service. A flush is triggered either when the configured batch size is reached or when the flush
+ * interval has elapsed. States offered while the queue is full are dropped and counted, as well as states the flush
+ * handler could not store.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriter {
+
+    private static final int STATISTICS_PERIOD = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcBatchWriter.class);
+
+    private final BlockingQueue<JdbcItemState> queue;
+    private final int batchSize;
+    private final long flushInterval;
+    private final ScheduledExecutorService scheduler;
+    private final ToIntFunction<List<JdbcItemState>> flushHandler;
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final MovingAverage batchSizeAverage = new MovingAverage(STATISTICS_PERIOD);
+    private final MovingAverage flushLatencyAverage = new MovingAverage(STATISTICS_PERIOD);
+    private volatile long flushLatencyMax = 0;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param queueCapacity maximum number of states waiting to be written
+     * @param batchSize number of states that triggers an immediate flush
+     * @param flushInterval maximum time in milliseconds a state waits in the queue
+     * @param scheduler executor running the flushes, expected to be single threaded
+     * @param flushHandler handler writing a list of states to the database and returning the number of stored states
+     */
+    public JdbcBatchWriter(int queueCapacity, int batchSize, long flushInterval, ScheduledExecutorService scheduler,
+            ToIntFunction<List<JdbcItemState>> flushHandler) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, batchSize));
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.scheduler = scheduler;
+        this.flushHandler = flushHandler;
+    }
+
+    public void start() {
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic flush and writes all states still waiting in the queue.
+     */
+    public void stop() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        scheduler.execute(this::flush);
+    }
+
+    /**
+     * Adds a state to the queue.
+     *
+     * @param itemState the state to be written
+     * @return false if the queue is full and the state has been dropped
+     */
+    public boolean offer(JdbcItemState itemState) {
+        if (!queue.offer(itemState)) {
+            long dropped = droppedCount.incrementAndGet();
+            logger.warn("JDBC::store: Write queue is full, dropping state '{}' of item '{}' ({} states dropped so far)",
+                    itemState.state(), itemState.item().getName(), dropped);
+            return false;
+        }
+        if (queue.size() >= batchSize && flushPending.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+        return true;
+    }
+
+    private void flush() {
+        flushPending.set(false);
+        List<JdbcItemState> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            long timerStart = System.currentTimeMillis();
+            int stored = 0;
+            try {
+                stored = flushHandler.applyAsInt(batch);
+            } catch (RuntimeException e) {
+                logger.warn("JDBC::flush: Unable to write {} states", batch.size(), e);
+            }
+            long latency = System.currentTimeMillis() - timerStart;
+            synchronized (this) {
+                batchSizeAverage.add(batch.size());
+                flushLatencyAverage.add(latency);
+            }
+            if (latency > flushLatencyMax) {
+                flushLatencyMax = latency;
+            }
+            flushCount.incrementAndGet();
+            storedCount.addAndGet(stored);
+            failedCount.addAndGet(batch.size() - stored);
+            logger.debug("JDBC::flush: Wrote {} of {} states in {} ms, {} states remaining in queue", stored,
+                    batch.size(), latency, queue.size());
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return number of states currently waiting in the queue
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    /**
+     * @return number of flushed states which could not be stored
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return average number of states written per flush over the last flushes
+     */
+    public synchronized double getAverageBatchSize() {
+        return batchSizeAverage.getAverageDouble();
+    }
+
+    /**
+     * @return average flush latency in milliseconds over the last flushes
+     */
+    public synchronized double getAverageFlushLatency() {
+        return flushLatencyAverage.getAverageDouble();
+    }
+
+    /**
+     * @return maximum flush latency in milliseconds since the writer was created
+     */
+    public long getMaxFlushLatency() {
+        return flushLatencyMax;
+    }
+}
@@ -66,6 +66,14 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    // batched write pipeline, disabled with a batch size of 1
+    private int batchSize = 1;
+    private int batchFlushInterval = 1000;
+    private int batchQueueCapacity = 10000;
+
+    // cursor based queries, disabled with a fetch size of 0
+    private int queryFetchSize = 0;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +199,30 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Math.max(1, Integer.parseInt(bs));
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bf = (String) configuration.get("batchFlushInterval");
+        if (bf != null && !bf.isBlank() && isNumericPattern.matcher(bf).matches()) {
+            batchFlushInterval = Math.max(10, Integer.parseInt(bf));
+            logger.debug("JDBC::updateConfig: batchFlushInterval={}", batchFlushInterval);
+        }
+
+        String bq = (String) configuration.get("batchQueueCapacity");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueCapacity = Math.max(1, Integer.parseInt(bq));
+            logger.debug("JDBC::updateConfig: batchQueueCapacity={}", batchQueueCapacity);
+        }
+
+        String qf = (String) configuration.get("queryFetchSize");
+        if (qf != null && !qf.isBlank() && isNumericPattern.matcher(qf).matches()) {
+            queryFetchSize = Integer.parseInt(qf);
+            logger.debug("JDBC::updateConfig: queryFetchSize={}", queryFetchSize);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -404,6 +436,36 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Checks if states are collected and written in batches.
+     *
+     * @return true if the configured batch size is greater than one.
+     */
+    public boolean isBatchWriteEnabled() {
+        return batchSize > 1;
+    }
+
+    public int getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    public int getBatchQueueCapacity() {
+        return batchQueueCapacity;
+    }
+
+    /**
+     * Number of rows read per query when reading query results page by page.
+     *
+     * @return the fetch size, or 0 if query results are loaded at once.
+     */
+    public int getQueryFetchSize() {
+        return queryFetchSize;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
@@ -427,6 +489,8 @@ public class JdbcConfiguration {
         dBDAO.initAfterFirstDbConnection();
         // Running once again to prior external configured SqlTypes!
         setSqlTypes();
+        // Templates and types may have changed, so statements built before must be rebuilt
+        dBDAO.clearSqlCache();
         this.dbConnected = dbConnected;
     }
 
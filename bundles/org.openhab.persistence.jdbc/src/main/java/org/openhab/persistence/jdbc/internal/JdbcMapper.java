@@ -16,6 +16,7 @@ import java.sql.SQLInvalidAuthorizationSpecException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -35,6 +36,7 @@ import org.openhab.core.types.State;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcItemState;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -226,6 +228,55 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /**
+     * Stores a batch of item states. States are grouped per item table and each group is written as one JDBC batch.
+     * If a batch fails, the states of that group are retried one by one so a single bad row does not discard the
+     * whole group.
+     *
+     * @param itemStates states to store
+     * @return the number of stored states
+     */
+    protected int storeItemValues(List<JdbcItemState> itemStates) {
+        logger.debug("JDBC::storeItemValues: {} states", itemStates.size());
+        Map<String, List<JdbcItemState>> statesPerTable = new LinkedHashMap<>();
+        for (JdbcItemState itemState : itemStates) {
+            try {
+                String tableName = getTable(itemState.item(), itemState.alias());
+                statesPerTable.computeIfAbsent(tableName, t -> new ArrayList<>()).add(itemState);
+            } catch (JdbcException e) {
+                logger.warn("JDBC::storeItemValues: Unable to find table for item '{}'", itemState.item().getName(),
+                        e);
+            }
+        }
+        long timerStart = System.currentTimeMillis();
+        int stored = 0;
+        for (Map.Entry<String, List<JdbcItemState>> entry : statesPerTable.entrySet()) {
+            String tableName = entry.getKey();
+            List<JdbcItemState> states = entry.getValue();
+            try {
+                conf.getDBDAO().doStoreItemValues(tableName, states);
+                stored += states.size();
+                errCnt = 0;
+            } catch (JdbcSQLException e) {
+                logger.debug("JDBC::storeItemValues: Batch for table '{}' failed, storing {} states one by one",
+                        tableName, states.size(), e);
+                for (JdbcItemState itemState : states) {
+                    try {
+                        conf.getDBDAO().doStoreItemValue(itemState.item(), itemState.state(),
+                                new ItemVO(tableName, null), itemState.date());
+                        stored++;
+                        errCnt = 0;
+                    } catch (JdbcSQLException e2) {
+                        logger.warn("JDBC::storeItemValues: Unable to store state '{}' of item '{}'",
+                                itemState.state(), itemState.item().getName(), e2);
+                    }
+                }
+            }
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        return stored;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -243,6 +294,26 @@ public class JdbcMapper {
         return result;
     }
 
+    protected Iterable<HistoricItem> getHistItemFilterQueryCursor(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item, int fetchSize) {
+        logger.debug("JDBC::getHistItemFilterQueryCursor table='{}' itemName='{}' fetchSize={}", table,
+                item.getName(), fetchSize);
+        return conf.getDBDAO().doGetHistItemFilterQueryCursor(item, filter, numberDecimalcount, table, item.getName(),
+                timeZoneProvider.getTimeZone(), fetchSize);
+    }
+
+    protected List<HistoricItem> getHistItemDownsampledQuery(FilterCriteria filter, String table, Item item,
+            int maxPoints, AggregationFunction aggregation) throws JdbcSQLException {
+        logger.debug("JDBC::getHistItemDownsampledQuery table='{}' itemName='{}' maxPoints={} aggregation={}", table,
+                item.getName(), maxPoints, aggregation);
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetHistItemDownsampledQuery(item, filter, table,
+                timeZoneProvider.getTimeZone(), maxPoints, aggregation);
+        logTime("getHistItemDownsampledQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
@@ -337,6 +408,7 @@ public class JdbcMapper {
 
     public void populateItemNameToTableNameMap() throws JdbcSQLException {
         itemNameToTableNameMap.clear();
+        conf.getDBDAO().clearSqlCache();
         if (conf.getTableUseRealCaseSensitiveItemNames()) {
             for (String itemName : getItemTables().stream().map(t -> t.getTableName()).collect(Collectors.toList())) {
                 itemNameToTableNameMap.put(itemName, itemName);
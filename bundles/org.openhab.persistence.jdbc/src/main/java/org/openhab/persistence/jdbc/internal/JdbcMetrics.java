@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.api.AddonMeters;
+import org.openhab.io.metrics.api.AddonMetricsService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link JdbcMetrics} publishes the counts kept by the {@link JdbcPersistenceService} with the
+ * {@link AddonMetricsService}.
+ *
+ * This is the only class of the service using the metrics API, which is imported optionally. The component is only
+ * activated when the metrics service is available, so the persistence service starts without it.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(immediate = true)
+@NonNullByDefault
+public class JdbcMetrics {
+
+    private final AddonMeters meters;
+
+    @Activate
+    public JdbcMetrics(@Reference AddonMetricsService metricsService,
+            @Reference JdbcPersistenceService persistenceService) {
+        meters = metricsService.forPersistenceService(JdbcPersistenceServiceConstants.SERVICE_ID);
+        meters.counter(AddonMetricsService.MESSAGES, persistenceService::getStoredStates);
+        meters.counter(AddonMetricsService.ERRORS, persistenceService::getStoreErrors);
+        meters.timer(AddonMetricsService.WRITE_DURATION, persistenceService::getStoreWrites,
+                persistenceService::getTotalStoreNanos);
+        meters.gauge(AddonMetricsService.QUEUE_DEPTH, persistenceService::getQueueDepth);
+    }
+
+    /**
+     * Removes the meters.
+     */
+    @Deactivate
+    public void close() {
+        meters.close();
+    }
+}
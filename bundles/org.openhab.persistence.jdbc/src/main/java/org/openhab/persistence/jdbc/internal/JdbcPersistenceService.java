@@ -23,6 +23,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,6 +35,7 @@ import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -46,6 +48,7 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcItemState;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -64,8 +67,8 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Migration to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.jdbc", //
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        JdbcPersistenceService.class }, configurationPid = "org.openhab.jdbc", //
         property = Constants.SERVICE_PID + "=org.openhab.jdbc")
 @ConfigurableService(category = "persistence", label = "JDBC Persistence Service", description_uri = JdbcPersistenceServiceConstants.CONFIG_URI)
 public class JdbcPersistenceService extends JdbcMapper implements ModifiablePersistenceService {
@@ -77,6 +80,13 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private volatile @Nullable JdbcBatchWriter batchWriter;
+
+    private final AtomicLong storedStates = new AtomicLong();
+    private final AtomicLong storeErrors = new AtomicLong();
+    private final AtomicLong storeWrites = new AtomicLong();
+    private final AtomicLong totalStoreNanos = new AtomicLong();
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -121,9 +131,46 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
         // closeConnection();
+        stopBatchWriter();
         initialized = false;
     }
 
+    /**
+     * Returns the number of stored states since the service was activated
+     */
+    public long getStoredStates() {
+        return storedStates.get();
+    }
+
+    /**
+     * Returns the number of states that could not be stored since the service was activated
+     */
+    public long getStoreErrors() {
+        return storeErrors.get();
+    }
+
+    /**
+     * Returns the number of writes to the database since the service was activated
+     */
+    public long getStoreWrites() {
+        return storeWrites.get();
+    }
+
+    /**
+     * Returns the sum of the durations of the writes to the database, in nanoseconds
+     */
+    public long getTotalStoreNanos() {
+        return totalStoreNanos.get();
+    }
+
+    /**
+     * Returns the number of states waiting to be written by the batch writer
+     */
+    public int getQueueDepth() {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        return batchWriter == null ? 0 : batchWriter.getQueueDepth();
+    }
+
     @Override
     public String getId() {
         logger.debug("JDBC::getName: returning name 'jdbc' for queryable persistence service.");
@@ -137,22 +184,39 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not queue undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // Batched rows are written with an explicit timestamp, so take it now instead of at flush time
+        if (!batchWriter.offer(new JdbcItemState(item, state, date != null ? date : ZonedDateTime.now(), alias))) {
+            storeErrors.incrementAndGet();
+        }
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -166,20 +230,53 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn(
                     "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
                     state, item, errCnt, conf.getErrReconnectThreshold());
+            storeErrors.incrementAndGet();
             return;
         }
         try {
             long timerStart = System.currentTimeMillis();
+            long nanoStart = System.nanoTime();
             storeItemValue(item, state, date, alias);
+            recordStore(nanoStart, 1);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
                         new Date(), System.currentTimeMillis() - timerStart);
             }
         } catch (JdbcException e) {
+            storeErrors.incrementAndGet();
             logger.warn("JDBC::store: Unable to store item", e);
         }
     }
 
+    /**
+     * @return the number of stored states
+     */
+    private synchronized int internalStore(List<JdbcItemState> itemStates) {
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::store: No connection to database. Cannot persist {} states! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    itemStates.size(), errCnt, conf.getErrReconnectThreshold());
+            storeErrors.addAndGet(itemStates.size());
+            return 0;
+        }
+        long timerStart = System.currentTimeMillis();
+        long nanoStart = System.nanoTime();
+        int stored = storeItemValues(itemStates);
+        recordStore(nanoStart, stored);
+        storeErrors.addAndGet(itemStates.size() - stored);
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Stored {} of {} states in SQL database at {} in {} ms.", stored, itemStates.size(),
+                    new Date(), System.currentTimeMillis() - timerStart);
+        }
+        return stored;
+    }
+
+    private void recordStore(long nanoStart, int states) {
+        totalStoreNanos.addAndGet(System.nanoTime() - nanoStart);
+        storeWrites.incrementAndGet();
+        storedStates.addAndGet(states);
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -214,34 +311,16 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         // Get the item name from the filter
         // Also get the Item object so we can determine the type
-        Item item = null;
         String itemName = filter.getItemName();
         if (itemName == null) {
             logger.warn("Item name is missing in filter {}", filter);
             return List.of();
         }
-        logger.debug("JDBC::query: item is {}", itemName);
-        try {
-            item = itemRegistry.getItem(itemName);
-        } catch (ItemNotFoundException e1) {
-            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+        Item item = getQueryItem(itemName);
+        if (item == null) {
             return List.of();
         }
 
-        if (item instanceof GroupItem) {
-            // For Group Item is BaseItem needed to get correct Type of Value.
-            item = GroupItem.class.cast(item).getBaseItem();
-            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
-            if (item == null) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
-                return List.of();
-            }
-            if (item instanceof GroupItem) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
-                return List.of();
-            }
-        }
-
         String localAlias = alias != null ? alias : itemName;
         String table = itemNameToTableNameMap.get(localAlias);
         if (table == null) {
@@ -250,6 +329,14 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             return List.of();
         }
 
+        if (conf.getQueryFetchSize() > 0 && filter.getPageSize() == Integer.MAX_VALUE) {
+            // Unbounded queries are read page by page instead of being loaded into memory at once
+            logger.debug("JDBC::query: paged query for item '{}' with page size {}", itemName,
+                    conf.getQueryFetchSize());
+            return getHistItemFilterQueryCursor(filter, conf.getNumberDecimalcount(), table, item,
+                    conf.getQueryFetchSize());
+        }
+
         try {
             long timerStart = System.currentTimeMillis();
             List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
@@ -266,9 +353,84 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    /**
+     * Queries the values of a number item within a time range, aggregated in the database into time buckets so that
+     * at most <code>maxPoints</code> values are returned. This is intended for charts and other callers which only
+     * need a bounded number of points for a long time range. Queries through {@link #query(FilterCriteria, String)},
+     * e.g. of the persistence extensions, are never downsampled.
+     *
+     * @param filter the filter to apply to the query, a begin date is required
+     * @param alias for the item
+     * @param maxPoints the maximum number of values to return
+     * @param aggregation the function used to aggregate the values of a time bucket
+     * @return a time series of aggregated values
+     */
+    public Iterable<HistoricItem> queryDownsampled(FilterCriteria filter, @Nullable String alias, int maxPoints,
+            AggregationFunction aggregation) {
+        if (!checkDBAccessability()) {
+            logger.warn("JDBC::queryDownsampled: database not connected, query aborted for item '{}'",
+                    filter.getItemName());
+            return List.of();
+        }
+        String itemName = filter.getItemName();
+        if (itemName == null || filter.getBeginDate() == null) {
+            throw new IllegalArgumentException("Item name and begin date must not be null");
+        }
+        Item item = getQueryItem(itemName);
+        if (!(item instanceof NumberItem)) {
+            logger.debug("JDBC::queryDownsampled: item '{}' is not a number item", itemName);
+            return List.of();
+        }
+        String table = itemNameToTableNameMap.get(alias != null ? alias : itemName);
+        if (table == null) {
+            return List.of();
+        }
+        try {
+            long timerStart = System.currentTimeMillis();
+            List<HistoricItem> items = getHistItemDownsampledQuery(filter, table, item, maxPoints, aggregation);
+            if (logger.isDebugEnabled()) {
+                logger.debug("JDBC: Downsampled query for item '{}' returned {} rows in {} ms", itemName,
+                        items.size(), System.currentTimeMillis() - timerStart);
+            }
+            errCnt = 0;
+            return items;
+        } catch (JdbcSQLException e) {
+            logger.warn("JDBC::queryDownsampled: Unable to query item", e);
+            return List.of();
+        }
+    }
+
+    private @Nullable Item getQueryItem(String itemName) {
+        logger.debug("JDBC::query: item is {}", itemName);
+        Item item;
+        try {
+            item = itemRegistry.getItem(itemName);
+        } catch (ItemNotFoundException e1) {
+            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+            return null;
+        }
+
+        if (item instanceof GroupItem groupItem) {
+            // For Group Item is BaseItem needed to get correct Type of Value.
+            Item baseItem = groupItem.getBaseItem();
+            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
+            if (baseItem == null) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
+                return null;
+            }
+            if (baseItem instanceof GroupItem) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
+                return null;
+            }
+            return baseItem;
+        }
+        return item;
+    }
+
     private void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopBatchWriter();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -283,10 +445,33 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         } else {
             initialized = false;
         }
+        if (conf.valid && conf.isBatchWriteEnabled()) {
+            JdbcBatchWriter batchWriter = new JdbcBatchWriter(conf.getBatchQueueCapacity(), conf.getBatchSize(),
+                    conf.getBatchFlushInterval(), scheduler, this::internalStore);
+            batchWriter.start();
+            this.batchWriter = batchWriter;
+            logger.debug("JDBC::updateConfig: batched writes enabled, batchSize={} batchFlushInterval={} ms",
+                    conf.getBatchSize(), conf.getBatchFlushInterval());
+        }
 
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
+    private void stopBatchWriter() {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            batchWriter.stop();
+            this.batchWriter = null;
+        }
+    }
+
+    /**
+     * Get the batch writer, if batched writes are enabled.
+     */
+    public @Nullable JdbcBatchWriter getBatchWriter() {
+        return batchWriter;
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.CHANGE);
@@ -564,6 +749,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
                     deleteItemsEntry(itemsVo);
                 }
                 itemNameToTableNameMap.remove(entry.getItemName());
+                conf.getDBDAO().clearSqlCache(tableName);
                 return true;
             case ORPHAN_TABLE:
             case VALID:
@@ -12,11 +12,13 @@
  */
 package org.openhab.persistence.jdbc.internal.console;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -28,10 +30,14 @@ import org.openhab.core.io.console.ConsoleCommandCompleter;
 import org.openhab.core.io.console.StringsCompleter;
 import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
 import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
+import org.openhab.persistence.jdbc.internal.JdbcBatchWriter;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -51,6 +57,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_STATS = "stats";
+    private static final String CMD_SERIES = "series";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
     private static final String SUBCMD_TABLES_LIST = "list";
@@ -58,7 +66,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_STATS, CMD_SERIES), false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
@@ -74,7 +82,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
 
     @Override
     public void execute(String[] args, Console console) {
-        if (args.length < 1 || args.length > 4) {
+        if (args.length < 1 || args.length > 5) {
             printUsage(console);
             return;
         }
@@ -135,6 +143,11 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            printStatistics(persistenceService, console);
+            return true;
+        } else if (args.length >= 4 && CMD_SERIES.equalsIgnoreCase(args[0])) {
+            return printSeries(persistenceService, console, args);
         }
         return false;
     }
@@ -252,6 +265,46 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private void printStatistics(JdbcPersistenceService persistenceService, Console console) {
+        JdbcBatchWriter batchWriter = persistenceService.getBatchWriter();
+        if (batchWriter == null) {
+            console.println("Batched writes are disabled.");
+            return;
+        }
+        console.println(String.format("Queue depth:           %d / %d", batchWriter.getQueueDepth(),
+                batchWriter.getQueueCapacity()));
+        console.println(String.format("States stored:         %d", batchWriter.getStoredCount()));
+        console.println(String.format("States dropped:        %d", batchWriter.getDroppedCount()));
+        console.println(String.format("States failed:         %d", batchWriter.getFailedCount()));
+        console.println(String.format("Flushes:               %d", batchWriter.getFlushCount()));
+        console.println(String.format("Average batch size:    %.1f", batchWriter.getAverageBatchSize()));
+        console.println(String.format("Average flush latency: %.1f ms", batchWriter.getAverageFlushLatency()));
+        console.println(String.format("Maximum flush latency: %d ms", batchWriter.getMaxFlushLatency()));
+    }
+
+    private boolean printSeries(JdbcPersistenceService persistenceService, Console console, String[] args) {
+        int hours;
+        int maxPoints;
+        AggregationFunction aggregation;
+        try {
+            hours = Integer.parseInt(args[2]);
+            maxPoints = Integer.parseInt(args[3]);
+            aggregation = args.length == 5 ? AggregationFunction.valueOf(args[4].toUpperCase(Locale.ROOT))
+                    : AggregationFunction.AVG;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (hours < 1 || maxPoints < 1) {
+            return false;
+        }
+        FilterCriteria filter = new FilterCriteria().setItemName(args[1])
+                .setBeginDate(ZonedDateTime.now().minusHours(hours)).setOrdering(FilterCriteria.Ordering.ASCENDING);
+        for (HistoricItem item : persistenceService.queryDownsampled(filter, null, maxPoints, aggregation)) {
+            console.println(item.getTimestamp() + "  " + item.getState());
+        }
+        return true;
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
@@ -261,7 +314,10 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_STATS, "show write queue statistics"),
+                buildCommandUsage(CMD_SERIES + " <itemName> <hours> <maxPoints> [AVG|MIN|MAX]",
+                        "show the downsampled values of a number item"));
     }
 
     @Override
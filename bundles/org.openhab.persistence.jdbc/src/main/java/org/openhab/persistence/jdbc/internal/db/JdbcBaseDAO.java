@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -24,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -56,10 +59,12 @@ import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcItemState;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -82,6 +87,12 @@ public class JdbcBaseDAO {
     // Get Database Meta data
     protected @Nullable DbMetaData dbMeta;
 
+    protected static final String SQL_OPERATION_INSERT = "insert";
+    protected static final String SQL_OPERATION_INSERT_WITH_DATE = "insertWithDate";
+
+    // Per table SQL statements, built once from the templates below
+    private final Map<SqlCacheKey, String> sqlCache = new ConcurrentHashMap<>();
+
     protected String sqlPingDB = "SELECT 1";
     protected String sqlGetDB = "SELECT DATABASE()";
     protected String sqlIfTableExists = "SHOW TABLES LIKE '#searchTable#'";
@@ -340,6 +351,8 @@ public class JdbcBaseDAO {
             Yank.execute(sql, null);
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
+        } finally {
+            clearSqlCache(tableName);
         }
     }
 
@@ -432,9 +445,10 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), sqlTypes.get("tablePrimaryValue") });
+        String sql = getCachedSql(SQL_OPERATION_INSERT, storedVO,
+                () -> StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                        new String[] { "#tableName#", "#tablePrimaryValue#" }, new String[] {
+                                formattedIdentifier(storedVO.getTableName()), sqlTypes.get("tablePrimaryValue") }));
         Object[] params = { storedVO.getValue(), storedVO.getValue() };
         logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
         try {
@@ -446,12 +460,10 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = getCachedSql(SQL_OPERATION_INSERT_WITH_DATE, storedVO,
+                () -> storeItemValueWithDateProvider(storedVO));
+        Object[] params = storeItemValueWithDateParams(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,6 +471,36 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several timestamped states of the same item table as one JDBC batch in a single transaction.
+     *
+     * @param tableName the item table all states are written to
+     * @param states the states to store, all belonging to the same item
+     * @throws JdbcSQLException if the batch could not be executed, in which case the transaction is rolled back
+     */
+    public void doStoreItemValues(String tableName, List<JdbcItemState> states) throws JdbcSQLException {
+        if (states.isEmpty()) {
+            return;
+        }
+        String sql = null;
+        Object[][] params = new Object[states.size()][];
+        for (int i = 0; i < states.size(); i++) {
+            JdbcItemState itemState = states.get(i);
+            ItemVO storedVO = storeItemValueProvider(itemState.item(), itemState.state(), new ItemVO(tableName, null));
+            if (sql == null) {
+                sql = getCachedSql(SQL_OPERATION_INSERT_WITH_DATE, storedVO,
+                        () -> storeItemValueWithDateProvider(storedVO));
+            }
+            params[i] = storeItemValueWithDateParams(storedVO, itemState.date());
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, states.size());
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -481,6 +523,58 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Queries historic values page by page. Each page is read with its own query while iterating, so only one page is
+     * held in memory and no connection is kept open between the pages.
+     */
+    public Iterable<HistoricItem> doGetHistItemFilterQueryCursor(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, String name, ZoneId timeZone, int pageSize) {
+        logger.debug("JDBC::doGetHistItemFilterQueryCursor table={} pageSize={}", table, pageSize);
+        return new JdbcHistoricItemCursor(filter, pageSize,
+                page -> doGetHistItemFilterQuery(item, page, numberDecimalcount, table, name, timeZone));
+    }
+
+    /**
+     * Queries historic values of a number item aggregated into time buckets, so that at most about
+     * <code>maxPoints</code> rows are returned.
+     *
+     * @param item the item, must be a {@link NumberItem}
+     * @param filter the filter providing begin and end date as well as the ordering
+     * @param table the item table
+     * @param timeZone the time zone used for the time filter
+     * @param maxPoints the maximum number of values to return
+     * @param aggregation the function used to aggregate the values of a bucket
+     * @return list of aggregated values, each with the timestamp of the first value in its bucket
+     * @throws JdbcSQLException on SQL errors
+     */
+    public List<HistoricItem> doGetHistItemDownsampledQuery(Item item, FilterCriteria filter, String table,
+            ZoneId timeZone, int maxPoints, AggregationFunction aggregation) throws JdbcSQLException {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (beginDate == null || maxPoints < 1) {
+            throw new IllegalArgumentException("Downsampling requires a begin date and a positive number of points");
+        }
+        long rangeSeconds = Duration.between(beginDate, endDate != null ? endDate : ZonedDateTime.now()).toSeconds();
+        long bucketSeconds = Math.max(1, (rangeSeconds + maxPoints - 1) / maxPoints);
+        String sql = histItemDownsampledQueryProvider(filter, table, timeZone, bucketSeconds, aggregation);
+        logger.debug("JDBC::doGetHistItemDownsampledQuery sql={}", sql);
+        List<Object[]> m;
+        try {
+            m = Yank.queryObjectArrays(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        if (m == null) {
+            logger.debug("JDBC::doGetHistItemDownsampledQuery Query failed. Returning an empty list.");
+            return List.of();
+        }
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        return m.stream()
+                .map(o -> new JdbcHistoricItem(itemName, objectAsState(item, unit, o[1]), objectAsInstant(o[0])))
+                .collect(Collectors.<HistoricItem> toList());
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -531,6 +625,29 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    protected String histItemDownsampledQueryProvider(FilterCriteria filter, String table, ZoneId timeZone,
+            long bucketSeconds, AggregationFunction aggregation) {
+        logger.debug(
+                "JDBC::histItemDownsampledQueryProvider filter = {}, table = {}, bucketSeconds = {}, aggregation = {}",
+                filter, table, bucketSeconds, aggregation);
+        // SELECT MIN(time), AVG(value) FROM number_item_0114 WHERE ... GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 60)
+        // ORDER BY 1 ASC
+        String bucket = timeBucketProvider(bucketSeconds);
+        return "SELECT MIN(time), " + aggregation.name() + "(value) FROM " + formattedIdentifier(table)
+                + resolveTimeFilter(filter, timeZone) + " GROUP BY " + bucket + " ORDER BY 1"
+                + (filter.getOrdering() == Ordering.ASCENDING ? " ASC" : " DESC");
+    }
+
+    /**
+     * Builds an expression mapping the <code>time</code> column to the number of its time bucket.
+     *
+     * @param bucketSeconds the length of a bucket in seconds
+     * @return the SQL expression
+     */
+    protected String timeBucketProvider(long bucketSeconds) {
+        return "FLOOR(UNIX_TIMESTAMP(time) / " + bucketSeconds + ")";
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -556,6 +673,21 @@ public class JdbcBaseDAO {
         return filterString;
     }
 
+    /**
+     * Builds the insert statement for a value with an explicit timestamp. The timestamp and the value are bound as
+     * parameters, see {@link #storeItemValueWithDateParams(ItemVO, ZonedDateTime)}.
+     */
+    protected String storeItemValueWithDateProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    protected Object[] storeItemValueWithDateParams(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     private String updateItemTableNamesProvider(ItemVO itemTable) {
         String newTableName = itemTable.getNewTableName();
         if (newTableName == null) {
@@ -759,6 +891,39 @@ public class JdbcBaseDAO {
         };
     }
 
+    /**
+     * Returns the SQL statement for an operation on an item table, building it only on first use.
+     *
+     * @param operation the operation the statement is used for
+     * @param storedVO the item value providing table name and database type
+     * @param sqlProvider builds the statement from its template
+     * @return the statement
+     */
+    protected String getCachedSql(String operation, ItemVO storedVO, Supplier<String> sqlProvider) {
+        return sqlCache.computeIfAbsent(new SqlCacheKey(operation, storedVO.getTableName(), storedVO.getDbType()),
+                key -> sqlProvider.get());
+    }
+
+    /**
+     * Removes all cached SQL statements, e.g. after templates or the table index have changed.
+     */
+    public void clearSqlCache() {
+        sqlCache.clear();
+    }
+
+    /**
+     * Removes the cached SQL statements of a single table, e.g. after it has been dropped.
+     *
+     * @param tableName the table name
+     */
+    public void clearSqlCache(String tableName) {
+        sqlCache.keySet().removeIf(key -> key.tableName().equals(tableName));
+    }
+
+    int getSqlCacheSize() {
+        return sqlCache.size();
+    }
+
     protected String formattedIdentifier(String identifier) {
         return identifier;
     }
@@ -807,4 +972,7 @@ public class JdbcBaseDAO {
         }
         return dataType;
     }
+
+    private record SqlCacheKey(String operation, String tableName, @Nullable String dbType) {
+    }
 }
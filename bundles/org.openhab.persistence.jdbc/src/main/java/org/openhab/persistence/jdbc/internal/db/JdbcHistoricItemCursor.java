@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcHistoricItemCursor} is an {@link Iterable} of {@link HistoricItem}s which reads the result of a
+ * query page by page. Each page is read with its own query limited to the page size, so no connection or result set
+ * is held between two pages and an iterator abandoned before reaching the end holds no database resources.
+ *
+ * Pages are only queried while iterating. The first page is kept, so results fitting into one page are read once
+ * for all iterators. The end of the time range is fixed when the cursor is created, so values stored while iterating
+ * do not shift the following pages.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemCursor implements Iterable<HistoricItem> {
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcHistoricItemCursor.class);
+
+    private final FilterCriteria filter;
+    private final int pageSize;
+    private final PageQuery pageQuery;
+    private volatile @Nullable List<HistoricItem> firstPage;
+
+    /**
+     * Queries one page of the result.
+     */
+    @FunctionalInterface
+    public interface PageQuery {
+        List<HistoricItem> query(FilterCriteria page) throws JdbcSQLException;
+    }
+
+    /**
+     * Creates a new cursor.
+     *
+     * @param filter the filter of the query, its page settings are ignored
+     * @param pageSize number of rows read per query
+     * @param pageQuery queries a page of the result
+     */
+    public JdbcHistoricItemCursor(FilterCriteria filter, int pageSize, PageQuery pageQuery) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be positive");
+        }
+        this.filter = copy(filter);
+        if (filter.getEndDate() == null) {
+            this.filter.setEndDate(ZonedDateTime.now());
+        }
+        this.pageSize = pageSize;
+        this.pageQuery = pageQuery;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new PageIterator();
+    }
+
+    private List<HistoricItem> getPage(int pageNumber) {
+        List<HistoricItem> page = pageNumber == 0 ? firstPage : null;
+        if (page != null) {
+            return page;
+        }
+        FilterCriteria pageFilter = copy(filter).setPageNumber(pageNumber).setPageSize(pageSize);
+        try {
+            page = pageQuery.query(pageFilter);
+        } catch (JdbcSQLException e) {
+            logger.warn("JDBC::cursor: Unable to query page {} of item '{}'", pageNumber, filter.getItemName(), e);
+            // end the iteration, a following iteration queries the page again
+            return List.of();
+        }
+        if (pageNumber == 0) {
+            firstPage = page;
+        }
+        return page;
+    }
+
+    private static FilterCriteria copy(FilterCriteria filter) {
+        FilterCriteria copy = new FilterCriteria().setOrdering(filter.getOrdering()).setOperator(filter.getOperator());
+        String itemName = filter.getItemName();
+        if (itemName != null) {
+            copy.setItemName(itemName);
+        }
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null) {
+            copy.setBeginDate(beginDate);
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate != null) {
+            copy.setEndDate(endDate);
+        }
+        State state = filter.getState();
+        if (state != null) {
+            copy.setState(state);
+        }
+        return copy;
+    }
+
+    private class PageIterator implements Iterator<HistoricItem> {
+        private Iterator<HistoricItem> page = Collections.emptyIterator();
+        private int pageNumber = 0;
+        private boolean lastPage = false;
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext()) {
+                if (lastPage) {
+                    return false;
+                }
+                List<HistoricItem> items = getPage(pageNumber++);
+                lastPage = items.size() < pageSize;
+                page = items.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public HistoricItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+}
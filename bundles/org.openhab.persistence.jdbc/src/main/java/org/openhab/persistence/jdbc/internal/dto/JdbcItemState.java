@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * Represents a single item state waiting to be written to the database.
+ *
+ * @param item the item the state belongs to
+ * @param state the state to store
+ * @param date the timestamp of the state
+ * @param alias the optional alias used to resolve the item table
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public record JdbcItemState(Item item, State state, ZonedDateTime date, @Nullable String alias) {
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.dto.JdbcItemState;
+
+/**
+ * Tests the {@link JdbcBatchWriter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriterTest {
+
+    private static final long LONG_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<List<JdbcItemState>> batches = new LinkedBlockingQueue<>();
+    private @Nullable JdbcBatchWriter writer;
+
+    @AfterEach
+    public void tearDown() {
+        JdbcBatchWriter writer = this.writer;
+        if (writer != null) {
+            writer.stop();
+        }
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void batchIsFlushedWhenBatchSizeIsReached() throws InterruptedException {
+        JdbcBatchWriter writer = createWriter(3, LONG_INTERVAL, this::storeAll);
+
+        writer.offer(state(1));
+        writer.offer(state(2));
+        assertNull(batches.poll(200, TimeUnit.MILLISECONDS));
+        writer.offer(state(3));
+
+        List<JdbcItemState> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertEquals(3, batch.size());
+        waitForFlushes(writer, 1);
+        assertEquals(0, writer.getQueueDepth());
+        assertEquals(3, writer.getStoredCount());
+    }
+
+    @Test
+    void statesAreFlushedAfterFlushInterval() throws InterruptedException {
+        JdbcBatchWriter writer = createWriter(100, 300, this::storeAll);
+
+        writer.offer(state(1));
+        writer.offer(state(2));
+        assertEquals(2, writer.getQueueDepth());
+
+        List<JdbcItemState> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertEquals(2, batch.size());
+        assertEquals(0, writer.getQueueDepth());
+    }
+
+    @Test
+    void statesNotStoredByHandlerAreCountedAsFailed() throws InterruptedException {
+        // the handler stores the first state of each batch only, like a fallback with failing rows
+        JdbcBatchWriter writer = createWriter(2, LONG_INTERVAL, states -> {
+            batches.add(new ArrayList<>(states));
+            return 1;
+        });
+
+        writer.offer(state(1));
+        writer.offer(state(2));
+
+        assertNotNull(batches.poll(5, TimeUnit.SECONDS));
+        waitForFlushes(writer, 1);
+        assertEquals(1, writer.getStoredCount());
+        assertEquals(1, writer.getFailedCount());
+    }
+
+    @Test
+    void failingHandlerDoesNotStopTheWriter() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        JdbcBatchWriter writer = createWriter(2, LONG_INTERVAL, states -> {
+            batches.add(new ArrayList<>(states));
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("database gone");
+            }
+            return states.size();
+        });
+
+        writer.offer(state(1));
+        writer.offer(state(2));
+        assertNotNull(batches.poll(5, TimeUnit.SECONDS));
+        waitForFlushes(writer, 1);
+        writer.offer(state(3));
+        writer.offer(state(4));
+        assertNotNull(batches.poll(5, TimeUnit.SECONDS));
+        waitForFlushes(writer, 2);
+
+        assertEquals(2, writer.getStoredCount());
+        assertEquals(2, writer.getFailedCount());
+    }
+
+    @Test
+    void fullQueueDropsStates() {
+        // the handler is never called, as the scheduler is busy
+        scheduler.execute(() -> {
+            try {
+                Thread.sleep(LONG_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        JdbcBatchWriter writer = createWriter(2, LONG_INTERVAL, this::storeAll);
+
+        assertTrue(writer.offer(state(1)));
+        assertTrue(writer.offer(state(2)));
+        assertFalse(writer.offer(state(3)));
+        assertEquals(1, writer.getDroppedCount());
+    }
+
+    private JdbcBatchWriter createWriter(int batchSize, long flushInterval,
+            ToIntFunction<List<JdbcItemState>> flushHandler) {
+        JdbcBatchWriter writer = new JdbcBatchWriter(batchSize, batchSize, flushInterval, scheduler, flushHandler);
+        writer.start();
+        this.writer = writer;
+        return writer;
+    }
+
+    private int storeAll(List<JdbcItemState> states) {
+        batches.add(new ArrayList<>(states));
+        return states.size();
+    }
+
+    private static JdbcItemState state(int value) {
+        return new JdbcItemState(new NumberItem("Number" + value), new DecimalType(value), ZonedDateTime.now(), null);
+    }
+
+    private static void waitForFlushes(JdbcBatchWriter writer, long flushes) throws InterruptedException {
+        // the statistics are updated after the handler returned
+        long end = System.currentTimeMillis() + 5000;
+        while (writer.getFlushCount() < flushes && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertEquals(flushes, writer.getFlushCount());
+    }
+}
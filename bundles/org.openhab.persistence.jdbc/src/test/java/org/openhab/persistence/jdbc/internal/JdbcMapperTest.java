@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcItemState;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the batched writes of the {@link JdbcMapper}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@SuppressWarnings("null")
+public class JdbcMapperTest {
+
+    private final JdbcBaseDAO dao = mock(JdbcBaseDAO.class);
+    private final JdbcMapper mapper = new JdbcMapper(mock(TimeZoneProvider.class));
+    private final NumberItem good = new NumberItem("Good");
+    private final NumberItem bad = new NumberItem("Bad");
+
+    @BeforeEach
+    public void setup() {
+        JdbcConfiguration conf = mock(JdbcConfiguration.class);
+        when(conf.getDBDAO()).thenReturn(dao);
+        mapper.conf = conf;
+        mapper.initialized = true;
+        mapper.itemNameToTableNameMap.put(good.getName(), "item0001");
+        mapper.itemNameToTableNameMap.put(bad.getName(), "item0001");
+    }
+
+    @Test
+    void batchStoresAllStates() throws JdbcSQLException {
+        List<JdbcItemState> states = List.of(state(good, 1), state(bad, 2));
+
+        assertEquals(2, mapper.storeItemValues(states));
+        verify(dao).doStoreItemValues("item0001", states);
+        verify(dao, never()).doStoreItemValue(any(), any(), any(), any());
+    }
+
+    @Test
+    void failedBatchIsStoredRowByRowAndFailedRowsAreNotCounted() throws JdbcSQLException {
+        List<JdbcItemState> states = List.of(state(good, 1), state(bad, 2), state(good, 3));
+        doThrow(mock(JdbcSQLException.class)).when(dao).doStoreItemValues(anyString(), anyList());
+        doThrow(mock(JdbcSQLException.class)).when(dao).doStoreItemValue(eq(bad), any(), any(), any());
+
+        assertEquals(2, mapper.storeItemValues(states));
+        verify(dao, times(3)).doStoreItemValue(any(), any(), any(), any());
+    }
+
+    private static JdbcItemState state(NumberItem item, int value) {
+        return new JdbcItemState(item, new DecimalType(value), ZonedDateTime.now(), null);
+    }
+}
@@ -24,6 +24,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import javax.measure.Quantity;
@@ -66,6 +67,8 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -192,6 +195,18 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    void testHistItemDownsampledQueryProviderReturnsGroupedSelectQuery() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = jdbcBaseDAO.histItemDownsampledQueryProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID, 60,
+                AggregationFunction.AVG);
+        assertThat(sql, is("SELECT MIN(time), AVG(value) FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
+                + " GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 60) ORDER BY 1 ASC"));
+    }
+
     @Test
     void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
@@ -247,6 +262,52 @@ public class JdbcBaseDAOTest {
                         + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
     }
 
+    @Test
+    void testStoreItemValueWithDateProviderReturnsInsertQueryWithTimeParameter() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+
+        String sql = jdbcBaseDAO.storeItemValueWithDateProvider(vo);
+        assertThat(sql, is("INSERT INTO " + DB_TABLE_NAME
+                + " (time, value) VALUES( ?, ? ) ON DUPLICATE KEY UPDATE VALUE= ?"));
+    }
+
+    @Test
+    void testStoreItemValueWithDateParamsReturnsTimestampAndValue() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+        vo.setValue(42.0);
+        ZonedDateTime date = parseDateTimeString("2022-01-10T15:01:44");
+
+        Object[] params = jdbcBaseDAO.storeItemValueWithDateParams(vo, date);
+        assertEquals(3, params.length);
+        assertEquals(new java.sql.Timestamp(date.toInstant().toEpochMilli()), params[0]);
+        assertEquals(42.0, params[1]);
+        assertEquals(42.0, params[2]);
+    }
+
+    @Test
+    void testGetCachedSqlBuildsStatementOncePerTable() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+        AtomicInteger builds = new AtomicInteger();
+
+        String first = jdbcBaseDAO.getCachedSql("test", vo, () -> "SQL" + builds.incrementAndGet());
+        String second = jdbcBaseDAO.getCachedSql("test", vo, () -> "SQL" + builds.incrementAndGet());
+        assertThat(first, is("SQL1"));
+        assertThat(second, is("SQL1"));
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void testClearSqlCacheForTableRemovesOnlyStatementsOfThatTable() {
+        jdbcBaseDAO.getCachedSql("test", new ItemVO(DB_TABLE_NAME, null), () -> "SQL1");
+        jdbcBaseDAO.getCachedSql("test", new ItemVO("othertable", null), () -> "SQL2");
+
+        jdbcBaseDAO.clearSqlCache(DB_TABLE_NAME);
+        assertEquals(1, jdbcBaseDAO.getSqlCacheSize());
+
+        String sql = jdbcBaseDAO.getCachedSql("test", new ItemVO(DB_TABLE_NAME, null), () -> "SQL3");
+        assertThat(sql, is("SQL3"));
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
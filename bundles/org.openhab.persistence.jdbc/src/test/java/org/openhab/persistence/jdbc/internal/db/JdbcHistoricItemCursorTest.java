@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the {@link JdbcHistoricItemCursor}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcHistoricItemCursorTest {
+
+    private static final String ITEM_NAME = "Temperature";
+    private static final int PAGE_SIZE = 3;
+
+    private final List<FilterCriteria> queries = new ArrayList<>();
+
+    @Test
+    void pagesAreQueriedWhileIterating() {
+        JdbcHistoricItemCursor cursor = new JdbcHistoricItemCursor(filter(), PAGE_SIZE, page -> rows(page, 7));
+        assertTrue(queries.isEmpty());
+
+        Iterator<HistoricItem> iterator = cursor.iterator();
+        assertTrue(iterator.hasNext());
+        assertEquals(1, queries.size());
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), values(cursor.iterator()));
+        assertEquals(List.of(0, 1, 2), queries.stream().map(FilterCriteria::getPageNumber).toList());
+        assertTrue(queries.stream().allMatch(q -> q.getPageSize() == PAGE_SIZE));
+    }
+
+    @Test
+    void iterationEndsWithFullPageFollowedByEmptyPage() {
+        JdbcHistoricItemCursor cursor = new JdbcHistoricItemCursor(filter(), PAGE_SIZE, page -> rows(page, 6));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), values(cursor.iterator()));
+        assertEquals(3, queries.size());
+        assertEquals(2, queries.get(2).getPageNumber());
+    }
+
+    @Test
+    void abandonedIteratorQueriesNoFurtherPages() {
+        JdbcHistoricItemCursor cursor = new JdbcHistoricItemCursor(filter(), PAGE_SIZE, page -> rows(page, 100));
+
+        Iterator<HistoricItem> iterator = cursor.iterator();
+        for (int i = 0; i < PAGE_SIZE + 1; i++) {
+            iterator.next();
+        }
+
+        assertEquals(2, queries.size());
+    }
+
+    @Test
+    void firstPageIsReusedByFollowingIterators() {
+        JdbcHistoricItemCursor cursor = new JdbcHistoricItemCursor(filter(), PAGE_SIZE, page -> rows(page, 2));
+
+        assertEquals(List.of(0, 1), values(cursor.iterator()));
+        assertEquals(List.of(0, 1), values(cursor.iterator()));
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    void missingEndDateIsFixedForAllPages() {
+        ZonedDateTime before = ZonedDateTime.now();
+        JdbcHistoricItemCursor cursor = new JdbcHistoricItemCursor(filter(), PAGE_SIZE, page -> rows(page, 7));
+        ZonedDateTime after = ZonedDateTime.now();
+
+        values(cursor.iterator());
+
+        ZonedDateTime endDate = queries.get(0).getEndDate();
+        assertNotNull(endDate);
+        assertFalse(endDate.isBefore(before));
+        assertFalse(endDate.isAfter(after));
+        assertTrue(queries.stream().allMatch(q -> endDate.equals(q.getEndDate())));
+    }
+
+    @Test
+    void filterIsPassedToEachPage() {
+        ZonedDateTime beginDate = ZonedDateTime.now().minusDays(1);
+        FilterCriteria filter = filter().setBeginDate(beginDate).setOrdering(Ordering.DESCENDING).setPageNumber(5)
+                .setPageSize(1000);
+        JdbcHistoricItemCursor cursor = new JdbcHistoricItemCursor(filter, PAGE_SIZE, page -> rows(page, 4));
+
+        values(cursor.iterator());
+
+        for (FilterCriteria query : queries) {
+            assertEquals(ITEM_NAME, query.getItemName());
+            assertEquals(beginDate, query.getBeginDate());
+            assertEquals(Ordering.DESCENDING, query.getOrdering());
+            assertEquals(PAGE_SIZE, query.getPageSize());
+        }
+        assertEquals(0, queries.get(0).getPageNumber());
+        assertEquals(5, filter.getPageNumber());
+    }
+
+    @Test
+    void failingQueryEndsIteration() {
+        JdbcHistoricItemCursor cursor = new JdbcHistoricItemCursor(filter(), PAGE_SIZE, page -> {
+            if (page.getPageNumber() == 1) {
+                queries.add(page);
+                throw mock(JdbcSQLException.class);
+            }
+            return rows(page, 7);
+        });
+
+        Iterator<HistoricItem> iterator = cursor.iterator();
+        assertEquals(List.of(0, 1, 2), values(iterator));
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(2, queries.size());
+    }
+
+    @Test
+    void pageSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new JdbcHistoricItemCursor(filter(), 0, page -> List.of()));
+    }
+
+    private static FilterCriteria filter() {
+        return new FilterCriteria().setItemName(ITEM_NAME);
+    }
+
+    private List<HistoricItem> rows(FilterCriteria page, int total) {
+        queries.add(page);
+        int from = page.getPageNumber() * page.getPageSize();
+        int to = Math.min(from + page.getPageSize(), total);
+        return IntStream.range(from, Math.max(from, to)).<HistoricItem> mapToObj(
+                i -> new JdbcHistoricItem(ITEM_NAME, new DecimalType(i), Instant.ofEpochSecond(i))).toList();
+    }
+
+    private static List<Integer> values(Iterator<HistoricItem> iterator) {
+        List<Integer> values = new ArrayList<>();
+        iterator.forEachRemaining(item -> values.add(((DecimalType) item.getState()).intValue()));
+        return values;
+    }
+}
@@ -63,6 +63,10 @@ class MapDbItem implements PersistedItem, PersistenceItemInfo {
         return ZonedDateTime.ofInstant(timestamp.toInstant(), ZoneId.systemDefault());
     }
 
+    Date getTimestampDate() {
+        return timestamp;
+    }
+
     void setTimestamp(Date timestamp) {
         this.timestamp = timestamp;
     }
@@ -82,6 +86,11 @@ class MapDbItem implements PersistedItem, PersistenceItemInfo {
                 : null;
     }
 
+    @Nullable
+    Date getLastStateChangeDate() {
+        return lastStateChange;
+    }
+
     void setLastStateChange(@Nullable Date lastStateChange) {
         this.lastStateChange = lastStateChange;
     }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Compact binary serialization of {@link MapDbItem}s.
+ *
+ * The most common state types are written as a type tag followed by their value, all other states are written with
+ * their class name and full string representation, like the {@link StateTypeAdapter} does.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class MapDbItemSerializer {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NONE = 0;
+    private static final byte TYPE_GENERIC = 1;
+    private static final byte TYPE_ON_OFF = 2;
+    private static final byte TYPE_OPEN_CLOSED = 3;
+    private static final byte TYPE_DECIMAL = 4;
+    private static final byte TYPE_PERCENT = 5;
+    private static final byte TYPE_STRING = 6;
+    private static final byte TYPE_UNDEF = 7;
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private MapDbItemSerializer() {
+    }
+
+    /**
+     * Serializes an item. The name is not included, as it is the key of the map.
+     */
+    static byte[] serialize(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(item.getTimestampDate().getTime());
+            Date lastStateChange = item.getLastStateChangeDate();
+            out.writeLong(lastStateChange != null ? lastStateChange.getTime() : NO_DATE);
+            writeState(out, item.getState());
+            writeState(out, item.getLastState());
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes an item which has been serialized by {@link #serialize(MapDbItem)}.
+     *
+     * @throws IOException if the data is corrupt or the state cannot be parsed
+     */
+    static MapDbItem deserialize(String name, byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version " + version);
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(name);
+            item.setTimestamp(new Date(in.readLong()));
+            long lastStateChange = in.readLong();
+            item.setLastStateChange(lastStateChange != NO_DATE ? new Date(lastStateChange) : null);
+            State state = readState(in);
+            if (state == null) {
+                throw new IOException("State is missing");
+            }
+            item.setState(state);
+            item.setLastState(readState(in));
+            return item;
+        }
+    }
+
+    private static void writeState(DataOutputStream out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TYPE_NONE);
+        } else if (state instanceof OnOffType onOff) {
+            out.writeByte(TYPE_ON_OFF);
+            out.writeBoolean(onOff == OnOffType.ON);
+        } else if (state instanceof OpenClosedType openClosed) {
+            out.writeByte(TYPE_OPEN_CLOSED);
+            out.writeBoolean(openClosed == OpenClosedType.OPEN);
+        } else if (state instanceof UnDefType undef) {
+            out.writeByte(TYPE_UNDEF);
+            out.writeBoolean(undef == UnDefType.UNDEF);
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TYPE_DECIMAL);
+            writeDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TYPE_PERCENT);
+            writeDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TYPE_GENERIC);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private static @Nullable State readState(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_NONE -> null;
+            case TYPE_ON_OFF -> OnOffType.from(in.readBoolean());
+            case TYPE_OPEN_CLOSED -> in.readBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case TYPE_UNDEF -> in.readBoolean() ? UnDefType.UNDEF : UnDefType.NULL;
+            case TYPE_DECIMAL -> new DecimalType(readDecimal(in));
+            case TYPE_PERCENT -> new PercentType(readDecimal(in));
+            case TYPE_STRING -> new StringType(readString(in));
+            case TYPE_GENERIC -> readGenericState(in);
+            default -> throw new IOException("Unknown state type " + type);
+        };
+    }
+
+    private static State readGenericState(DataInputStream in) throws IOException {
+        String className = readString(in);
+        String value = readString(in);
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends State> stateClass = (Class<? extends State>) Class.forName(className);
+            State state = TypeParser.parseState(List.of(stateClass), value);
+            if (state == null) {
+                throw new IOException("Cannot parse '" + value + "' as " + className);
+            }
+            return state;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unknown state class " + className, e);
+        }
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeInt(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        int length = in.readInt();
+        if (length <= 0 || length > in.available()) {
+            throw new IOException("Invalid decimal length " + length);
+        }
+        byte[] unscaled = in.readNBytes(length);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Invalid string length " + length);
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
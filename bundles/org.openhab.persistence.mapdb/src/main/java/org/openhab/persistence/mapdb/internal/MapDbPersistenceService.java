@@ -20,14 +20,18 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,6 +39,8 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -50,6 +56,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,12 +67,17 @@ import com.google.gson.GsonBuilder;
  * This is the implementation of the MapDB {@link PersistenceService}. To learn more about MapDB please visit their
  * <a href="http://www.mapdb.org/">website</a>.
  *
+ * Stored states are collected per alias and written to the database in a single commit, either periodically or when
+ * the number of pending states reaches a threshold. Only the latest state of an alias is written.
+ *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private static final String SERVICE_ID = "mapdb";
@@ -73,23 +85,41 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String LEGACY_MAP_NAME = "itemStore";
+    private static final String MAP_NAME = "itemStates";
+
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String COMMIT_INTERVAL_CONFIG = "commitInterval";
+    private static final String COMMIT_THRESHOLD_CONFIG = "commitThreshold";
+    private static final int COMMIT_INTERVAL_DEFAULT = 5; // in s
+    private static final int COMMIT_THRESHOLD_DEFAULT = 100;
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService threadPool = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName());
 
     /**
      * holds the local instance of the MapDB database
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+
+    /**
+     * serialized states which have not been committed yet, by alias
+     */
+    private final Map<String, byte[]> pendingStates = new ConcurrentHashMap<>();
+    private final AtomicBoolean commitScheduled = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> commitJob;
+    private int commitInterval = COMMIT_INTERVAL_DEFAULT;
+    private int commitThreshold = COMMIT_THRESHOLD_DEFAULT;
 
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
 
         try {
@@ -103,7 +133,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
             db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            map = db.createTreeMap(MAP_NAME).makeOrGet();
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -135,23 +165,77 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 }
 
                 db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                map = db.createTreeMap(MAP_NAME).makeOrGet();
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
             }
         }
+        if (db != null) {
+            migrateLegacyStore();
+        }
+        modified(config);
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    public void modified(Map<String, Object> config) {
+        commitInterval = Math.max(0, ConfigParser.valueAsOrElse(config.get(COMMIT_INTERVAL_CONFIG), Integer.class,
+                COMMIT_INTERVAL_DEFAULT));
+        commitThreshold = Math.max(1, ConfigParser.valueAsOrElse(config.get(COMMIT_THRESHOLD_CONFIG), Integer.class,
+                COMMIT_THRESHOLD_DEFAULT));
+
+        ScheduledFuture<?> commitJob = this.commitJob;
+        if (commitJob != null) {
+            commitJob.cancel(false);
+        }
+        this.commitJob = commitInterval > 0
+                ? threadPool.scheduleWithFixedDelay(this::commit, commitInterval, commitInterval, TimeUnit.SECONDS)
+                : null;
+        // states collected with the previous configuration must not wait for the next interval
+        scheduleCommit();
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
+        ScheduledFuture<?> commitJob = this.commitJob;
+        if (commitJob != null) {
+            commitJob.cancel(false);
+            this.commitJob = null;
+        }
+        commit();
         if (db != null) {
             db.close();
         }
     }
 
+    /**
+     * Converts the JSON serialized states of older versions to the binary format. The old map is kept, so that older
+     * versions of the service can still read it after a downgrade. States are only migrated as long as the new map is
+     * empty, so that states stored with the binary format are never overwritten by outdated ones.
+     */
+    private void migrateLegacyStore() {
+        if (!db.exists(LEGACY_MAP_NAME) || !map.isEmpty()) {
+            return;
+        }
+        Map<String, String> legacyMap = db.getTreeMap(LEGACY_MAP_NAME);
+        int migrated = 0;
+        for (Map.Entry<String, String> entry : legacyMap.entrySet()) {
+            Optional<MapDbItem> item = deserializeJson(entry.getValue());
+            if (item.isPresent()) {
+                try {
+                    map.put(entry.getKey(), MapDbItemSerializer.serialize(item.get()));
+                    migrated++;
+                } catch (IOException e) {
+                    logger.warn("Failed to migrate state of '{}': {}", entry.getKey(), e.getMessage());
+                }
+            }
+        }
+        db.commit();
+        logger.info("Migrated {} stored states to the binary MapDB format", migrated);
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -164,8 +248,13 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        Set<String> names = new HashSet<>(map.keySet());
+        names.addAll(pendingStates.keySet());
+        return names.stream().map(name -> {
+            MapDbItem item = new MapDbItem();
+            item.setName(name);
+            return item;
+        }).collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
     }
 
     @Override
@@ -192,44 +281,86 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
-        threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
+        try {
+            pendingStates.put(localAlias, MapDbItemSerializer.serialize(mItem));
+        } catch (IOException e) {
+            logger.warn("Failed to serialize state '{}' of '{}': {}", state, localAlias, e.getMessage());
+            return;
+        }
+        logger.debug("Queued '{}' with state '{}' for MapDB database", localAlias, state);
+        if (commitInterval == 0 || pendingStates.size() >= commitThreshold) {
+            scheduleCommit();
+        }
+    }
+
+    private void scheduleCommit() {
+        if (!pendingStates.isEmpty() && commitScheduled.compareAndSet(false, true)) {
+            threadPool.submit(this::commit);
+        }
+    }
+
+    /**
+     * Writes the pending states to the database and commits them in a single transaction.
+     */
+    private synchronized void commit() {
+        commitScheduled.set(false);
+        if (db == null || pendingStates.isEmpty()) {
+            return;
+        }
+        try {
+            int count = 0;
+            for (Map.Entry<String, byte[]> entry : pendingStates.entrySet()) {
+                map.put(entry.getKey(), entry.getValue());
+                // a newer state stored in the meantime stays pending for the next commit
+                pendingStates.remove(entry.getKey(), entry.getValue());
+                count++;
+            }
             db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
-        });
+            logger.debug("Committed {} states to MapDB database", count);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to commit states to MapDB database: {}", e.getMessage());
+        }
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = getItem(itemName);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
+        MapDbItem dbItem = getItem(alias != null ? alias : itemName).orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
         }
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    private Optional<MapDbItem> getItem(String alias) {
+        byte[] data = pendingStates.get(alias);
+        if (data == null) {
+            data = map.get(alias);
+        }
+        if (data == null) {
+            return Optional.empty();
+        }
+        try {
+            MapDbItem item = MapDbItemSerializer.deserialize(alias, data);
+            logger.debug("Deserialized '{}' with state '{}'", alias, item.getState());
+            return Optional.of(item);
+        } catch (IOException e) {
+            logger.warn("Failed to deserialize state of '{}': {}", alias, e.getMessage());
+            return Optional.empty();
+        }
     }
 
     @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
+    private Optional<MapDbItem> deserializeJson(String json) {
         MapDbItem item = mapper.fromJson(json, MapDbItem.class);
         if (item == null || !item.isValid()) {
             logger.warn("Deserialized invalid item: {}", item);
@@ -241,10 +372,6 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
-    }
-
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
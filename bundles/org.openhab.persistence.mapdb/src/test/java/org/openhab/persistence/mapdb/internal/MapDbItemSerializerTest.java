@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializerTest {
+
+    public static Stream<State> serializeRoundtripShouldRecreateTheItem() {
+        return Stream.of(OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN, OpenClosedType.CLOSED, UnDefType.UNDEF,
+                UnDefType.NULL, DecimalType.ZERO, new DecimalType(new BigDecimal("-1.123")),
+                new DecimalType(new BigDecimal("1E+30")), PercentType.HUNDRED, PercentType.valueOf("99.999"),
+                StringType.valueOf(""), StringType.valueOf("äöü @@@ test"), HSBType.fromRGB(11, 22, 33),
+                new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                new DateTimeType("2024-01-02T03:04:05.678Z"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void serializeRoundtripShouldRecreateTheItem(State state) throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(state);
+        item.setTimestamp(new Date(1700000000123L));
+        item.setLastState(OnOffType.OFF);
+        item.setLastStateChange(new Date(1600000000456L));
+
+        MapDbItem actual = MapDbItemSerializer.deserialize("alias", MapDbItemSerializer.serialize(item));
+
+        assertThat(actual.getName(), is("alias"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getState().getClass(), is(equalTo(state.getClass())));
+        assertThat(actual.getTimestamp(), is(item.getTimestamp()));
+        assertThat(actual.getLastState(), is(OnOffType.OFF));
+        assertThat(actual.getLastStateChange(), is(item.getLastStateChange()));
+    }
+
+    @Test
+    public void serializeShouldKeepMissingLastState() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setState(new DecimalType(42));
+
+        MapDbItem actual = MapDbItemSerializer.deserialize("item", MapDbItemSerializer.serialize(item));
+
+        assertThat(actual.getState(), is(new DecimalType(42)));
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    @Test
+    public void deserializeShouldRejectCorruptData() {
+        for (byte[] data : List.of(new byte[0], new byte[] { 99 }, new byte[] { 1, 0, 0 })) {
+            assertThrows(IOException.class, () -> MapDbItemSerializer.deserialize("item", data));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RRD4jDatabaseCache} keeps references to pooled databases, so their files stay open between store ticks.
+ * The least recently written databases are released when more than the configured number of files is open.
+ *
+ * Databases are opened and closed outside of the lock of the cache, so writers of different files do not wait for
+ * each other.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDatabaseCache {
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jDatabaseCache.class);
+
+    private final Function<String, @Nullable RrdDb> opener;
+
+    // least recently written first
+    private final Map<String, RrdDb> databases = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxOpenFiles;
+    private long evictions;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param opener opens a new reference to the pooled database of a name, or returns null if it does not exist
+     * @param maxOpenFiles maximum number of databases kept open, 0 disables the cache
+     */
+    public RRD4jDatabaseCache(Function<String, @Nullable RrdDb> opener, int maxOpenFiles) {
+        this.opener = opener;
+        this.maxOpenFiles = maxOpenFiles;
+    }
+
+    /**
+     * Keeps the database of a name open, or marks it as most recently written if it is already kept open.
+     *
+     * @param name the name of the item or alias
+     */
+    public void keepOpen(String name) {
+        synchronized (this) {
+            if (maxOpenFiles == 0 || databases.get(name) != null) {
+                return;
+            }
+        }
+        RrdDb db = opener.apply(name);
+        if (db == null) {
+            return;
+        }
+        List<RrdDb> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (maxOpenFiles == 0 || databases.putIfAbsent(name, db) != null) {
+                // kept open by another thread or disabled in the meantime
+                evicted.add(db);
+            } else {
+                evict(evicted);
+            }
+        }
+        evicted.forEach(this::close);
+    }
+
+    /**
+     * Releases the database of a name, if it is kept open.
+     *
+     * @param name the name of the item or alias
+     */
+    public void release(String name) {
+        RrdDb db;
+        synchronized (this) {
+            db = databases.remove(name);
+        }
+        if (db != null) {
+            close(db);
+        }
+    }
+
+    /**
+     * Changes the maximum number of databases kept open and releases the least recently written ones above it.
+     *
+     * @param maxOpenFiles maximum number of databases kept open, 0 disables the cache
+     */
+    public void setMaxOpenFiles(int maxOpenFiles) {
+        List<RrdDb> evicted = new ArrayList<>();
+        synchronized (this) {
+            this.maxOpenFiles = maxOpenFiles;
+            evict(evicted);
+        }
+        evicted.forEach(this::close);
+    }
+
+    /**
+     * Releases all databases.
+     */
+    public void clear() {
+        List<RrdDb> released;
+        synchronized (this) {
+            released = new ArrayList<>(databases.values());
+            databases.clear();
+        }
+        released.forEach(this::close);
+    }
+
+    public synchronized int size() {
+        return databases.size();
+    }
+
+    public synchronized int getMaxOpenFiles() {
+        return maxOpenFiles;
+    }
+
+    /**
+     * @return number of databases released because more than the maximum number of files was open
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private void evict(List<RrdDb> evicted) {
+        Iterator<RrdDb> iterator = databases.values().iterator();
+        while (databases.size() > maxOpenFiles && iterator.hasNext()) {
+            evicted.add(iterator.next());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private void close(RrdDb db) {
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        }
+    }
+}
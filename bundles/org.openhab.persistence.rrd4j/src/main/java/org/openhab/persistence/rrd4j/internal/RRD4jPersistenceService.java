@@ -22,13 +22,16 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -45,6 +48,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -117,8 +121,20 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private record Point(long timestamp, double value) {
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
+    private static final String MAX_OPEN_FILES_CONFIG = "maxOpenFiles";
+    private static final String WRITER_THREADS_CONFIG = "writerThreads";
+    private static final int MAX_OPEN_FILES_DEFAULT = 200;
+    private static final int WRITER_THREADS_DEFAULT = Math.max(1,
+            Math.min(4, Runtime.getRuntime().availableProcessors()));
+    // pool slots kept free for queries and charts of files which are not kept open
+    private static final int POOL_HEADROOM = 100;
+    private static final long STORE_INTERVAL_MILLIS = 1000;
+
     private static final String DEFAULT_OTHER = "default_other";
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
@@ -143,6 +159,19 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private final ItemRegistry itemRegistry;
     private boolean active = false;
 
+    // serializes store ticks and replacing the writer pool
+    private final Object storeLock = new Object();
+    private int writerThreads = WRITER_THREADS_DEFAULT;
+    private ExecutorService writerPool = createWriterPool(WRITER_THREADS_DEFAULT);
+
+    // databases kept open between store ticks
+    private final RRD4jDatabaseCache openDatabases = new RRD4jDatabaseCache(name -> getDB(name, false),
+            MAX_OPEN_FILES_DEFAULT);
+    // serializes opening and creating the file of a database, files of different databases are opened in parallel
+    private final Map<String, Object> databaseLocks = new ConcurrentHashMap<>();
+
+    private final RRD4jWriteStatistics statistics = new RRD4jWriteStatistics();
+
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
     }
@@ -156,7 +185,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
-        storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
+        storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), STORE_INTERVAL_MILLIS,
+                STORE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
         modified(config);
         active = true;
     }
@@ -205,6 +235,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         defaultOther.addArchives("LAST,0.5,1,720:LAST,0.5,12,10080:LAST,0.5,180,35040:LAST,0.5,2880,21900");
         rrdDefs.put(DEFAULT_OTHER, defaultOther);
 
+        configureWriter(config);
+
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
             return;
@@ -219,6 +251,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 continue;
             }
 
+            if (MAX_OPEN_FILES_CONFIG.equals(key) || WRITER_THREADS_CONFIG.equals(key)) {
+                // already handled by configureWriter
+                continue;
+            }
+
             String[] subkeys = key.split("\\.");
             if (subkeys.length != 2) {
                 logger.debug("config '{}' should have the format 'name.configkey'", key);
@@ -269,6 +306,34 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private void configureWriter(Map<String, Object> config) {
+        int newMaxOpenFiles = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(MAX_OPEN_FILES_CONFIG), Integer.class, MAX_OPEN_FILES_DEFAULT));
+        int newWriterThreads = Math.max(1,
+                ConfigParser.valueAsOrElse(config.get(WRITER_THREADS_CONFIG), Integer.class, WRITER_THREADS_DEFAULT));
+
+        // the pool blocks when its capacity is reached, so it has to hold the open files and concurrent queries
+        int poolCapacity = newMaxOpenFiles + POOL_HEADROOM;
+        if (poolCapacity > DATABASE_POOL.getCapacity()) {
+            DATABASE_POOL.setCapacity(poolCapacity);
+        }
+        openDatabases.setMaxOpenFiles(newMaxOpenFiles);
+
+        synchronized (storeLock) {
+            if (newWriterThreads != writerThreads) {
+                ExecutorService oldPool = writerPool;
+                writerPool = createWriterPool(newWriterThreads);
+                writerThreads = newWriterThreads;
+                oldPool.shutdown();
+            }
+        }
+        logger.debug("Using {} writer threads and keeping up to {} files open", newWriterThreads, newMaxOpenFiles);
+    }
+
+    private static ExecutorService createWriterPool(int threads) {
+        return Executors.newFixedThreadPool(threads, new NamedThreadFactory("RRD4j-writer"));
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
@@ -276,6 +341,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+
+        synchronized (storeLock) {
+            writerPool.shutdown();
+        }
+        openDatabases.clear();
     }
 
     @Override
@@ -342,21 +412,59 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     private void doStore(boolean force) {
-        long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
-                // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
+        synchronized (storeLock) {
+            long tickStart = System.nanoTime();
+            long now = System.currentTimeMillis() / 1000;
+            // group the samples per database, keeping them ordered by timestamp
+            Map<String, List<Point>> samples = new LinkedHashMap<>();
+            int sampleCount = 0;
+            while (!storageMap.isEmpty()) {
+                Key key = storageMap.firstKey();
+                if (now > key.timestamp || force) {
+                    // no new elements can be added for this timestamp because we are already past that time or the
+                    // service requires forced storing
+                    Map.Entry<Key, Double> entry = storageMap.pollFirstEntry();
+                    samples.computeIfAbsent(entry.getKey().name, k -> new ArrayList<>())
+                            .add(new Point(entry.getKey().timestamp, entry.getValue()));
+                    sampleCount++;
+                } else {
+                    break;
+                }
+            }
+            if (samples.isEmpty()) {
                 return;
             }
+
+            if (samples.size() == 1) {
+                samples.forEach(this::writePointsToDatabase);
+            } else {
+                List<Callable<@Nullable Void>> tasks = new ArrayList<>(samples.size());
+                samples.forEach((name, points) -> tasks.add(() -> {
+                    writePointsToDatabase(name, points);
+                    return null;
+                }));
+                try {
+                    writerPool.invokeAll(tasks);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RejectedExecutionException e) {
+                    // the writer pool has been shut down, write on this thread instead
+                    samples.forEach(this::writePointsToDatabase);
+                }
+            }
+
+            long tickNanos = System.nanoTime() - tickStart;
+            boolean overrun = tickNanos > TimeUnit.MILLISECONDS.toNanos(STORE_INTERVAL_MILLIS);
+            statistics.recordTick(tickNanos, samples.size(), sampleCount, overrun);
+            if (overrun) {
+                logger.debug("Storing {} samples to {} rrd4j databases took {} ms, longer than the store interval",
+                        sampleCount, samples.size(), TimeUnit.NANOSECONDS.toMillis(tickNanos));
+            }
         }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    private void writePointsToDatabase(String name, List<Point> points) {
+        long writeStart = System.nanoTime();
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -367,7 +475,19 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return;
         }
 
-        ConsolFun function = getConsolidationFunction(db);
+        try {
+            openDatabases.keepOpen(name);
+            ConsolFun function = getConsolidationFunction(db);
+            for (Point point : points) {
+                writePointToDatabase(db, function, name, point.value(), point.timestamp());
+            }
+        } finally {
+            closeDatabase(db);
+        }
+        statistics.recordWrite(name, System.nanoTime() - writeStart);
+    }
+
+    private void writePointToDatabase(RrdDb db, ConsolFun function, String name, double value, long timestamp) {
         if (function != ConsolFun.AVERAGE) {
             try {
                 // we store the last value again, so that the value change
@@ -401,6 +521,18 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
+    }
+
+    /**
+     * Releases the database of an item, if it is kept open. This is required before deleting the file.
+     *
+     * @param name the name of the item or alias
+     */
+    public void releaseDatabase(String name) {
+        openDatabases.release(name);
+    }
+
+    private void closeDatabase(RrdDb db) {
         try {
             db.close();
         } catch (IOException e) {
@@ -408,6 +540,14 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    public RRD4jWriteStatistics getWriteStatistics() {
+        return statistics;
+    }
+
+    public RRD4jDatabaseCache getOpenDatabases() {
+        return openDatabases;
+    }
+
     @Override
     public void store(Item item) {
         store(item, null);
@@ -700,7 +840,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+        synchronized (databaseLocks.computeIfAbsent(alias, name -> new Object())) {
+            return openDB(alias, createFileIfAbsent);
+        }
+    }
+
+    private @Nullable RrdDb openDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link RRD4jWriteStatistics} collects timing information of the store ticks and of the writes to the single
+ * database files.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriteStatistics {
+
+    private long ticks;
+    private long overruns;
+    private long lastTickNanos;
+    private long maxTickNanos;
+    private long totalTickNanos;
+    private int lastTickFiles;
+    private int lastTickSamples;
+
+    private long writes;
+    private long maxWriteNanos;
+    private long totalWriteNanos;
+    private @Nullable String slowestFile;
+
+    synchronized void recordTick(long nanos, int files, int samples, boolean overrun) {
+        ticks++;
+        if (overrun) {
+            overruns++;
+        }
+        lastTickNanos = nanos;
+        maxTickNanos = Math.max(maxTickNanos, nanos);
+        totalTickNanos += nanos;
+        lastTickFiles = files;
+        lastTickSamples = samples;
+    }
+
+    synchronized void recordWrite(String name, long nanos) {
+        writes++;
+        totalWriteNanos += nanos;
+        if (nanos > maxWriteNanos) {
+            maxWriteNanos = nanos;
+            slowestFile = name;
+        }
+    }
+
+    /**
+     * @return number of store ticks which had samples to write
+     */
+    public synchronized long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return number of store ticks which took longer than the store interval
+     */
+    public synchronized long getOverruns() {
+        return overruns;
+    }
+
+    public synchronized long getLastTickMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastTickNanos);
+    }
+
+    public synchronized long getMaxTickMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxTickNanos);
+    }
+
+    public synchronized double getAverageTickMillis() {
+        return ticks == 0 ? 0 : totalTickNanos / 1_000_000.0 / ticks;
+    }
+
+    public synchronized int getLastTickFiles() {
+        return lastTickFiles;
+    }
+
+    public synchronized int getLastTickSamples() {
+        return lastTickSamples;
+    }
+
+    /**
+     * @return number of writes to single database files
+     */
+    public synchronized long getWrites() {
+        return writes;
+    }
+
+    public synchronized double getAverageWriteMillis() {
+        return writes == 0 ? 0 : totalWriteNanos / 1_000_000.0 / writes;
+    }
+
+    public synchronized double getMaxWriteMillis() {
+        return maxWriteNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return name of the database file with the slowest write, or null if nothing has been written yet
+     */
+    public synchronized @Nullable String getSlowestFile() {
+        return slowestFile;
+    }
+}
@@ -17,6 +17,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -36,6 +37,8 @@ import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.openhab.persistence.rrd4j.internal.RRD4jDatabaseCache;
+import org.openhab.persistence.rrd4j.internal.RRD4jWriteStatistics;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -52,8 +55,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_STATS), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,6 +93,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            printStatistics(persistenceService, console);
+            return;
         }
         printUsage(console);
     }
@@ -102,6 +109,25 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         return null;
     }
 
+    private void printStatistics(RRD4jPersistenceService persistenceService, Console console) {
+        RRD4jWriteStatistics statistics = persistenceService.getWriteStatistics();
+        console.println("Store ticks:");
+        console.println("  ticks:          " + statistics.getTicks());
+        console.println("  overruns:       " + statistics.getOverruns());
+        console.println("  last:           " + statistics.getLastTickMillis() + " ms ("
+                + statistics.getLastTickSamples() + " samples in " + statistics.getLastTickFiles() + " files)");
+        console.println(String.format(Locale.ROOT, "  average:        %.1f ms", statistics.getAverageTickMillis()));
+        console.println("  max:            " + statistics.getMaxTickMillis() + " ms");
+        console.println("File writes:");
+        console.println("  writes:         " + statistics.getWrites());
+        console.println(String.format(Locale.ROOT, "  average:        %.1f ms", statistics.getAverageWriteMillis()));
+        console.println(String.format(Locale.ROOT, "  max:            %.1f ms (%s)", statistics.getMaxWriteMillis(),
+                Objects.requireNonNullElse(statistics.getSlowestFile(), "-")));
+        RRD4jDatabaseCache openDatabases = persistenceService.getOpenDatabases();
+        console.println("  open files:     " + openDatabases.size() + " / " + openDatabases.getMaxOpenFiles());
+        console.println("  closed (limit): " + openDatabases.getEvictions());
+    }
+
     private void checkAndClean(RRD4jPersistenceService persistenceService, Console console, @Nullable String itemName,
             boolean checkOnly) {
         List<String> filenames;
@@ -141,11 +167,15 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
                 if (checkOnly) {
                     console.println("  - " + filename + ": no item found");
                     nb++;
-                } else if (path.toFile().delete()) {
-                    console.println("  - " + filename + ": file deleted");
-                    nb++;
                 } else {
-                    console.println("  - " + filename + ": file deletion failed!");
+                    // the file must not be kept open by the writer anymore
+                    persistenceService.releaseDatabase(name);
+                    if (path.toFile().delete()) {
+                        console.println("  - " + filename + ": file deleted");
+                        nb++;
+                    } else {
+                        console.println("  - " + filename + ": file deletion failed!");
+                    }
                 }
             }
         }
@@ -156,7 +186,8 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_STATS, "show timing statistics of the writes"));
     }
 
     @Override
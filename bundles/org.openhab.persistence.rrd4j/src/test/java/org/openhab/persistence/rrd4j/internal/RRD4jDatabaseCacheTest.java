@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.rrd4j.core.RrdDb;
+
+/**
+ * Tests the {@link RRD4jDatabaseCache}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDatabaseCacheTest {
+
+    private final Map<String, RrdDb> databases = new HashMap<>();
+    private final List<String> opened = new ArrayList<>();
+
+    private @Nullable RrdDb open(String name) {
+        opened.add(name);
+        return databases.computeIfAbsent(name, n -> mock(RrdDb.class));
+    }
+
+    @Test
+    void databaseIsOpenedOnceWhileKeptOpen() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(this::open, 2);
+
+        cache.keepOpen("a");
+        cache.keepOpen("a");
+
+        assertEquals(List.of("a"), opened);
+        assertEquals(1, cache.size());
+        verify(databases.get("a"), never()).close();
+    }
+
+    @Test
+    void leastRecentlyWrittenDatabaseIsEvicted() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(this::open, 2);
+
+        cache.keepOpen("a");
+        cache.keepOpen("b");
+        cache.keepOpen("a");
+        cache.keepOpen("c");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        verify(databases.get("b")).close();
+        verify(databases.get("a"), never()).close();
+        verify(databases.get("c"), never()).close();
+
+        cache.keepOpen("b");
+        assertEquals(List.of("a", "b", "c", "b"), opened);
+    }
+
+    @Test
+    void loweringTheLimitEvictsDatabases() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(this::open, 3);
+        cache.keepOpen("a");
+        cache.keepOpen("b");
+        cache.keepOpen("c");
+
+        cache.setMaxOpenFiles(1);
+
+        assertEquals(1, cache.size());
+        verify(databases.get("a")).close();
+        verify(databases.get("b")).close();
+        verify(databases.get("c"), never()).close();
+    }
+
+    @Test
+    void disabledCacheOpensNothing() {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(this::open, 0);
+
+        cache.keepOpen("a");
+
+        assertTrue(opened.isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void missingDatabaseIsNotKept() {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(name -> null, 2);
+
+        cache.keepOpen("a");
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void releaseAndClearCloseDatabases() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(this::open, 3);
+        cache.keepOpen("a");
+        cache.keepOpen("b");
+
+        cache.release("a");
+        verify(databases.get("a")).close();
+        assertEquals(1, cache.size());
+
+        cache.release("a");
+        verify(databases.get("a")).close();
+
+        cache.clear();
+        verify(databases.get("b")).close();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    void databasesAreOpenedOutsideTheLockOfTheCache() throws Exception {
+        CountDownLatch opening = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(name -> {
+            if ("slow".equals(name)) {
+                opening.countDown();
+                try {
+                    proceed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return mock(RrdDb.class);
+        }, 2);
+
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> cache.keepOpen("slow"));
+        assertTrue(opening.await(5, TimeUnit.SECONDS));
+
+        // another database is kept open while the slow one is still being opened
+        CompletableFuture.runAsync(() -> cache.keepOpen("fast")).get(5, TimeUnit.SECONDS);
+        assertEquals(1, cache.size());
+
+        proceed.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertEquals(2, cache.size());
+    }
+}
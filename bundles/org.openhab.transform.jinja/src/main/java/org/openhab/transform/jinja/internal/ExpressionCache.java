@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ExpressionCache} is a bounded least-recently-used cache of parsed Jinja templates, keyed by the template
+ * text.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ExpressionCache<T> {
+
+    /**
+     * Compiles an expression which is not in the cache.
+     */
+    @FunctionalInterface
+    public interface Compiler<T, E extends Exception> {
+        T compile(String expression) throws E;
+    }
+
+    private final Map<String, T> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ExpressionCache(int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, T> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled expression from the cache or compiles and caches it. Expressions which fail to compile are
+     * not cached.
+     *
+     * @param expression the expression
+     * @param compiler the function compiling the expression on a cache miss
+     * @return the compiled expression
+     * @throws E if the expression cannot be compiled
+     */
+    public <E extends Exception> T get(String expression, Compiler<T, E> compiler) throws E {
+        T compiled;
+        synchronized (cache) {
+            compiled = cache.get(expression);
+        }
+        if (compiled != null) {
+            hits.incrementAndGet();
+            return compiled;
+        }
+        misses.incrementAndGet();
+        // compile outside the lock, concurrent misses of the same expression at worst compile it twice
+        compiled = compiler.compile(expression);
+        synchronized (cache) {
+            cache.put(expression, compiled);
+        }
+        return compiled;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
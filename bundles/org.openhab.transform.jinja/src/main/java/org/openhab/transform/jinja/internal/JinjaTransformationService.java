@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +33,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
@@ -44,9 +50,14 @@ import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 @Component(property = { "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
 
+    private static final int CACHE_SIZE = 256;
+    private static final String VALUE_JSON = "value_json";
+
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
     private final Jinjava jinjava = new Jinjava();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExpressionCache<Node> templateCache = new ExpressionCache<>(CACHE_SIZE);
 
     /**
      * Transforms the input <code>value</code> by Jinja template.
@@ -64,17 +75,31 @@ public class JinjaTransformationService implements TransformationService {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        // a template which doesn't refer to value_json doesn't need the value to be parsed
+        if (template.contains(VALUE_JSON)) {
+            try {
+                JsonNode tree = objectMapper.readTree(value);
+                bindings.put(VALUE_JSON, toObject(tree));
+            } catch (IOException e) {
+                // ok, then value_json is null...
+            }
         }
 
+        JinjavaInterpreter interpreter = jinjava.newInterpreter();
+        interpreter.getContext().putAll(bindings);
+        JinjavaInterpreter.pushCurrent(interpreter);
         try {
-            transformationResult = jinjava.render(template, bindings);
-        } catch (FatalTemplateErrorsException e) {
+            Node root = templateCache.get(template, this::parse);
+            transformationResult = interpreter.render(root, true);
+            List<TemplateError> fatalErrors = getFatalErrors(interpreter);
+            if (!fatalErrors.isEmpty()) {
+                throw new FatalTemplateErrorsException(template, fatalErrors);
+            }
+        } catch (InterpretException e) {
+            // also covers the FatalTemplateErrorsException
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
+        } finally {
+            JinjavaInterpreter.popCurrent();
         }
 
         logger.debug("transformation resulted in '{}'", transformationResult);
@@ -82,6 +107,35 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
+    /**
+     * Parses a template with an interpreter of its own, so the cached tree doesn't depend on the bindings of the call
+     * which parsed it. Templates with syntax errors are not cached.
+     */
+    private Node parse(String template) {
+        JinjavaInterpreter interpreter = jinjava.newInterpreter();
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            Node root = interpreter.parse(template);
+            List<TemplateError> fatalErrors = getFatalErrors(interpreter);
+            if (!fatalErrors.isEmpty()) {
+                throw new FatalTemplateErrorsException(template, fatalErrors);
+            }
+            return root;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
+    private static List<TemplateError> getFatalErrors(JinjavaInterpreter interpreter) {
+        return interpreter.getErrorsCopy().stream().filter(error -> error.getSeverity() == ErrorType.FATAL)
+                .collect(Collectors.toList());
+    }
+
+    // Visible for testing
+    ExpressionCache<Node> getTemplateCache() {
+        return templateCache;
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -113,4 +113,33 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testTemplateIsParsedOnce() throws TransformationException {
+        assertEquals("4.7", processor.transform("{{value_json.Temperature}}", "{\"Temperature\":4.7}"));
+        assertEquals("5.2", processor.transform("{{value_json.Temperature}}", "{\"Temperature\":5.2}"));
+
+        assertEquals(1, processor.getTemplateCache().getMisses());
+        assertEquals(1, processor.getTemplateCache().getHits());
+        assertEquals(1, processor.getTemplateCache().size());
+    }
+
+    @Test
+    public void testSetInTemplateDoesNotLeakIntoNextRendering() throws TransformationException {
+        String template = "{% if value == 'x' %}{% set result = 'a' %}{% endif %}{{ result }}";
+
+        assertEquals("a", processor.transform(template, "x"));
+        assertEquals("", processor.transform(template, "y"));
+    }
+
+    @Test
+    public void testTemplateWithSyntaxErrorIsNotCached() {
+        String template = "{% if value == 'x' %}a";
+
+        assertThrows(TransformationException.class, () -> processor.transform(template, "x"));
+        assertThrows(TransformationException.class, () -> processor.transform(template, "x"));
+
+        assertEquals(2, processor.getTemplateCache().getMisses());
+        assertEquals(0, processor.getTemplateCache().size());
+    }
 }
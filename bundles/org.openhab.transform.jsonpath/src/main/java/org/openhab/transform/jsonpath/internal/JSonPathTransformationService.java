@@ -12,18 +12,23 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.UnDefType;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -39,8 +44,24 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int CACHE_SIZE = 256;
+    private static final int DOCUMENT_CACHE_SIZE = 32;
+    private static final Duration DOCUMENT_CACHE_TTL = Duration.ofSeconds(2);
+    private static final int DOCUMENT_CACHE_MAX_SOURCE_LENGTH = 1024 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final Configuration configuration = Configuration.defaultConfiguration();
+    private final ExpressionCache<JsonPath> pathCache = new ExpressionCache<>(CACHE_SIZE);
+    private final JsonDocumentCache documentCache = new JsonDocumentCache(DOCUMENT_CACHE_SIZE, DOCUMENT_CACHE_TTL,
+            DOCUMENT_CACHE_MAX_SOURCE_LENGTH,
+            ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON));
+
+    @Deactivate
+    public void deactivate() {
+        documentCache.clear();
+    }
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,15 +83,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
-            logger.debug("transformation resulted in '{}'", transformationResult);
-            if (transformationResult == null) {
-                return null;
-            } else if (transformationResult instanceof List<?> list) {
-                return flattenList(list);
-            } else {
-                return transformationResult.toString();
-            }
+            return evaluate(jsonPathExpression, parse(source));
         } catch (PathNotFoundException e) {
             throw new TransformationException("Invalid path '" + jsonPathExpression + "' in '" + source + "'");
         } catch (InvalidPathException | InvalidJsonException e) {
@@ -78,6 +91,81 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    /**
+     * Transforms the input <code>source</code> by several JSonPath expressions, parsing the source only once.
+     *
+     * @param jsonPathExpressions JsonPath expressions
+     * @param source String which contains JSON
+     * @return the results in the order of the expressions, <code>null</code> for expressions which are invalid or
+     *         don't match
+     * @throws TransformationException if the source is not valid JSON
+     */
+    public List<@Nullable String> transformAll(List<String> jsonPathExpressions, String source)
+            throws TransformationException {
+        List<@Nullable String> results = new ArrayList<>(jsonPathExpressions.size());
+        if (source.isBlank()) {
+            jsonPathExpressions.forEach(expression -> results.add(null));
+            return results;
+        }
+        Object document;
+        try {
+            document = parse(source);
+        } catch (InvalidJsonException e) {
+            throw new TransformationException("An error occurred while parsing JSON.", e);
+        }
+        for (String jsonPathExpression : jsonPathExpressions) {
+            String result = null;
+            try {
+                result = evaluate(jsonPathExpression, document);
+            } catch (PathNotFoundException | InvalidPathException e) {
+                logger.debug("Could not transform by the function '{}': {}", jsonPathExpression, e.getMessage());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private Object parse(String source) {
+        return documentCache.get(source, json -> configuration.jsonProvider().parse(json));
+    }
+
+    private @Nullable String evaluate(String jsonPathExpression, Object document) {
+        JsonPath path = pathCache.get(jsonPathExpression, expression -> JsonPath.compile(expression));
+        Object transformationResult = path.read(document, configuration);
+        logger.debug("transformation resulted in '{}'", transformationResult);
+        if (transformationResult == null) {
+            return null;
+        } else if (transformationResult instanceof List<?> list) {
+            return flattenList(list);
+        } else {
+            return transformationResult.toString();
+        }
+    }
+
+    /**
+     * @return number of JSONPath expressions found in the cache of compiled expressions
+     */
+    public long getCacheHits() {
+        return pathCache.getHits();
+    }
+
+    /**
+     * @return number of JSONPath expressions compiled because they were not in the cache
+     */
+    public long getCacheMisses() {
+        return pathCache.getMisses();
+    }
+
+    // Visible for testing
+    ExpressionCache<JsonPath> getPathCache() {
+        return pathCache;
+    }
+
+    // Visible for testing
+    JsonDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
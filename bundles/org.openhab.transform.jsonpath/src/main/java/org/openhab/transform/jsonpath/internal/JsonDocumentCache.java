@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link JsonDocumentCache} keeps recently parsed JSON documents for a short time, so that several JSONPath
+ * transformations applied to the same payload (e.g. multiple channels of one MQTT topic) only parse it once.
+ *
+ * Documents are looked up by the payload string. The lookup costs a hash and, on a hit, a string comparison, which is
+ * much cheaper than parsing. The cached documents are shared and must not be modified.
+ *
+ * Expired documents are removed by a purge scheduled while the cache is not empty, so large payloads are not kept
+ * until they are pushed out by newer ones.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JsonDocumentCache {
+
+    private record Entry(Object document, long expiresAt) {
+    }
+
+    private final Map<String, Entry> cache;
+    private final ScheduledExecutorService scheduler;
+    private final long ttlNanos;
+    private final int maxSourceLength;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // guarded by cache
+    private @Nullable ScheduledFuture<?> purgeJob;
+
+    /**
+     * @param maxSize maximum number of cached documents
+     * @param ttl time a parsed document is kept
+     * @param maxSourceLength payloads longer than this are parsed but not cached
+     * @param scheduler scheduler of the purge of expired documents
+     */
+    public JsonDocumentCache(int maxSize, Duration ttl, int maxSourceLength, ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSourceLength = maxSourceLength;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached document for a payload or parses and caches it.
+     *
+     * @param source the JSON payload
+     * @param parser the function parsing the payload on a cache miss
+     * @return the parsed document
+     */
+    public Object get(String source, Function<String, Object> parser) {
+        if (source.length() > maxSourceLength) {
+            misses.incrementAndGet();
+            return parser.apply(source);
+        }
+        long now = System.nanoTime();
+        synchronized (cache) {
+            Entry entry = cache.get(source);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                hits.incrementAndGet();
+                return entry.document();
+            }
+        }
+        misses.incrementAndGet();
+        Object document = parser.apply(source);
+        synchronized (cache) {
+            cache.put(source, new Entry(document, now + ttlNanos));
+            schedulePurge();
+        }
+        return document;
+    }
+
+    // must be called holding the lock of the cache
+    private void schedulePurge() {
+        if (purgeJob == null) {
+            try {
+                purgeJob = scheduler.schedule(this::purgeExpired, ttlNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // the scheduler is shut down, expired documents are replaced on access or pushed out by newer ones
+            }
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        synchronized (cache) {
+            purgeJob = null;
+            cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (!cache.isEmpty()) {
+                schedulePurge();
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all documents and cancels the scheduled purge.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            ScheduledFuture<?> job = purgeJob;
+            purgeJob = null;
+            if (job != null) {
+                job.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link ExpressionCache}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ExpressionCacheTest {
+
+    private final List<String> compiled = new ArrayList<>();
+
+    private String compile(String expression) {
+        compiled.add(expression);
+        return expression.toUpperCase();
+    }
+
+    @Test
+    public void testCachedExpressionIsNotCompiledAgain() {
+        ExpressionCache<String> cache = new ExpressionCache<>(2);
+
+        assertEquals("A", cache.get("a", this::compile));
+        assertEquals("A", cache.get("a", this::compile));
+
+        assertEquals(List.of("a"), compiled);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedExpressionIsEvicted() {
+        ExpressionCache<String> cache = new ExpressionCache<>(2);
+
+        cache.get("a", this::compile);
+        cache.get("b", this::compile);
+        cache.get("a", this::compile);
+        cache.get("c", this::compile);
+        assertEquals(2, cache.size());
+
+        cache.get("a", this::compile);
+        cache.get("b", this::compile);
+
+        assertEquals(List.of("a", "b", "c", "b"), compiled);
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void testFailingExpressionIsNotCached() {
+        ExpressionCache<String> cache = new ExpressionCache<>(2);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("a", expression -> {
+            throw new IllegalArgumentException("invalid");
+        }));
+
+        assertEquals(0, cache.size());
+        assertEquals("A", cache.get("a", this::compile));
+    }
+}
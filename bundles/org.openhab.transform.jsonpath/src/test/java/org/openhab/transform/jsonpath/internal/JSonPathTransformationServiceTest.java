@@ -14,7 +14,12 @@ package org.openhab.transform.jsonpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.transform.TransformationException;
@@ -32,6 +37,11 @@ public class JSonPathTransformationServiceTest {
         processor = new JSonPathTransformationService();
     }
 
+    @AfterEach
+    public void tearDown() {
+        processor.deactivate();
+    }
+
     @Test
     public void testTransformByJSon() throws TransformationException {
         String json = "{'store':{'book':[{'category':'reference','author':'Nigel Rees','title': 'Sayings of the Century', 'price': 8.95  } ],  'bicycle': { 'color': 'red',  'price': 19.95} }}";
@@ -129,4 +139,46 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testCompiledPathIsReused() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+
+        assertEquals(2, processor.getCacheMisses());
+        assertEquals(1, processor.getCacheHits());
+        assertEquals(2, processor.getPathCache().size());
+    }
+
+    @Test
+    public void testPayloadIsParsedOnce() throws TransformationException {
+        // a new but equal string, as delivered to each channel of a device
+        String sameJson = new String(JSON_ARRAY);
+
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", sameJson));
+
+        assertEquals(1, processor.getDocumentCache().getMisses());
+        assertEquals(1, processor.getDocumentCache().getHits());
+    }
+
+    @Test
+    public void testTransformAll() throws TransformationException {
+        List<@Nullable String> results = processor
+                .transformAll(List.of("$[0].name", "$[1].id", "$[5].name", "$[1].name"), JSON_ARRAY);
+
+        assertEquals(Arrays.asList("bob", "2", null, "alice"), results);
+        assertEquals(1, processor.getDocumentCache().getMisses());
+    }
+
+    @Test
+    public void testTransformAllInvalidJson() {
+        assertThrows(TransformationException.class, () -> processor.transformAll(List.of("$[0].name"), "{invalid"));
+    }
+
+    @Test
+    public void testTransformAllBlankSource() throws TransformationException {
+        assertEquals(Arrays.asList(null, null), processor.transformAll(List.of("$[0].name", "$[1].id"), " "));
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link JsonDocumentCache}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JsonDocumentCacheTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private Object parse(String source) {
+        parsed.incrementAndGet();
+        return new Object();
+    }
+
+    @Test
+    public void testDocumentIsParsedOnceWithinTtl() {
+        JsonDocumentCache cache = new JsonDocumentCache(2, Duration.ofMinutes(1), 100, scheduler);
+
+        Object document = cache.get("{}", this::parse);
+
+        assertSame(document, cache.get(new String("{}"), this::parse));
+        assertEquals(1, parsed.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testExpiredDocumentsAreRemovedWithoutAccess() throws InterruptedException {
+        JsonDocumentCache cache = new JsonDocumentCache(2, Duration.ofMillis(50), 100, scheduler);
+
+        cache.get("{\"a\":1}", this::parse);
+        cache.get("{\"b\":2}", this::parse);
+        assertEquals(2, cache.size());
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (cache.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpiredDocumentIsParsedAgain() throws InterruptedException {
+        JsonDocumentCache cache = new JsonDocumentCache(2, Duration.ofMillis(1), 100, scheduler);
+
+        Object document = cache.get("{}", this::parse);
+        Thread.sleep(10);
+
+        assertNotSame(document, cache.get("{}", this::parse));
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDocumentIsEvicted() {
+        JsonDocumentCache cache = new JsonDocumentCache(2, Duration.ofMinutes(1), 100, scheduler);
+
+        cache.get("[1]", this::parse);
+        cache.get("[2]", this::parse);
+        cache.get("[1]", this::parse);
+        cache.get("[3]", this::parse);
+        cache.get("[1]", this::parse);
+        cache.get("[2]", this::parse);
+
+        assertEquals(4, parsed.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testLargeDocumentIsNotCached() {
+        JsonDocumentCache cache = new JsonDocumentCache(2, Duration.ofMinutes(1), 4, scheduler);
+
+        cache.get("[1, 2, 3]", this::parse);
+        cache.get("[1, 2, 3]", this::parse);
+
+        assertEquals(2, parsed.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClearRemovesDocuments() {
+        JsonDocumentCache cache = new JsonDocumentCache(2, Duration.ofMinutes(1), 100, scheduler);
+        cache.get("{}", this::parse);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        cache.get("{}", this::parse);
+        assertEquals(2, parsed.get());
+    }
+}
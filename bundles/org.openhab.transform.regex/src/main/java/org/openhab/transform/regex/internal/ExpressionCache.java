@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExpressionCache} is a bounded least-recently-used cache of compiled regular expression patterns, keyed
+ * by the expression string.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ExpressionCache<T> {
+
+    /**
+     * Compiles an expression which is not in the cache.
+     */
+    @FunctionalInterface
+    public interface Compiler<T, E extends Exception> {
+        T compile(String expression) throws E;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ExpressionCache.class);
+
+    private final Map<String, T> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ExpressionCache(int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, T> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled expression from the cache or compiles and caches it. Expressions which fail to compile are
+     * not cached.
+     *
+     * @param expression the expression
+     * @param compiler the function compiling the expression on a cache miss
+     * @return the compiled expression
+     * @throws E if the expression cannot be compiled
+     */
+    public <E extends Exception> T get(String expression, Compiler<T, E> compiler) throws E {
+        T compiled;
+        synchronized (cache) {
+            compiled = cache.get(expression);
+        }
+        if (compiled != null) {
+            hits.incrementAndGet();
+            return compiled;
+        }
+        misses.incrementAndGet();
+        // compile outside the lock, concurrent misses of the same expression at worst compile it twice
+        compiled = compiler.compile(expression);
+        int size;
+        synchronized (cache) {
+            cache.put(expression, compiled);
+            size = cache.size();
+        }
+        logger.debug("Compiled expression '{}' ({} cached, {} hits, {} misses)", expression, size, hits.get(),
+                misses.get());
+        return compiled;
+    }
+
+    /**
+     * @return number of expressions found in the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of expressions compiled because they were not in the cache
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
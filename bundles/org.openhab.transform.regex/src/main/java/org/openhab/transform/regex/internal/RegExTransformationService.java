@@ -39,6 +39,11 @@ public class RegExTransformationService implements TransformationService {
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int CACHE_SIZE = 256;
+
+    // the substitution and the match form compile the same expression differently
+    private final ExpressionCache<Pattern> substitutionCache = new ExpressionCache<>(CACHE_SIZE);
+    private final ExpressionCache<Pattern> matchCache = new ExpressionCache<>(CACHE_SIZE);
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -56,17 +61,21 @@ public class RegExTransformationService implements TransformationService {
             String regex = substMatcher.group(1);
             String substitution = substMatcher.group(2);
             String options = substMatcher.group(3);
+            Pattern pattern = substitutionCache.get(regex, Pattern::compile);
+            Matcher replaceMatcher = pattern.matcher(source.trim());
             if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+                result = replaceMatcher.replaceAll(substitution);
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
+                result = replaceMatcher.replaceFirst(substitution);
             }
             if (result != null) {
                 return result;
             }
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Pattern pattern = matchCache.get(regExpression,
+                expression -> Pattern.compile("^" + expression + "$", Pattern.DOTALL));
+        Matcher matcher = pattern.matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
@@ -94,4 +103,28 @@ public class RegExTransformationService implements TransformationService {
 
         return result;
     }
+
+    /**
+     * @return number of regular expressions found in the caches of compiled patterns
+     */
+    public long getCacheHits() {
+        return substitutionCache.getHits() + matchCache.getHits();
+    }
+
+    /**
+     * @return number of regular expressions compiled because they were not in the caches
+     */
+    public long getCacheMisses() {
+        return substitutionCache.getMisses() + matchCache.getMisses();
+    }
+
+    // Visible for testing
+    ExpressionCache<Pattern> getSubstitutionCache() {
+        return substitutionCache;
+    }
+
+    // Visible for testing
+    ExpressionCache<Pattern> getMatchCache() {
+        return matchCache;
+    }
 }
@@ -75,4 +75,20 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testCompiledPatternIsReused() throws TransformationException {
+        String match = ".*?<current_conditions>.*?<temp_c data=\"(.*?)\".*";
+        assertEquals("SetMode(42)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:42"));
+        assertEquals("8", processor.transform(match, source));
+        assertEquals("Reset(1)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:Reset,ARG:1"));
+        assertEquals("8", processor.transform(match, source));
+
+        assertEquals(1, processor.getSubstitutionCache().getMisses());
+        assertEquals(1, processor.getSubstitutionCache().getHits());
+        assertEquals(1, processor.getMatchCache().getMisses());
+        assertEquals(1, processor.getMatchCache().getHits());
+        assertEquals(2, processor.getCacheMisses());
+        assertEquals(2, processor.getCacheHits());
+    }
 }
@@ -38,4 +38,21 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testCompiledExpressionIsReused() throws TransformationException {
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+
+        assertEquals(1, processor.getCacheMisses());
+        assertEquals(1, processor.getCacheHits());
+        assertEquals(1, processor.getExpressionCache().size());
+    }
+
+    @Test
+    public void testInvalidDocumentDoesNotBreakLaterTransformations() throws TransformationException {
+        assertThrows(TransformationException.class,
+                () -> processor.transform("//current_conditions/temp_c/@data", "<invalid"));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+    }
 }
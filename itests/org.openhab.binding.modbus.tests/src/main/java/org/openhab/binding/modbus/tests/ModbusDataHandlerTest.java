@@ -1366,4 +1366,112 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         dataConfig.put("writeTransform", "JS(myJsonTransform.js)");
         testInitGeneric(null, dataConfig, status -> assertThat(status.getStatus(), is(equalTo(ThingStatus.ONLINE))));
     }
+
+    private ModbusReadRequestBlueprint mockReadRequest(ModbusReadFunctionCode functionCode) {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        doReturn(3).when(request).getDataLength();
+        doReturn(functionCode).when(request).getFunctionCode();
+        return request;
+    }
+
+    private ModbusDataThingHandler createUnchangedDataHandler(ModbusReadRequestBlueprint request,
+            Configuration dataConfig) {
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(new ModbusTCPSlaveEndpoint("thisishost", 502, false)).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+        Bridge poller = createPollerMock("poller1", task);
+
+        ModbusDataThingHandler dataHandler = createDataHandler("unchanged", poller,
+                builder -> builder.withConfiguration(dataConfig));
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        return dataHandler;
+    }
+
+    private Configuration unchangedRegisterConfig(long updateUnchangedValuesEveryMillis) {
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "1");
+        dataConfig.put("readValueType", "int16");
+        dataConfig.put("updateUnchangedValuesEveryMillis", updateUnchangedValuesEveryMillis);
+        return dataConfig;
+    }
+
+    @Test
+    public void testUnchangedRegistersSkipDecode() {
+        ModbusReadRequestBlueprint request = mockReadRequest(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS);
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, unchangedRegisterConfig(60_000L));
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        // registers of other things change, the register of this thing does not
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(4, 2, 5)));
+
+        assertThat(dataHandler.getDecodedUpdates(), is(equalTo(1L)));
+        assertThat(dataHandler.getSkippedUpdates(), is(equalTo(1L)));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(2));
+    }
+
+    @Test
+    public void testChangedRegistersAreDecoded() {
+        ModbusReadRequestBlueprint request = mockReadRequest(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS);
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, unchangedRegisterConfig(60_000L));
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 7, 3)));
+
+        assertThat(dataHandler.getDecodedUpdates(), is(equalTo(2L)));
+        assertThat(dataHandler.getSkippedUpdates(), is(equalTo(0L)));
+    }
+
+    @Test
+    public void testUnchangedCoilSkipsDecode() {
+        ModbusReadRequestBlueprint request = mockReadRequest(ModbusReadFunctionCode.READ_COILS);
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "1");
+        dataConfig.put("readValueType", "bit");
+        dataConfig.put("updateUnchangedValuesEveryMillis", 60_000L);
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, dataConfig);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new BitArray(false, true, false)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new BitArray(true, true, true)));
+        assertThat(dataHandler.getDecodedUpdates(), is(equalTo(1L)));
+        assertThat(dataHandler.getSkippedUpdates(), is(equalTo(1L)));
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new BitArray(true, false, true)));
+        assertThat(dataHandler.getDecodedUpdates(), is(equalTo(2L)));
+    }
+
+    @Test
+    public void testUnchangedRegistersAreDecodedAfterUpdateInterval() throws InterruptedException {
+        ModbusReadRequestBlueprint request = mockReadRequest(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS);
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, unchangedRegisterConfig(50L));
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        assertThat(dataHandler.getDecodedUpdates(), is(equalTo(1L)));
+        assertThat(dataHandler.getSkippedUpdates(), is(equalTo(1L)));
+
+        Thread.sleep(100);
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        assertThat(dataHandler.getDecodedUpdates(), is(equalTo(2L)));
+        assertThat(dataHandler.getSkippedUpdates(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void testUnchangedRegistersAreDecodedAfterWrite() {
+        captureModbusWrites();
+        ModbusReadRequestBlueprint request = mockReadRequest(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS);
+        Configuration dataConfig = unchangedRegisterConfig(60_000L);
+        dataConfig.put("writeStart", "1");
+        dataConfig.put("writeValueType", "int16");
+        dataConfig.put("writeType", "holding");
+        ModbusDataThingHandler dataHandler = createUnchangedDataHandler(request, dataConfig);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        dataHandler.handleCommand(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER), new DecimalType(9));
+        assertThat(writeRequests.size(), is(equalTo(1)));
+
+        // the device did not accept the value, the channels have to be updated with the old value again
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        assertThat(dataHandler.getDecodedUpdates(), is(equalTo(2L)));
+        assertThat(dataHandler.getSkippedUpdates(), is(equalTo(0L)));
+    }
 }